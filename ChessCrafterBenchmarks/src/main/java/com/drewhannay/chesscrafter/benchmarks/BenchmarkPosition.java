@@ -0,0 +1,115 @@
+package com.drewhannay.chesscrafter.benchmarks;
+
+import com.drewhannay.chesscrafter.logic.GameBuilder;
+import com.drewhannay.chesscrafter.logic.GameConfiguration;
+import com.drewhannay.chesscrafter.logic.GameConfiguration.BoardConfiguration;
+import com.drewhannay.chesscrafter.logic.PieceConfiguration;
+import com.drewhannay.chesscrafter.logic.PieceTypeManager;
+import com.drewhannay.chesscrafter.models.Board;
+import com.drewhannay.chesscrafter.models.BoardCoordinate;
+import com.drewhannay.chesscrafter.models.BoardSize;
+import com.drewhannay.chesscrafter.models.Game;
+import com.drewhannay.chesscrafter.models.Move;
+import com.drewhannay.chesscrafter.models.Piece;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The positions every benchmark runs against. Positions past the opening are reached by seeded random play so every
+ * run measures exactly the same boards.
+ */
+public enum BenchmarkPosition {
+    OPENING(false, 0),
+    MIDDLEGAME(false, 24),
+    LARGE_BOARD(true, 16);
+
+    private static final long SEED = 0x5eedL;
+    private static final int LARGE_BOARD_SIZE = 12;
+    private static final String[] LARGE_BOARD_BACK_RANK = {
+            PieceTypeManager.ROOK_ID, PieceTypeManager.KNIGHT_ID, PieceTypeManager.BISHOP_ID,
+            PieceTypeManager.KNIGHT_ID, PieceTypeManager.BISHOP_ID, PieceTypeManager.QUEEN_ID,
+            PieceTypeManager.KING_ID, PieceTypeManager.BISHOP_ID, PieceTypeManager.KNIGHT_ID,
+            PieceTypeManager.BISHOP_ID, PieceTypeManager.KNIGHT_ID, PieceTypeManager.ROOK_ID
+    };
+
+    private final boolean mLargeBoard;
+    private final int mPlies;
+
+    BenchmarkPosition(boolean largeBoard, int plies) {
+        mLargeBoard = largeBoard;
+        mPlies = plies;
+    }
+
+    @NotNull
+    public GameConfiguration getConfiguration() {
+        return mLargeBoard ? createLargeBoardConfiguration() : GameBuilder.getClassicConfiguration();
+    }
+
+    @NotNull
+    public Game createGame() {
+        Game game = GameBuilder.buildGame(getConfiguration());
+        playRandomMoves(game, mPlies, new Random(SEED));
+        return game;
+    }
+
+    /**
+     * @return the square of every piece on the first board, regardless of team
+     */
+    @NotNull
+    public static List<BoardCoordinate> getOccupiedCoordinates(@NotNull Game game) {
+        Board board = game.getBoards()[0];
+        BoardSize boardSize = board.getBoardSize();
+
+        List<BoardCoordinate> coordinates = new ArrayList<>();
+        for (int square = 0; square < boardSize.getSquareCount(); square++) {
+            if (board.getPiece(square) != null) {
+                coordinates.add(boardSize.toCoordinate(square));
+            }
+        }
+        return coordinates;
+    }
+
+    static void playRandomMoves(@NotNull Game game, int plies, @NotNull Random random) {
+        for (int i = 0; i < plies && !game.getHistory().isComplete(); i++) {
+            List<Move> moves = game.getLegalMoves();
+            game.executeMove(moves.get(random.nextInt(moves.size())));
+        }
+    }
+
+    @NotNull
+    private static GameConfiguration createLargeBoardConfiguration() {
+        GameConfiguration config = GameBuilder.getClassicConfiguration();
+        config.name = "Large Board";
+        config.internalGameId = "LargeBoard";
+
+        config.teams[0].piecePromoterConfiguration.promotionRow = LARGE_BOARD_SIZE;
+
+        PieceConfiguration[][] pieces = new PieceConfiguration[LARGE_BOARD_SIZE][LARGE_BOARD_SIZE];
+        for (int x = 0; x < LARGE_BOARD_SIZE; x++) {
+            pieces[x][0] = createPiece(Piece.TEAM_ONE, LARGE_BOARD_BACK_RANK[x]);
+            pieces[x][1] = createPiece(Piece.TEAM_ONE, PieceTypeManager.NORTH_FACING_PAWN_ID);
+            pieces[x][LARGE_BOARD_SIZE - 2] = createPiece(Piece.TEAM_TWO, PieceTypeManager.SOUTH_FACING_PAWN_ID);
+            pieces[x][LARGE_BOARD_SIZE - 1] = createPiece(Piece.TEAM_TWO, LARGE_BOARD_BACK_RANK[x]);
+        }
+
+        BoardConfiguration board = new BoardConfiguration();
+        board.width = LARGE_BOARD_SIZE;
+        board.height = LARGE_BOARD_SIZE;
+        board.pieces = pieces;
+        config.boards = new BoardConfiguration[]{board};
+
+        return config;
+    }
+
+    @NotNull
+    private static PieceConfiguration createPiece(int teamId, @NotNull String internalId) {
+        PieceConfiguration piece = new PieceConfiguration();
+        piece.teamId = teamId;
+        piece.isObjective = internalId.equals(PieceTypeManager.KING_ID);
+        piece.internalId = internalId;
+        return piece;
+    }
+}
@@ -0,0 +1,48 @@
+package com.drewhannay.chesscrafter.benchmarks;
+
+import com.drewhannay.chesscrafter.logic.Status;
+import com.drewhannay.chesscrafter.models.Game;
+import com.drewhannay.chesscrafter.rules.endconditions.CaptureObjectiveEndCondition;
+import com.drewhannay.chesscrafter.rules.endconditions.EndCondition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The end condition check that runs after every executed move.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EndConditionBenchmark {
+
+    @Param({"OPENING", "MIDDLEGAME", "LARGE_BOARD"})
+    BenchmarkPosition mPosition;
+
+    Game mGame;
+    EndCondition mEndCondition;
+
+    @Setup
+    public void setup() {
+        mGame = mPosition.createGame();
+        mEndCondition = EndCondition.from(CaptureObjectiveEndCondition.NAME, mGame.getTurnKeeper().getActiveTeamId());
+    }
+
+    @Benchmark
+    public Status checkEndCondition() {
+        return mEndCondition.checkEndCondition(mGame);
+    }
+}
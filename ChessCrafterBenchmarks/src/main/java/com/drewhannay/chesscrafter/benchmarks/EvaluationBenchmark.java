@@ -0,0 +1,56 @@
+package com.drewhannay.chesscrafter.benchmarks;
+
+import com.drewhannay.chesscrafter.engine.MaterialEvaluator;
+import com.drewhannay.chesscrafter.engine.PieceSquareEvaluator;
+import com.drewhannay.chesscrafter.models.Game;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The static evaluation at a search leaf: a full board scan against the incrementally kept piece-square scores.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EvaluationBenchmark {
+
+    @Param({"OPENING", "MIDDLEGAME", "LARGE_BOARD"})
+    BenchmarkPosition mPosition;
+
+    Game mGame;
+    int mTeamId;
+    MaterialEvaluator mMaterialEvaluator;
+    PieceSquareEvaluator mPieceSquareEvaluator;
+
+    @Setup
+    public void setup() {
+        mGame = mPosition.createGame();
+        mTeamId = mGame.getTurnKeeper().getActiveTeamId();
+        mMaterialEvaluator = new MaterialEvaluator();
+        mPieceSquareEvaluator = new PieceSquareEvaluator();
+    }
+
+    @Benchmark
+    public int materialScan() {
+        return mMaterialEvaluator.evaluate(mGame, mTeamId);
+    }
+
+    @Benchmark
+    public int pieceSquareIncremental() {
+        return mPieceSquareEvaluator.evaluate(mGame, mTeamId);
+    }
+}
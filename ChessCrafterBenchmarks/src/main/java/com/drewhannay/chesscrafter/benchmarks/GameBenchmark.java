@@ -0,0 +1,64 @@
+package com.drewhannay.chesscrafter.benchmarks;
+
+import com.drewhannay.chesscrafter.logic.Perft;
+import com.drewhannay.chesscrafter.models.Game;
+import com.drewhannay.chesscrafter.models.Move;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executing and taking back every legal move of the position, which is what search and perft do at each node.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameBenchmark {
+
+    @Param({"OPENING", "MIDDLEGAME", "LARGE_BOARD"})
+    BenchmarkPosition mPosition;
+
+    Game mGame;
+    List<Move> mMoves;
+
+    @Setup
+    public void setup() {
+        mGame = mPosition.createGame();
+        mMoves = mGame.getLegalMoves();
+    }
+
+    @Benchmark
+    public long executeAndUndoMoves() {
+        long hash = 0;
+        for (Move move : mMoves) {
+            mGame.executeMove(move);
+            hash ^= mGame.getPositionHash();
+            mGame.undoMove();
+        }
+        return hash;
+    }
+
+    @Benchmark
+    public List<Move> generateLegalMoves() {
+        return mGame.getLegalMoves();
+    }
+
+    @Benchmark
+    public long perftDepthTwo() {
+        return Perft.perft(mGame, 2);
+    }
+}
@@ -0,0 +1,68 @@
+package com.drewhannay.chesscrafter.benchmarks;
+
+import com.drewhannay.chesscrafter.logic.GameBuilder;
+import com.drewhannay.chesscrafter.logic.GameConfiguration;
+import com.drewhannay.chesscrafter.models.Game;
+import com.drewhannay.chesscrafter.models.History;
+import com.drewhannay.chesscrafter.models.JsonAdapters;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading a saved game still in progress from JSON, by replaying its whole history or from the last snapshot saved
+ * with it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameLoadBenchmark {
+    @Param({"40", "200"})
+    int mPlies;
+
+    Gson mGson;
+    GameConfiguration mConfig;
+    String mJson;
+    String mJsonWithSnapshots;
+
+    @Setup
+    public void setup() {
+        mGson = JsonAdapters.registerTypeAdapters(new GsonBuilder()).create();
+        mConfig = BenchmarkPosition.OPENING.getConfiguration();
+        Game game = GameBuilder.buildGame(mConfig);
+        BenchmarkPosition.playRandomMoves(game, mPlies, new Random(mPlies));
+        if (game.getHistory().isComplete()) {
+            // a finished game isn't replayed on load, so keep it one move short of the end
+            game.undoMove();
+        }
+        mJson = mGson.toJson(game.getHistory());
+        game.addSnapshotsToHistory();
+        mJsonWithSnapshots = mGson.toJson(game.getHistory());
+    }
+
+    @Benchmark
+    public Game replayWholeHistory() {
+        return GameBuilder.buildGame(mConfig, mGson.fromJson(mJson, History.class));
+    }
+
+    @Benchmark
+    public Game replayFromSnapshot() {
+        return GameBuilder.buildGame(mConfig, mGson.fromJson(mJsonWithSnapshots, History.class));
+    }
+}
@@ -0,0 +1,69 @@
+package com.drewhannay.chesscrafter.benchmarks;
+
+import com.drewhannay.chesscrafter.models.Game;
+import com.drewhannay.chesscrafter.models.History;
+import com.drewhannay.chesscrafter.models.JsonAdapters;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gson round-trips of a saved game's {@link History}, configured the same way the desktop app saves games, against
+ * plain reflective Gson.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HistoryGsonBenchmark {
+
+    @Param({"20", "200"})
+    int mPlies;
+
+    @Param({"true", "false"})
+    boolean mStreamingAdapters;
+
+    Gson mGson;
+    History mHistory;
+    String mJson;
+
+    @Setup
+    public void setup() {
+        Game game = BenchmarkPosition.OPENING.createGame();
+        BenchmarkPosition.playRandomMoves(game, mPlies, new Random(mPlies));
+
+        mGson = mStreamingAdapters ? JsonAdapters.registerTypeAdapters(new GsonBuilder()).create() : new Gson();
+        mHistory = game.getHistory();
+        mJson = mGson.toJson(mHistory);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return mGson.toJson(mHistory);
+    }
+
+    @Benchmark
+    public History fromJson() {
+        return mGson.fromJson(mJson, History.class);
+    }
+
+    @Benchmark
+    public History roundTrip() {
+        return mGson.fromJson(mGson.toJson(mHistory), History.class);
+    }
+}
@@ -0,0 +1,80 @@
+package com.drewhannay.chesscrafter.benchmarks;
+
+import com.drewhannay.chesscrafter.models.Board;
+import com.drewhannay.chesscrafter.models.BoardCoordinate;
+import com.drewhannay.chesscrafter.models.BoardSize;
+import com.drewhannay.chesscrafter.models.Game;
+import com.drewhannay.chesscrafter.models.MoveBuffer;
+import com.drewhannay.chesscrafter.rules.movefilter.ClassicMoveFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ClassicMoveFilter} applied to the pseudo-legal moves of every piece on the board.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoveFilterBenchmark {
+
+    @Param({"OPENING", "MIDDLEGAME", "LARGE_BOARD"})
+    BenchmarkPosition mPosition;
+
+    ClassicMoveFilter mMoveFilter;
+    Board mBoard;
+    List<BoardCoordinate> mOrigins;
+    List<Set<BoardCoordinate>> mMoves;
+    MoveBuffer mMoveBuffer;
+
+    @Setup
+    public void setup() {
+        Game game = mPosition.createGame();
+        mMoveFilter = new ClassicMoveFilter();
+        mBoard = game.getBoards()[0];
+        mOrigins = BenchmarkPosition.getOccupiedCoordinates(game);
+        mMoves = new ArrayList<>(mOrigins.size());
+        for (BoardCoordinate origin : mOrigins) {
+            mMoves.add(mBoard.getMovesFrom(origin));
+        }
+        mMoveBuffer = new MoveBuffer();
+    }
+
+    @Benchmark
+    public void filterMoveSets(Blackhole blackhole) {
+        for (int i = 0; i < mOrigins.size(); i++) {
+            blackhole.consume(mMoveFilter.filterMoves(mBoard, mOrigins.get(i), mMoves.get(i)));
+        }
+    }
+
+    @Benchmark
+    public int filterMoveBuffers() {
+        BoardSize boardSize = mBoard.getBoardSize();
+        int keptCount = 0;
+        for (BoardCoordinate origin : mOrigins) {
+            int square = boardSize.toSquareIndex(origin);
+            mMoveBuffer.clear();
+            mBoard.generateMoves(square, mMoveBuffer);
+            mMoveFilter.filterMoves(mBoard, square, mMoveBuffer);
+            keptCount += mMoveBuffer.size();
+        }
+        return keptCount;
+    }
+}
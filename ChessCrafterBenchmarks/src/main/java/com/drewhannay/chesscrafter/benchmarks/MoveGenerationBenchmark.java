@@ -0,0 +1,83 @@
+package com.drewhannay.chesscrafter.benchmarks;
+
+import com.drewhannay.chesscrafter.logic.PathMaker;
+import com.drewhannay.chesscrafter.models.Board;
+import com.drewhannay.chesscrafter.models.BoardCoordinate;
+import com.drewhannay.chesscrafter.models.BoardSize;
+import com.drewhannay.chesscrafter.models.Game;
+import com.drewhannay.chesscrafter.models.Piece;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pseudo-legal move generation for every piece on the board, through the board, the piece type and the path maker.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoveGenerationBenchmark {
+
+    @Param({"OPENING", "MIDDLEGAME", "LARGE_BOARD"})
+    BenchmarkPosition mPosition;
+
+    Board mBoard;
+    List<BoardCoordinate> mOrigins;
+    List<BoardCoordinate> mPathOrigins;
+    List<BoardCoordinate> mPathDestinations;
+
+    @Setup
+    public void setup() {
+        Game game = mPosition.createGame();
+        mBoard = game.getBoards()[0];
+        mOrigins = BenchmarkPosition.getOccupiedCoordinates(game);
+
+        mPathOrigins = new ArrayList<>();
+        mPathDestinations = new ArrayList<>();
+        for (BoardCoordinate origin : mOrigins) {
+            for (BoardCoordinate destination : mBoard.getMovesFrom(origin)) {
+                mPathOrigins.add(origin);
+                mPathDestinations.add(destination);
+            }
+        }
+    }
+
+    @Benchmark
+    public void boardGetMovesFrom(Blackhole blackhole) {
+        for (BoardCoordinate origin : mOrigins) {
+            blackhole.consume(mBoard.getMovesFrom(origin));
+        }
+    }
+
+    @Benchmark
+    public void pieceTypeGetMovesFrom(Blackhole blackhole) {
+        BoardSize boardSize = mBoard.getBoardSize();
+        for (BoardCoordinate origin : mOrigins) {
+            Piece piece = mBoard.getPiece(origin);
+            blackhole.consume(piece.getPieceType().getMovesFrom(origin, boardSize, piece.getMoveCount()));
+        }
+    }
+
+    @Benchmark
+    public void pathMakerGetPathToDestination(Blackhole blackhole) {
+        for (int i = 0; i < mPathOrigins.size(); i++) {
+            blackhole.consume(new PathMaker(mPathOrigins.get(i), mPathDestinations.get(i)).getPathToDestination());
+        }
+    }
+}
@@ -9,17 +9,17 @@ import com.drewhannay.chesscrafter.utility.JavaFxFileDialog;
 import com.drewhannay.chesscrafter.utility.Log;
 import com.drewhannay.chesscrafter.utility.PieceIconUtility;
 import com.google.common.base.Preconditions;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
 import javafx.stage.FileChooser;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.FileReader;
+import java.io.FileWriter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -155,10 +155,8 @@ public enum FileManager {
     }
 
     private boolean writeToFile(Object object, File file) {
-        try (FileOutputStream fileOut = new FileOutputStream(file)) {
-            String json = GsonUtility.toJson(object);
-            fileOut.write(json.getBytes());
-            fileOut.flush();
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+            GsonUtility.toJson(object, writer);
         } catch (IOException e) {
             Log.e(TAG, "Error writing file", e);
             return false;
@@ -168,10 +166,8 @@ public enum FileManager {
 
     @Nullable
     private PieceType readPiece(@NotNull File pieceFile) {
-        try {
-            JsonParser parser = new JsonParser();
-            JsonElement jsonElement = parser.parse(new FileReader(pieceFile));
-            return GsonUtility.fromJson(jsonElement, PieceType.class);
+        try (BufferedReader reader = new BufferedReader(new FileReader(pieceFile))) {
+            return GsonUtility.fromJson(reader, PieceType.class);
         } catch (IOException e) {
             Log.e(TAG, "Could not read piece file:" + pieceFile.getPath());
             return null;
@@ -11,8 +11,6 @@ import com.drewhannay.chesscrafter.utility.AppConstants;
 import com.drewhannay.chesscrafter.files.FileManager;
 import com.drewhannay.chesscrafter.utility.GsonUtility;
 import com.drewhannay.chesscrafter.utility.Messages;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
 import org.jetbrains.annotations.NotNull;
 
 import javax.swing.AbstractAction;
@@ -33,6 +31,7 @@ import java.awt.event.InputEvent;
 import java.awt.event.KeyEvent;
 import java.awt.event.WindowEvent;
 import java.awt.event.WindowFocusListener;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
@@ -147,9 +146,10 @@ public class GameFrame extends ChessFrame {
         try {
             File gameFile = FileManager.INSTANCE.chooseFile(FileManager.HISTORY_EXTENSION_FILTER);
             if (gameFile != null) {
-                JsonParser parser = new JsonParser();
-                JsonElement jsonElement = parser.parse(new FileReader(gameFile));
-                History history = GsonUtility.fromJson(jsonElement, History.class);
+                History history;
+                try (BufferedReader reader = new BufferedReader(new FileReader(gameFile))) {
+                    history = GsonUtility.fromJson(reader, History.class);
+                }
                 // TODO: should read variant name from history
                 Game game = GameBuilder.buildGame(GameBuilder.getClassicConfiguration(), history);
                 addGame(game);
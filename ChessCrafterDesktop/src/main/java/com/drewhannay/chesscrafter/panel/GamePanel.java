@@ -3,7 +3,13 @@ package com.drewhannay.chesscrafter.panel;
 import com.drewhannay.chesscrafter.dragNdrop.DropManager;
 import com.drewhannay.chesscrafter.dragNdrop.GlassPane;
 import com.drewhannay.chesscrafter.dragNdrop.SquareConfig;
+import com.drewhannay.chesscrafter.engine.AnalysisService;
+import com.drewhannay.chesscrafter.engine.AnalysisUpdate;
+import com.drewhannay.chesscrafter.engine.PieceSquareEvaluator;
+import com.drewhannay.chesscrafter.engine.Searcher;
+import com.drewhannay.chesscrafter.engine.TranspositionTable;
 import com.drewhannay.chesscrafter.label.SquareJLabel;
+import com.drewhannay.chesscrafter.logic.Perft;
 import com.drewhannay.chesscrafter.logic.Result;
 import com.drewhannay.chesscrafter.logic.Status;
 import com.drewhannay.chesscrafter.models.Board;
@@ -16,6 +22,7 @@ import com.drewhannay.chesscrafter.models.Team;
 import com.drewhannay.chesscrafter.files.FileManager;
 import com.drewhannay.chesscrafter.utility.Messages;
 import com.drewhannay.chesscrafter.utility.PieceIconUtility;
+import com.drewhannay.chesscrafter.utility.PreferenceUtility;
 import com.google.common.base.Preconditions;
 import net.miginfocom.swing.MigLayout;
 import org.jetbrains.annotations.NotNull;
@@ -25,7 +32,9 @@ import javax.swing.JFrame;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
+import javax.swing.JSlider;
 import javax.swing.JTabbedPane;
+import javax.swing.SwingUtilities;
 import java.awt.Color;
 import java.awt.Component;
 import java.awt.Dimension;
@@ -37,6 +46,7 @@ import java.awt.event.ComponentListener;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -50,6 +60,11 @@ public final class GamePanel extends ChessPanel {
     private final JButton mUndoButton;
     private final JButton mForwardButton;
     private final JButton mBackButton;
+    private final JSlider mPlaybackSlider;
+
+    private final JLabel mAnalysisLabel;
+    // created once analysis is turned on, since its table takes megabytes
+    private AnalysisService mAnalysisService;
 
     public GamePanel(@NotNull GlassPane glassPane, @NotNull Game game) {
         mGame = game;
@@ -67,6 +82,9 @@ public final class GamePanel extends ChessPanel {
         mUndoButton = new JButton(Messages.getString("PlayGamePanel.undo"));
         mForwardButton = new JButton("->");
         mBackButton = new JButton("<-");
+        mPlaybackSlider = new JSlider(0, 0, 0);
+
+        mAnalysisLabel = new JLabel();
 
         initComponents();
     }
@@ -129,6 +147,14 @@ public final class GamePanel extends ChessPanel {
             mGame.previousMove();
             refresh();
         });
+        mPlaybackSlider.setOpaque(false);
+        mPlaybackSlider.addChangeListener(event -> {
+            // refresh sets the value too, which is already the current ply by then
+            if (mPlaybackSlider.getValue() != mGame.getCurrentPly()) {
+                mGame.seekTo(mPlaybackSlider.getValue());
+                refresh();
+            }
+        });
 
         JPanel detailsPanel = new JPanel();
         detailsPanel.setLayout(new MigLayout("wrap", "[fill]", "[fill]"));
@@ -158,7 +184,14 @@ public final class GamePanel extends ChessPanel {
         // add the forward  button
         gbc.gridx = 1;
         buttonPanel.add(mForwardButton, gbc);
+
+        // add the playback slider
+        gbc.gridx = 0;
+        gbc.gridy = 2;
+        gbc.gridwidth = 2;
+        buttonPanel.add(mPlaybackSlider, gbc);
         detailsPanel.add(buttonPanel, "top");
+        detailsPanel.add(mAnalysisLabel, "top, wmax 235");
 
         add(boardPanels);
         add(detailsPanel, "top,wmax 235");
@@ -166,6 +199,16 @@ public final class GamePanel extends ChessPanel {
         refresh();
     }
 
+    @Override
+    public void removeNotify() {
+        super.removeNotify();
+        // let the service and its table go with the tab; refreshAnalysis makes a new one if the panel comes back
+        if (mAnalysisService != null) {
+            mAnalysisService.shutdown();
+            mAnalysisService = null;
+        }
+    }
+
     public void declareDraw() {
         mGame.declareDraw();
     }
@@ -185,6 +228,7 @@ public final class GamePanel extends ChessPanel {
             return;
         }
 
+        mGame.addSnapshotsToHistory();
         if (!FileManager.INSTANCE.writeHistory(mGame.getHistory(), fileName)) {
             // TODO: report failure to user
         }
@@ -248,6 +292,7 @@ public final class GamePanel extends ChessPanel {
         refreshStatus();
         refreshBoard();
         refreshNavigationButtonState();
+        refreshAnalysis();
     }
 
     private void refreshStatus() {
@@ -279,5 +324,55 @@ public final class GamePanel extends ChessPanel {
 
         mForwardButton.setEnabled(mGame.hasNextMove());
         mBackButton.setEnabled(mGame.hasPreviousMove());
+
+        mPlaybackSlider.setVisible(mGame.hasPreviousMove() || mGame.hasNextMove());
+        if (mPlaybackSlider.isVisible()) {
+            // all at once, so the listener never sees a new maximum with the old value
+            mPlaybackSlider.getModel().setRangeProperties(mGame.getCurrentPly(), 0, 0,
+                    mGame.getHistory().moves.size(), false);
+        }
+    }
+
+    private void refreshAnalysis() {
+        // the old position's search is stopped either way, so it never competes with the user's next move
+        if (mAnalysisService != null) {
+            mAnalysisService.cancel();
+        }
+        boolean gameOver = mGame.getHistory().isComplete() && !mGame.hasNextMove();
+        boolean analyze = PreferenceUtility.getAnalysisPreference() && !gameOver;
+        mAnalysisLabel.setVisible(analyze);
+        if (analyze) {
+            if (mAnalysisService == null) {
+                mAnalysisService = new AnalysisService(new PieceSquareEvaluator(),
+                        new TranspositionTable(TranspositionTable.DEFAULT_SIZE_IN_MEGABYTES),
+                        update -> SwingUtilities.invokeLater(() -> showAnalysis(update)));
+            }
+            mAnalysisLabel.setText(Messages.getString("PlayGamePanel.analyzing"));
+            mAnalysisService.analyze(mGame);
+        }
+    }
+
+    private void showAnalysis(@NotNull AnalysisUpdate update) {
+        // the worker may still finish a depth for the position we just left
+        if (update.positionHash != mGame.getPositionHash()) {
+            return;
+        }
+
+        String principalVariation = update.principalVariation.stream().map(Perft::toNotation)
+                .collect(Collectors.joining(" "));
+        mAnalysisLabel.setText(Messages.getString("PlayGamePanel.analysis", update.depth,
+                formatScore(update.score)) + " " + principalVariation);
+        mAnalysisLabel.setToolTipText(principalVariation);
+    }
+
+    /**
+     * @return the score in pawns from the point of view of the team to move, or "#n" when it can force mate in n plies
+     */
+    private static String formatScore(int score) {
+        if (Searcher.isMateScore(score)) {
+            int plies = Searcher.MATE_SCORE - Math.abs(score);
+            return score > 0 ? "#" + plies : "#-" + plies;
+        }
+        return String.format("%+.2f", score / 100.0);
     }
 }
@@ -1,13 +1,18 @@
 package com.drewhannay.chesscrafter.utility;
 
+import com.drewhannay.chesscrafter.models.JsonAdapters;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
 public final class GsonUtility {
 
-    private static final Gson mGson = new GsonBuilder().create();
+    private static final Gson mGson = JsonAdapters.registerTypeAdapters(new GsonBuilder()).create();
 
     private GsonUtility() {
     }
@@ -16,11 +21,30 @@ public final class GsonUtility {
         return mGson.toJson(object);
     }
 
+    /**
+     * Streams the JSON straight to {@code writer} instead of building it as a String first.
+     */
+    public static void toJson(@NotNull Object object, @NotNull Writer writer) throws IOException {
+        try {
+            mGson.toJson(object, writer);
+        } catch (JsonParseException e) {
+            // Gson wraps the writer's IOExceptions
+            throw new IOException(e);
+        }
+    }
+
     public static <T> T fromJson(@NotNull String json, Class<T> klazz) {
         return mGson.fromJson(json, klazz);
     }
 
-    public static <T> T fromJson(@NotNull JsonElement json, Class<T> klazz) {
-        return mGson.fromJson(json, klazz);
+    /**
+     * Reads straight from {@code reader}; malformed JSON is reported as an IOException like a failed read.
+     */
+    public static <T> T fromJson(@NotNull Reader reader, Class<T> klazz) throws IOException {
+        try {
+            return mGson.fromJson(reader, klazz);
+        } catch (JsonParseException e) {
+            throw new IOException(e);
+        }
     }
 }
@@ -15,6 +15,7 @@ import java.util.prefs.Preferences;
 public final class PreferenceUtility {
 
     private static final String HIGHLIGHT_MOVES = "highlightMoves";
+    private static final String BACKGROUND_ANALYSIS = "backgroundAnalysis";
 
     private static final Preferences PREFERENCES = Preferences.userNodeForPackage(Main.class);
 
@@ -23,7 +24,7 @@ public final class PreferenceUtility {
 
     public static void createPreferencePopup(Component relativeComponent) {
         ChessDialog preferenceDialog = new ChessDialog(true);
-        preferenceDialog.setSize(250, 120);
+        preferenceDialog.setSize(250, 150);
         preferenceDialog.setLocationRelativeTo(relativeComponent);
         preferenceDialog.setLayout(new GridBagLayout());
         preferenceDialog.setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
@@ -38,6 +39,10 @@ public final class PreferenceUtility {
         highlightingCheckBox.setSelected(getHighlightMovesPreference());
         highlightingCheckBox.addActionListener(event -> setHighlightMovesPreference(highlightingCheckBox.isSelected()));
 
+        JCheckBox analysisCheckBox = new JCheckBox(Messages.getString("PreferenceUtility.enableAnalysis"));
+        analysisCheckBox.setSelected(getAnalysisPreference());
+        analysisCheckBox.addActionListener(event -> setAnalysisPreference(analysisCheckBox.isSelected()));
+
         constraints.insets = new Insets(5, 5, 5, 5);
         constraints.gridx = 0;
         constraints.gridy = 3;
@@ -45,8 +50,11 @@ public final class PreferenceUtility {
         constraints.anchor = GridBagConstraints.CENTER;
         preferenceDialog.add(highlightingCheckBox, constraints);
 
-        constraints.gridx = 0;
         constraints.gridy = 4;
+        preferenceDialog.add(analysisCheckBox, constraints);
+
+        constraints.gridx = 0;
+        constraints.gridy = 5;
         constraints.gridwidth = 2;
         constraints.anchor = GridBagConstraints.CENTER;
         preferenceDialog.add(closeButton, constraints);
@@ -66,4 +74,17 @@ public final class PreferenceUtility {
     private static void setHighlightMovesPreference(boolean highlightMoves) {
         PREFERENCES.putBoolean(HIGHLIGHT_MOVES, highlightMoves);
     }
+
+    /**
+     * Method to get the preference for if games should be analyzed in the background while playing
+     *
+     * @return returns the boolean value for background analysis
+     */
+    public static boolean getAnalysisPreference() {
+        return PREFERENCES.getBoolean(BACKGROUND_ANALYSIS, false);
+    }
+
+    private static void setAnalysisPreference(boolean analyze) {
+        PREFERENCES.putBoolean(BACKGROUND_ANALYSIS, analyze);
+    }
 }
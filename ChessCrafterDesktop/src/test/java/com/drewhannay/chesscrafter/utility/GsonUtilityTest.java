@@ -10,6 +10,10 @@ import com.drewhannay.chesscrafter.models.PieceType;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
@@ -50,6 +54,13 @@ public class GsonUtilityTest {
             String json = GsonUtility.toJson(queen);
             assertNotNull(json);
         }
+
+        @Test
+        public void writesSameJsonToWriter() throws IOException {
+            StringWriter writer = new StringWriter();
+            GsonUtility.toJson(mHistory, writer);
+            assertEquals(GsonUtility.toJson(mHistory), writer.toString());
+        }
     }
 
     public static class FromJson extends GsonUtilityTest {
@@ -81,6 +92,18 @@ public class GsonUtilityTest {
             assertEquals(mHistory.moves, history.moves);
         }
 
+        @Test
+        public void returnsSameMoveListForHistoryFromReader() throws IOException {
+            String json = GsonUtility.toJson(mHistory);
+            History history = GsonUtility.fromJson(new StringReader(json), History.class);
+            assertEquals(mHistory.moves, history.moves);
+        }
+
+        @Test(expected = IOException.class)
+        public void throwsIOExceptionForMalformedJsonFromReader() throws IOException {
+            GsonUtility.fromJson(new StringReader("{\"moves\":["), History.class);
+        }
+
         @Test
         public void returnsSamePieceTypeForQueen() {
             PieceType queen = PieceTypeManager.getQueenPieceType();
@@ -0,0 +1,197 @@
+package com.drewhannay.chesscrafter.engine;
+
+import com.drewhannay.chesscrafter.models.Game;
+import com.drewhannay.chesscrafter.models.Move;
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps searching a position on a background thread, one depth after another, and reports every finished depth to a
+ * {@link Listener} until the position changes or the search runs out of depth. {@link #analyze} starts over on a copy
+ * of the game, so the caller is free to keep playing on its own game; a search of a position that is no longer current
+ * is stopped rather than waited for.
+ * <p>
+ * All methods may be called from any thread. Listener calls come from the worker thread and may, in a race with
+ * {@link #analyze}, still describe the previous position; compare {@link AnalysisUpdate#positionHash} to know.
+ */
+public final class AnalysisService {
+
+    private static final long IDLE_SECONDS = 30;
+
+    public interface Listener {
+        void onAnalysisUpdate(@NotNull AnalysisUpdate update);
+    }
+
+    private final Evaluator mEvaluator;
+    private final TranspositionTable mTable;
+    private final Listener mListener;
+    private final ThreadPoolExecutor mExecutor;
+
+    private Session mSession;
+    private AnalysisUpdate mLatestUpdate;
+
+    public AnalysisService(@NotNull Evaluator evaluator, @NotNull TranspositionTable table,
+                           @NotNull Listener listener) {
+        Preconditions.checkArgument(evaluator != null);
+        Preconditions.checkArgument(table != null);
+        Preconditions.checkArgument(listener != null);
+
+        mEvaluator = evaluator;
+        mTable = table;
+        mListener = listener;
+        mExecutor = new ThreadPoolExecutor(1, 1, IDLE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+                new ThreadFactory() {
+                    @Override
+                    public Thread newThread(@NotNull Runnable runnable) {
+                        Thread thread = new Thread(runnable, "AnalysisService worker");
+                        thread.setDaemon(true);
+                        thread.setPriority(Thread.MIN_PRIORITY);
+                        return thread;
+                    }
+                });
+        // an idle service, e.g. one whose game was closed, shouldn't keep a thread around
+        mExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Stops analyzing the previous position and starts on the current position of {@code game}. Does nothing more
+     * than stop if the game is over there.
+     */
+    public synchronized void analyze(@NotNull Game game) {
+        cancel();
+
+        Game copy = game.copyCurrentPosition();
+        if (copy.getHistory().isComplete() || copy.getLegalMoves().isEmpty()) {
+            return;
+        }
+
+        mSession = new Session(copy);
+        mExecutor.execute(mSession);
+    }
+
+    /**
+     * Stops the current analysis, if any, without waiting for the worker to notice.
+     */
+    public synchronized void cancel() {
+        if (mSession != null) {
+            mSession.cancel();
+            mSession = null;
+        }
+        mLatestUpdate = null;
+    }
+
+    /**
+     * @return the deepest result for the position last passed to {@link #analyze}, or null if there is none yet;
+     * lets a computer player answer at once with what was found while the user was thinking
+     */
+    @Nullable
+    public synchronized AnalysisUpdate getLatestUpdate() {
+        return mLatestUpdate;
+    }
+
+    /**
+     * Stops the worker thread for good; the service can't be used afterwards.
+     */
+    public synchronized void shutdown() {
+        cancel();
+        mExecutor.shutdownNow();
+    }
+
+    private boolean publish(@NotNull Session session, @NotNull AnalysisUpdate update) {
+        synchronized (this) {
+            if (mSession != session) {
+                return false;
+            }
+            mLatestUpdate = update;
+        }
+        // outside the lock, so the listener may call back into the service
+        mListener.onAnalysisUpdate(update);
+        return true;
+    }
+
+    @NotNull
+    private static List<Move> getPrincipalVariation(@NotNull Game game, @NotNull TranspositionTable table,
+                                                    @NotNull Move bestMove, int maxLength) {
+        List<Move> principalVariation = new ArrayList<>();
+        principalVariation.add(bestMove);
+        game.executeMove(bestMove);
+
+        // follow the table's best moves; a missing or overwritten entry just ends the line early
+        while (principalVariation.size() < maxLength && !game.getHistory().isComplete()) {
+            long entry = table.probe(game.getPositionHash());
+            int packedMove = entry != 0 ? TranspositionTable.getMove(entry) : 0;
+            Move nextMove = null;
+            if (packedMove != 0) {
+                for (Move move : game.getLegalMoves()) {
+                    if (TranspositionTable.packMove(game, move) == packedMove) {
+                        nextMove = move;
+                        break;
+                    }
+                }
+            }
+            if (nextMove == null) {
+                break;
+            }
+            principalVariation.add(nextMove);
+            game.executeMove(nextMove);
+        }
+
+        for (int i = 0; i < principalVariation.size(); i++) {
+            game.undoMove();
+        }
+        return Collections.unmodifiableList(principalVariation);
+    }
+
+    private final class Session implements Runnable {
+        private final Game mGame;
+        private final Searcher mSearcher;
+
+        private volatile boolean mCancelled;
+
+        Session(@NotNull Game game) {
+            mGame = game;
+            mSearcher = new Searcher(mEvaluator, mTable);
+        }
+
+        void cancel() {
+            mCancelled = true;
+            mSearcher.stop();
+        }
+
+        @Override
+        public void run() {
+            long startNanos = System.nanoTime();
+            long positionHash = mGame.getPositionHash();
+            int teamId = mGame.getTurnKeeper().getActiveTeamId();
+            long nodes = 0;
+
+            mTable.newSearch();
+            for (int depth = 1; depth <= SearchLimits.MAX_DEPTH && !mCancelled; depth++) {
+                // a fresh search per depth is cheap since the table remembers the shallower ones, and unlike
+                // Searcher#search(Game, SearchLimits) it doesn't clear a stop that came in before it started
+                SearchResult result = mSearcher.search(mGame, SearchLimits.depth(depth), 0);
+                nodes += result.nodes;
+                if (mCancelled || result.depth < depth) {
+                    return;
+                }
+
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+                List<Move> principalVariation = getPrincipalVariation(mGame, mTable, result.bestMove, depth);
+                AnalysisUpdate update = new AnalysisUpdate(positionHash, teamId, depth, result.score,
+                        principalVariation, nodes, elapsedMillis);
+                if (!publish(this, update) || Searcher.isMateScore(result.score)) {
+                    return;
+                }
+            }
+        }
+    }
+}
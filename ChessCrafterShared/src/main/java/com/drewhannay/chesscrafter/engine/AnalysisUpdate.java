@@ -0,0 +1,46 @@
+package com.drewhannay.chesscrafter.engine;
+
+import com.drewhannay.chesscrafter.models.Move;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * What an {@link AnalysisService} has found so far about one position.
+ */
+public final class AnalysisUpdate {
+
+    /**
+     * {@link com.drewhannay.chesscrafter.models.Game#getPositionHash()} of the analyzed position, so a stale update
+     * can be told apart from one for the position on screen.
+     */
+    public final long positionHash;
+    /**
+     * The team to move in the analyzed position; {@link #score} is from its point of view.
+     */
+    public final int teamId;
+    public final int depth;
+    public final int score;
+    /**
+     * The expected moves from the analyzed position, best move first; never empty.
+     */
+    public final List<Move> principalVariation;
+    public final long nodes;
+    public final long elapsedMillis;
+
+    public AnalysisUpdate(long positionHash, int teamId, int depth, int score, @NotNull List<Move> principalVariation,
+                          long nodes, long elapsedMillis) {
+        this.positionHash = positionHash;
+        this.teamId = teamId;
+        this.depth = depth;
+        this.score = score;
+        this.principalVariation = principalVariation;
+        this.nodes = nodes;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    @NotNull
+    public Move getBestMove() {
+        return principalVariation.get(0);
+    }
+}
@@ -0,0 +1,133 @@
+package com.drewhannay.chesscrafter.engine;
+
+import com.drewhannay.chesscrafter.logic.GameArchive;
+import com.drewhannay.chesscrafter.logic.GameConfiguration;
+import com.drewhannay.chesscrafter.logic.GameConfigurationLoader;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Command line entry point for {@link BatchRunner}:
+ * <pre>
+ * BatchCommand [--config file.craftconfig] [--pieces dir] [--games n] [--threads n] [--depth n] [--nodes n]
+ *              [--max-plies n] [--seed n] [--archive file] first second
+ * </pre>
+ * Players are {@code material}, {@code piecesquare} (searchers using {@link MaterialEvaluator} or {@link
+ * PieceSquareEvaluator} within the given limits) or {@code random}. Prints the totals after every game and, with
+ * {@code --archive}, appends the games to a {@link GameArchive}.
+ */
+public final class BatchCommand {
+    private static final String USAGE = "usage: BatchCommand [--config file.craftconfig] [--pieces dir] [--games n]"
+            + " [--threads n] [--depth n] [--nodes n] [--max-plies n] [--seed n] [--archive file] first second"
+            + "\nplayers: material, piecesquare, random";
+    private static final int TABLE_SIZE_IN_MEGABYTES = 16;
+
+    private BatchCommand() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String configPath = null;
+        String pieceDirPath = null;
+        int gameCount = 100;
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        int depth = 3;
+        long nodes = SearchLimits.UNLIMITED;
+        int maxPlies = BatchRunner.DEFAULT_MAX_PLIES;
+        long seed = 0;
+        String archivePath = null;
+        String[] playerNames = new String[2];
+        int playerCount = 0;
+
+        boolean valid = true;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--config":
+                        configPath = args[++i];
+                        break;
+                    case "--pieces":
+                        pieceDirPath = args[++i];
+                        break;
+                    case "--games":
+                        gameCount = Integer.parseInt(args[++i]);
+                        break;
+                    case "--threads":
+                        threadCount = Integer.parseInt(args[++i]);
+                        break;
+                    case "--depth":
+                        depth = Integer.parseInt(args[++i]);
+                        break;
+                    case "--nodes":
+                        nodes = Long.parseLong(args[++i]);
+                        break;
+                    case "--max-plies":
+                        maxPlies = Integer.parseInt(args[++i]);
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(args[++i]);
+                        break;
+                    case "--archive":
+                        archivePath = args[++i];
+                        break;
+                    default:
+                        playerNames[playerCount++] = args[i];
+                        break;
+                }
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            valid = false;
+        }
+
+        Player firstPlayer = null;
+        Player secondPlayer = null;
+        if (valid && playerCount == 2 && gameCount > 0 && threadCount > 0 && maxPlies > 0 && nodes > 0
+                && depth >= 1 && depth <= SearchLimits.MAX_DEPTH) {
+            SearchLimits limits = SearchLimits.depth(depth).withNodes(nodes);
+            firstPlayer = createPlayer(playerNames[0], limits, seed);
+            secondPlayer = createPlayer(playerNames[1], limits, seed + 1);
+        }
+        if (firstPlayer == null || secondPlayer == null) {
+            System.err.println(USAGE);
+            System.exit(1);
+            return;
+        }
+
+        GameConfiguration config = GameConfigurationLoader.load(configPath, pieceDirPath);
+        System.out.println(firstPlayer.getName() + " vs " + secondPlayer.getName());
+
+        BatchRunner runner = new BatchRunner(config, firstPlayer, secondPlayer, maxPlies);
+        try (final GameArchive.Writer archive = archivePath != null
+                ? GameArchive.Writer.append(new File(archivePath)) : null) {
+            runner.run(gameCount, threadCount, new BatchRunner.Listener() {
+                @Override
+                public void onGameFinished(@NotNull GameRecord record, @NotNull BatchStatistics statistics) {
+                    System.out.println(statistics);
+                    if (archive != null) {
+                        try {
+                            archive.write(record.history);
+                        } catch (IOException e) {
+                            throw new IllegalStateException("Could not write game archive", e);
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    @Nullable
+    private static Player createPlayer(@NotNull String name, @NotNull SearchLimits limits, long seed) {
+        switch (name) {
+            case "material":
+                return new SearchPlayer(new MaterialEvaluator(), limits, TABLE_SIZE_IN_MEGABYTES);
+            case "piecesquare":
+                return new SearchPlayer(new PieceSquareEvaluator(), limits, TABLE_SIZE_IN_MEGABYTES);
+            case "random":
+                return new RandomPlayer(seed);
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.drewhannay.chesscrafter.engine;
+
+import com.drewhannay.chesscrafter.logic.GameBuilder;
+import com.drewhannay.chesscrafter.logic.GameConfiguration;
+import com.drewhannay.chesscrafter.models.Game;
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Plays a match between two {@link Player}s without any UI, several games at a time. Each worker thread plays with
+ * its own {@link Player#copy()} of both players, and the players swap teams from game to game. Games that reach the
+ * ply limit are declared drawn.
+ */
+public final class BatchRunner {
+    public static final int DEFAULT_MAX_PLIES = 400;
+
+    public interface Listener {
+        /**
+         * Called once per finished game, one call at a time, with the totals including that game.
+         */
+        void onGameFinished(@NotNull GameRecord record, @NotNull BatchStatistics statistics);
+    }
+
+    private final GameConfiguration mConfiguration;
+    private final Player mFirstPlayer;
+    private final Player mSecondPlayer;
+    private final int mMaxPlies;
+
+    private final Object mLock = new Object();
+    private BatchStatistics mStatistics;
+
+    public BatchRunner(@NotNull GameConfiguration configuration, @NotNull Player firstPlayer,
+                       @NotNull Player secondPlayer) {
+        this(configuration, firstPlayer, secondPlayer, DEFAULT_MAX_PLIES);
+    }
+
+    public BatchRunner(@NotNull GameConfiguration configuration, @NotNull Player firstPlayer,
+                       @NotNull Player secondPlayer, int maxPlies) {
+        Preconditions.checkArgument(configuration != null);
+        Preconditions.checkArgument(firstPlayer != null);
+        Preconditions.checkArgument(secondPlayer != null);
+        Preconditions.checkArgument(maxPlies > 0);
+
+        mConfiguration = configuration;
+        mFirstPlayer = firstPlayer;
+        mSecondPlayer = secondPlayer;
+        mMaxPlies = maxPlies;
+    }
+
+    /**
+     * Plays {@code gameCount} games on {@code threadCount} threads and waits for all of them.
+     *
+     * @return the finished games, in game order
+     */
+    @NotNull
+    public List<GameRecord> run(int gameCount, int threadCount, @Nullable final Listener listener)
+            throws InterruptedException {
+        Preconditions.checkArgument(gameCount > 0);
+        Preconditions.checkArgument(threadCount > 0);
+
+        final GameRecord[] records = new GameRecord[gameCount];
+        final AtomicInteger nextGameIndex = new AtomicInteger();
+        mStatistics = BatchStatistics.EMPTY;
+
+        int workerCount = Math.min(threadCount, gameCount);
+        ExecutorService executor = Executors.newFixedThreadPool(workerCount, new ThreadFactory() {
+            @Override
+            public Thread newThread(@NotNull Runnable runnable) {
+                Thread thread = new Thread(runnable, "BatchRunner worker");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        try {
+            List<Future<Void>> workers = new ArrayList<>(workerCount);
+            for (int i = 0; i < workerCount; i++) {
+                // copy on this thread; players don't have to be thread safe
+                final Player firstPlayer = mFirstPlayer.copy();
+                final Player secondPlayer = mSecondPlayer.copy();
+                workers.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        int gameIndex;
+                        while ((gameIndex = nextGameIndex.getAndIncrement()) < records.length
+                                && !Thread.currentThread().isInterrupted()) {
+                            GameRecord record = playGame(gameIndex, firstPlayer, secondPlayer);
+                            synchronized (mLock) {
+                                records[gameIndex] = record;
+                                mStatistics = mStatistics.add(record);
+                                if (listener != null) {
+                                    listener.onGameFinished(record, mStatistics);
+                                }
+                            }
+                        }
+                        return null;
+                    }
+                }));
+            }
+
+            for (Future<Void> worker : workers) {
+                try {
+                    worker.get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Batch game failed", e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return Arrays.asList(records);
+    }
+
+    /**
+     * @return the totals of the current or last run
+     */
+    @NotNull
+    public BatchStatistics getStatistics() {
+        synchronized (mLock) {
+            return mStatistics != null ? mStatistics : BatchStatistics.EMPTY;
+        }
+    }
+
+    @NotNull
+    private GameRecord playGame(int gameIndex, @NotNull Player firstPlayer, @NotNull Player secondPlayer) {
+        Game game = GameBuilder.buildGame(mConfiguration);
+        Preconditions.checkState(game.getTeams().length == 2, "Batch games need exactly two teams");
+
+        int firstPlayerTeamId = game.getTeams()[gameIndex % 2].getTeamId();
+        firstPlayer.newGame(gameIndex);
+        secondPlayer.newGame(gameIndex);
+
+        long nodes = 0;
+        long thinkingNanos = 0;
+        boolean adjudicated = false;
+        while (!game.getHistory().isComplete()) {
+            if (game.getHistory().moves.size() >= mMaxPlies) {
+                game.declareDraw();
+                adjudicated = true;
+                break;
+            }
+
+            Player player = game.getTurnKeeper().getActiveTeamId() == firstPlayerTeamId ? firstPlayer : secondPlayer;
+            long start = System.nanoTime();
+            SearchResult result = player.selectMove(game);
+            thinkingNanos += System.nanoTime() - start;
+            nodes += result.nodes;
+
+            game.executeMove(result.bestMove);
+        }
+
+        return new GameRecord(gameIndex, firstPlayerTeamId, game.getHistory(), game.getHistory().getResult(),
+                adjudicated, nodes, thinkingNanos);
+    }
+}
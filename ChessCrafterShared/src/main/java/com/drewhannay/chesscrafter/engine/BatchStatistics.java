@@ -0,0 +1,64 @@
+package com.drewhannay.chesscrafter.engine;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+
+/**
+ * Running totals over the games of a {@link BatchRunner} match, from the first player's point of view.
+ */
+public final class BatchStatistics {
+    public static final BatchStatistics EMPTY = new BatchStatistics(0, 0, 0, 0, 0, 0, 0);
+
+    public final int gameCount;
+    public final int firstPlayerWins;
+    public final int secondPlayerWins;
+    public final int adjudicatedCount;
+    public final long totalPlies;
+    public final long totalNodes;
+    public final long totalThinkingNanos;
+
+    private BatchStatistics(int gameCount, int firstPlayerWins, int secondPlayerWins, int adjudicatedCount,
+                            long totalPlies, long totalNodes, long totalThinkingNanos) {
+        this.gameCount = gameCount;
+        this.firstPlayerWins = firstPlayerWins;
+        this.secondPlayerWins = secondPlayerWins;
+        this.adjudicatedCount = adjudicatedCount;
+        this.totalPlies = totalPlies;
+        this.totalNodes = totalNodes;
+        this.totalThinkingNanos = totalThinkingNanos;
+    }
+
+    @NotNull
+    public BatchStatistics add(@NotNull GameRecord record) {
+        return new BatchStatistics(gameCount + 1,
+                firstPlayerWins + (record.isFirstPlayerWin() ? 1 : 0),
+                secondPlayerWins + (record.isSecondPlayerWin() ? 1 : 0),
+                adjudicatedCount + (record.adjudicated ? 1 : 0),
+                totalPlies + record.getPlyCount(),
+                totalNodes + record.nodes,
+                totalThinkingNanos + record.thinkingNanos);
+    }
+
+    public int getDraws() {
+        return gameCount - firstPlayerWins - secondPlayerWins;
+    }
+
+    public double getAverageGameLength() {
+        return gameCount > 0 ? (double) totalPlies / gameCount : 0;
+    }
+
+    /**
+     * @return nodes searched per second of the time players spent choosing moves, added up over all threads
+     */
+    public long getNodesPerSecond() {
+        return totalThinkingNanos > 0 ? (long) (totalNodes / (totalThinkingNanos / 1e9)) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "games: %d  +%d =%d -%d  adjudicated: %d  average plies: %.1f  nps: %d",
+                gameCount, firstPlayerWins, getDraws(), secondPlayerWins, adjudicatedCount, getAverageGameLength(),
+                getNodesPerSecond());
+    }
+}
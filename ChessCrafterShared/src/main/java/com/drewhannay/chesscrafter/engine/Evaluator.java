@@ -0,0 +1,16 @@
+package com.drewhannay.chesscrafter.engine;
+
+import com.drewhannay.chesscrafter.models.Game;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Static evaluation used at the leaves of a {@link Searcher} search. A {@link ParallelSearcher} calls one evaluator
+ * from all of its threads, so implementations used there must be thread safe.
+ */
+public abstract class Evaluator {
+    /**
+     * @return how good the current position is for {@code teamId}, in centipawns; positive means {@code teamId} is
+     * ahead of every other team combined. Must not modify the game.
+     */
+    public abstract int evaluate(@NotNull Game game, int teamId);
+}
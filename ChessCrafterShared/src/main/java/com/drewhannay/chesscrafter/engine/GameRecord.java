@@ -0,0 +1,51 @@
+package com.drewhannay.chesscrafter.engine;
+
+import com.drewhannay.chesscrafter.logic.Result;
+import com.drewhannay.chesscrafter.models.History;
+
+/**
+ * One finished game of a {@link BatchRunner} match.
+ */
+public final class GameRecord {
+
+    public final int gameIndex;
+    /**
+     * The team the match's first player played; the players swap teams from game to game.
+     */
+    public final int firstPlayerTeamId;
+    public final History history;
+    public final Result result;
+    /**
+     * True if the game was declared a draw for reaching the runner's ply limit.
+     */
+    public final boolean adjudicated;
+    public final long nodes;
+    public final long thinkingNanos;
+
+    public GameRecord(int gameIndex, int firstPlayerTeamId, History history, Result result, boolean adjudicated,
+                      long nodes, long thinkingNanos) {
+        this.gameIndex = gameIndex;
+        this.firstPlayerTeamId = firstPlayerTeamId;
+        this.history = history;
+        this.result = result;
+        this.adjudicated = adjudicated;
+        this.nodes = nodes;
+        this.thinkingNanos = thinkingNanos;
+    }
+
+    public int getPlyCount() {
+        return history.moves.size();
+    }
+
+    public boolean isDraw() {
+        return result.winningTeamId == null;
+    }
+
+    public boolean isFirstPlayerWin() {
+        return !isDraw() && result.winningTeamId == firstPlayerTeamId;
+    }
+
+    public boolean isSecondPlayerWin() {
+        return !isDraw() && result.winningTeamId != firstPlayerTeamId;
+    }
+}
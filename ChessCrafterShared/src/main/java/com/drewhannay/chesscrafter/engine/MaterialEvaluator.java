@@ -0,0 +1,56 @@
+package com.drewhannay.chesscrafter.engine;
+
+import com.drewhannay.chesscrafter.logic.PieceTypeManager;
+import com.drewhannay.chesscrafter.models.Board;
+import com.drewhannay.chesscrafter.models.BoardSize;
+import com.drewhannay.chesscrafter.models.Game;
+import com.drewhannay.chesscrafter.models.Piece;
+import com.drewhannay.chesscrafter.models.PieceType;
+import com.google.common.collect.ImmutableMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * Counts material. The classic pieces use their usual values; crafted pieces use {@link
+ * PieceTypeManager#getMaterialValue}. Objective pieces can't be traded, so they count for nothing. Safe to share
+ * between the workers of a {@link ParallelSearcher}.
+ */
+public final class MaterialEvaluator extends Evaluator {
+    private static final Map<String, Integer> CLASSIC_VALUES = ImmutableMap.<String, Integer>builder()
+            .put(PieceTypeManager.NORTH_FACING_PAWN_ID, 100)
+            .put(PieceTypeManager.SOUTH_FACING_PAWN_ID, 100)
+            .put(PieceTypeManager.KNIGHT_ID, 300)
+            .put(PieceTypeManager.BISHOP_ID, 320)
+            .put(PieceTypeManager.ROOK_ID, 500)
+            .put(PieceTypeManager.QUEEN_ID, 900)
+            .put(PieceTypeManager.KING_ID, 0)
+            .build();
+
+    @Override
+    public int evaluate(@NotNull Game game, int teamId) {
+        Board board = game.getBoards()[0];
+        BoardSize boardSize = board.getBoardSize();
+
+        int score = 0;
+        for (int square = 0; square < boardSize.getSquareCount(); square++) {
+            Piece piece = board.getPiece(square);
+            if (piece == null || piece.isObjectivePiece()) {
+                continue;
+            }
+
+            int value = getValue(piece.getPieceType(), boardSize);
+            score += piece.getTeamId() == teamId ? value : -value;
+        }
+        return score;
+    }
+
+    public int getValue(@NotNull PieceType pieceType, @NotNull BoardSize boardSize) {
+        Integer value = CLASSIC_VALUES.get(pieceType.getInternalId());
+        if (value != null) {
+            return value;
+        }
+
+        return PieceTypeManager.INSTANCE.getMaterialValue(pieceType, boardSize);
+    }
+}
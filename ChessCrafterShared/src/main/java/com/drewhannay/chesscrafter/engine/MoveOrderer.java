@@ -0,0 +1,159 @@
+package com.drewhannay.chesscrafter.engine;
+
+import com.drewhannay.chesscrafter.models.Board;
+import com.drewhannay.chesscrafter.models.BoardSize;
+import com.drewhannay.chesscrafter.models.Game;
+import com.drewhannay.chesscrafter.models.Move;
+import com.drewhannay.chesscrafter.models.Piece;
+import com.drewhannay.chesscrafter.models.PieceType;
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sorts moves so the ones most likely to be best are searched first: the hash move, then captures by most valuable
+ * victim and least valuable attacker, then the killer moves of the ply, then quiet moves by how often they caused a
+ * cutoff before, and last the captures that {@link StaticExchangeEvaluator} says lose material. Keeps per-search
+ * state, so each search thread needs its own orderer.
+ */
+public final class MoveOrderer {
+    public static final int KILLER_SLOTS = 2;
+
+    private static final int HASH_MOVE_SCORE = Integer.MAX_VALUE;
+    private static final int CAPTURE_SCORE = 1 << 29;
+    private static final int PROMOTION_SCORE = 1 << 28;
+    private static final int KILLER_SCORE = 1 << 27;
+    private static final int MAX_HISTORY_SCORE = KILLER_SCORE - 1;
+    private static final int LOSING_CAPTURE_SCORE = -CAPTURE_SCORE;
+
+    private final StaticExchangeEvaluator mExchangeEvaluator;
+    private final int[][] mKillers;
+    // indexed by piece type, then destination square
+    private final Map<PieceType, int[]> mHistory;
+
+    public MoveOrderer(@NotNull MaterialEvaluator materialEvaluator, int maxPly) {
+        Preconditions.checkArgument(materialEvaluator != null);
+        Preconditions.checkArgument(maxPly > 0);
+
+        mExchangeEvaluator = new StaticExchangeEvaluator(materialEvaluator);
+        mKillers = new int[maxPly + 1][KILLER_SLOTS];
+        mHistory = new HashMap<>();
+    }
+
+    /**
+     * Forgets the killers and halves the history, so what was learned about the previous position still counts a
+     * little when searching the next one.
+     */
+    public void newSearch() {
+        for (int[] killers : mKillers) {
+            Arrays.fill(killers, 0);
+        }
+        for (int[] history : mHistory.values()) {
+            for (int i = 0; i < history.length; i++) {
+                history[i] >>= 1;
+            }
+        }
+    }
+
+    /**
+     * Sorts {@code moves} in place, best candidates first.
+     *
+     * @param hashMove the move remembered for this position, packed with {@link TranspositionTable#packMove(Game,
+     *                 Move)}, or 0 for none
+     */
+    public void orderMoves(@NotNull Game game, @NotNull List<Move> moves, int hashMove, int ply) {
+        int moveCount = moves.size();
+        if (moveCount < 2) {
+            return;
+        }
+
+        // sort score/index pairs packed into longs so equal scores keep generation order
+        long[] keys = new long[moveCount];
+        for (int i = 0; i < moveCount; i++) {
+            long score = getScore(game, moves.get(i), hashMove, ply);
+            keys[i] = (score << 32) | (moveCount - 1 - i);
+        }
+        Arrays.sort(keys);
+
+        List<Move> sortedMoves = new ArrayList<>(moveCount);
+        for (int i = moveCount - 1; i >= 0; i--) {
+            sortedMoves.add(moves.get(moveCount - 1 - (int) keys[i]));
+        }
+        for (int i = 0; i < moveCount; i++) {
+            moves.set(i, sortedMoves.get(i));
+        }
+    }
+
+    public int getScore(@NotNull Game game, @NotNull Move move, int hashMove, int ply) {
+        Board board = game.getBoards()[0];
+        BoardSize boardSize = board.getBoardSize();
+
+        int packedMove = TranspositionTable.packMove(game, move);
+        if (packedMove != 0 && packedMove == hashMove) {
+            return HASH_MOVE_SCORE;
+        }
+
+        Piece attacker = board.getPiece(move.origin);
+        Piece victim = board.getPiece(move.destination);
+        if (victim != null && victim.getTeamId() != attacker.getTeamId()) {
+            int victimValue = mExchangeEvaluator.getValue(victim, boardSize);
+            int attackerValue = mExchangeEvaluator.getValue(attacker, boardSize);
+            // victim value dominates; the attacker value only breaks ties
+            int score = victimValue * 64 - attackerValue / 16;
+            // taking something worth at least the attacker can't lose material, so skip the exchange for those
+            if (attackerValue > victimValue && mExchangeEvaluator.evaluate(board,
+                    boardSize.toSquareIndex(move.origin), boardSize.toSquareIndex(move.destination)) < 0) {
+                return LOSING_CAPTURE_SCORE + score;
+            }
+            return CAPTURE_SCORE + score;
+        }
+        if (move.promotionType != null) {
+            return PROMOTION_SCORE;
+        }
+
+        int[] killers = mKillers[Math.min(ply, mKillers.length - 1)];
+        for (int i = 0; i < KILLER_SLOTS; i++) {
+            if (killers[i] == packedMove) {
+                return KILLER_SCORE + KILLER_SLOTS - i;
+            }
+        }
+
+        // a history for another board size is left over from an earlier game; recordCutoff replaces it
+        int[] history = mHistory.get(attacker.getPieceType());
+        return history != null && history.length == boardSize.getSquareCount()
+                ? history[boardSize.toSquareIndex(move.destination)] : 0;
+    }
+
+    /**
+     * Remembers a move that caused a beta cutoff. Must be called before the move is executed, or after it has been
+     * undone; captures and promotions are already ordered first, so only quiet moves are recorded.
+     */
+    public void recordCutoff(@NotNull Game game, @NotNull Move move, int depth, int ply) {
+        Board board = game.getBoards()[0];
+        BoardSize boardSize = board.getBoardSize();
+        if (board.getPiece(move.destination) != null || move.promotionType != null) {
+            return;
+        }
+
+        int packedMove = TranspositionTable.packMove(game, move);
+        int[] killers = mKillers[Math.min(ply, mKillers.length - 1)];
+        if (killers[0] != packedMove) {
+            System.arraycopy(killers, 0, killers, 1, KILLER_SLOTS - 1);
+            killers[0] = packedMove;
+        }
+
+        PieceType pieceType = board.getPiece(move.origin).getPieceType();
+        int[] history = mHistory.get(pieceType);
+        if (history == null || history.length != boardSize.getSquareCount()) {
+            history = new int[boardSize.getSquareCount()];
+            mHistory.put(pieceType, history);
+        }
+        int square = boardSize.toSquareIndex(move.destination);
+        history[square] = Math.min(history[square] + depth * depth, MAX_HISTORY_SCORE);
+    }
+}
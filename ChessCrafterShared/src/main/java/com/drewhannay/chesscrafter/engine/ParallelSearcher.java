@@ -0,0 +1,143 @@
+package com.drewhannay.chesscrafter.engine;
+
+import com.drewhannay.chesscrafter.models.Game;
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lazy SMP: every thread runs an ordinary {@link Searcher} on its own {@link Game#copy()} of the position, and they
+ * only cooperate through a shared {@link TranspositionTable}. The calling thread is the main worker; once it is done
+ * the helpers are stopped and the deepest finished result wins.
+ */
+public final class ParallelSearcher {
+
+    private final TranspositionTable mTable;
+    private final Searcher[] mSearchers;
+    private final ExecutorService mExecutor;
+
+    public ParallelSearcher(@NotNull Evaluator evaluator, @NotNull TranspositionTable table, int threadCount) {
+        Preconditions.checkArgument(evaluator != null);
+        Preconditions.checkArgument(table != null);
+        Preconditions.checkArgument(threadCount >= 1);
+
+        mTable = table;
+        mSearchers = new Searcher[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            mSearchers[i] = new Searcher(evaluator, table);
+        }
+        mExecutor = threadCount > 1 ? Executors.newFixedThreadPool(threadCount - 1, new ThreadFactory() {
+            @Override
+            public Thread newThread(@NotNull Runnable runnable) {
+                Thread thread = new Thread(runnable, "ParallelSearcher helper");
+                // never keep the application alive just for an idle search pool
+                thread.setDaemon(true);
+                return thread;
+            }
+        }) : null;
+    }
+
+    public int getThreadCount() {
+        return mSearchers.length;
+    }
+
+    /**
+     * Searches {@code game} in place like {@link Searcher#search}; helpers work on copies. A node limit is split
+     * evenly between the threads.
+     */
+    @NotNull
+    public SearchResult search(@NotNull Game game, @NotNull SearchLimits limits) {
+        long startNanos = System.nanoTime();
+        mTable.newSearch();
+
+        SearchLimits workerLimits = limits.maxNodes == SearchLimits.UNLIMITED ? limits
+                : limits.withNodes(Math.max(1, limits.maxNodes / mSearchers.length));
+
+        List<Future<SearchResult>> helperResults = new ArrayList<>(mSearchers.length - 1);
+        for (int i = 0; i < mSearchers.length; i++) {
+            mSearchers[i].resetStop();
+        }
+        for (int i = 1; i < mSearchers.length; i++) {
+            helperResults.add(mExecutor.submit(createHelper(mSearchers[i], game.copy(), workerLimits, i)));
+        }
+
+        SearchResult bestResult;
+        try {
+            bestResult = mSearchers[0].search(game, workerLimits, 0);
+        } finally {
+            stop();
+        }
+
+        long nodes = bestResult.nodes;
+        for (Future<SearchResult> helperResult : helperResults) {
+            SearchResult result = getHelperResult(helperResult);
+            nodes += result.nodes;
+            if (result.depth > bestResult.depth) {
+                bestResult = result;
+            }
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        return new SearchResult(bestResult.bestMove, bestResult.score, bestResult.depth, nodes, elapsedMillis);
+    }
+
+    /**
+     * Asks a running search to return as soon as possible; safe to call from any thread.
+     */
+    public void stop() {
+        for (Searcher searcher : mSearchers) {
+            searcher.stop();
+        }
+    }
+
+    /**
+     * Stops the helper threads for good; the searcher can't be used afterwards.
+     */
+    public void shutdown() {
+        stop();
+        if (mExecutor != null) {
+            mExecutor.shutdownNow();
+        }
+    }
+
+    @NotNull
+    private static Callable<SearchResult> createHelper(@NotNull final Searcher searcher, @NotNull final Game game,
+                                                       @NotNull final SearchLimits limits, final int workerIndex) {
+        return new Callable<SearchResult>() {
+            @Override
+            public SearchResult call() {
+                return searcher.search(game, limits, workerIndex);
+            }
+        };
+    }
+
+    @NotNull
+    private static SearchResult getHelperResult(@NotNull Future<SearchResult> helperResult) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return helperResult.get();
+                } catch (InterruptedException e) {
+                    // the helpers have already been told to stop, so this won't wait long
+                    interrupted = true;
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Search helper failed", e.getCause());
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.drewhannay.chesscrafter.engine;
+
+import com.drewhannay.chesscrafter.models.Board;
+import com.drewhannay.chesscrafter.models.Game;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Material plus piece placement, read from the scores each {@link Board} keeps up to date as pieces move, so an
+ * evaluation costs the same on any board size. Values come from {@link
+ * com.drewhannay.chesscrafter.logic.PieceTypeManager#getPieceSquareTable}, which works for crafted pieces without any
+ * tuning. Stateless, so it is safe to share between the workers of a {@link ParallelSearcher}.
+ */
+public final class PieceSquareEvaluator extends Evaluator {
+    @Override
+    public int evaluate(@NotNull Game game, int teamId) {
+        int score = 0;
+        for (Board board : game.getBoards()) {
+            score += board.getPieceSquareBalance(teamId);
+        }
+        return score;
+    }
+}
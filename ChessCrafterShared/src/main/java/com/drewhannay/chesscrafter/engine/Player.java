@@ -0,0 +1,34 @@
+package com.drewhannay.chesscrafter.engine;
+
+import com.drewhannay.chesscrafter.models.Game;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Picks moves for one side of a game played without a user, such as in a {@link BatchRunner} match. A player is only
+ * used from one thread at a time; {@link #copy()} makes an independent player for another thread.
+ */
+public abstract class Player {
+    /**
+     * @return a new player that plays the same way but shares no mutable state with this one
+     */
+    @NotNull
+    public abstract Player copy();
+
+    /**
+     * Called before the first move of every game, so players can drop what they learned in the previous one.
+     *
+     * @param gameIndex the game's index in its match, the same whichever copy of the player ends up playing it
+     */
+    public void newGame(int gameIndex) {
+    }
+
+    /**
+     * @return the chosen move, which must be one of {@link Game#getLegalMoves()}, with the work it took. Must leave
+     * the game as it found it.
+     */
+    @NotNull
+    public abstract SearchResult selectMove(@NotNull Game game);
+
+    @NotNull
+    public abstract String getName();
+}
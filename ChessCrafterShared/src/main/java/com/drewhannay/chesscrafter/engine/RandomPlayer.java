@@ -0,0 +1,48 @@
+package com.drewhannay.chesscrafter.engine;
+
+import com.drewhannay.chesscrafter.models.Game;
+import com.drewhannay.chesscrafter.models.Move;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Plays a uniformly random legal move; a baseline opponent for batch runs.
+ */
+public final class RandomPlayer extends Player {
+    private static final long GAME_INDEX_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final long mSeed;
+    private final Random mRandom;
+
+    public RandomPlayer(long seed) {
+        mSeed = seed;
+        mRandom = new Random(seed);
+    }
+
+    @NotNull
+    @Override
+    public Player copy() {
+        return new RandomPlayer(mSeed);
+    }
+
+    @Override
+    public void newGame(int gameIndex) {
+        // which copy plays which game depends on the thread timing, so each game's moves depend only on its index
+        mRandom.setSeed(mSeed ^ (gameIndex + 1) * GAME_INDEX_MULTIPLIER);
+    }
+
+    @NotNull
+    @Override
+    public SearchResult selectMove(@NotNull Game game) {
+        List<Move> moves = game.getLegalMoves();
+        return new SearchResult(moves.get(mRandom.nextInt(moves.size())), 0, 0, 0, 0);
+    }
+
+    @NotNull
+    @Override
+    public String getName() {
+        return "Random (seed " + mSeed + ")";
+    }
+}
@@ -0,0 +1,62 @@
+package com.drewhannay.chesscrafter.engine;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * When a {@link Searcher} has to stop. Whichever limit is hit first wins; the search always finishes at least one ply
+ * so there is a move to play.
+ */
+public final class SearchLimits {
+    public static final int MAX_DEPTH = 64;
+    public static final long UNLIMITED = Long.MAX_VALUE;
+
+    public final int maxDepth;
+    public final long maxNodes;
+    public final long maxTimeMillis;
+
+    private SearchLimits(int maxDepth, long maxNodes, long maxTimeMillis) {
+        Preconditions.checkArgument(maxDepth >= 1 && maxDepth <= MAX_DEPTH);
+        Preconditions.checkArgument(maxNodes > 0);
+        Preconditions.checkArgument(maxTimeMillis > 0);
+
+        this.maxDepth = maxDepth;
+        this.maxNodes = maxNodes;
+        this.maxTimeMillis = maxTimeMillis;
+    }
+
+    public static SearchLimits depth(int maxDepth) {
+        return new SearchLimits(maxDepth, UNLIMITED, UNLIMITED);
+    }
+
+    public static SearchLimits nodes(long maxNodes) {
+        return new SearchLimits(MAX_DEPTH, maxNodes, UNLIMITED);
+    }
+
+    public static SearchLimits time(long maxTimeMillis) {
+        return new SearchLimits(MAX_DEPTH, UNLIMITED, maxTimeMillis);
+    }
+
+    public SearchLimits withDepth(int maxDepth) {
+        return new SearchLimits(maxDepth, maxNodes, maxTimeMillis);
+    }
+
+    public SearchLimits withNodes(long maxNodes) {
+        return new SearchLimits(maxDepth, maxNodes, maxTimeMillis);
+    }
+
+    public SearchLimits withTime(long maxTimeMillis) {
+        return new SearchLimits(maxDepth, maxNodes, maxTimeMillis);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("depth ").append(maxDepth);
+        if (maxNodes != UNLIMITED) {
+            builder.append(", ").append(maxNodes).append(" nodes");
+        }
+        if (maxTimeMillis != UNLIMITED) {
+            builder.append(", ").append(maxTimeMillis).append(" ms");
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,53 @@
+package com.drewhannay.chesscrafter.engine;
+
+import com.drewhannay.chesscrafter.models.Game;
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Plays the best move a {@link Searcher} finds within fixed limits.
+ */
+public final class SearchPlayer extends Player {
+    private final Evaluator mEvaluator;
+    private final SearchLimits mLimits;
+    private final int mTableSizeInMegabytes;
+    private final TranspositionTable mTable;
+    private final Searcher mSearcher;
+
+    /**
+     * @param evaluator shared by every {@link #copy()}, so it must be thread safe
+     */
+    public SearchPlayer(@NotNull Evaluator evaluator, @NotNull SearchLimits limits, int tableSizeInMegabytes) {
+        Preconditions.checkArgument(evaluator != null);
+        Preconditions.checkArgument(limits != null);
+
+        mEvaluator = evaluator;
+        mLimits = limits;
+        mTableSizeInMegabytes = tableSizeInMegabytes;
+        mTable = new TranspositionTable(tableSizeInMegabytes);
+        mSearcher = new Searcher(evaluator, mTable);
+    }
+
+    @NotNull
+    @Override
+    public Player copy() {
+        return new SearchPlayer(mEvaluator, mLimits, mTableSizeInMegabytes);
+    }
+
+    @Override
+    public void newGame(int gameIndex) {
+        mTable.clear();
+    }
+
+    @NotNull
+    @Override
+    public SearchResult selectMove(@NotNull Game game) {
+        return mSearcher.search(game, mLimits);
+    }
+
+    @NotNull
+    @Override
+    public String getName() {
+        return mEvaluator.getClass().getSimpleName() + " " + mLimits;
+    }
+}
@@ -0,0 +1,26 @@
+package com.drewhannay.chesscrafter.engine;
+
+import com.drewhannay.chesscrafter.models.Move;
+
+public final class SearchResult {
+
+    public final Move bestMove;
+    /**
+     * From the point of view of the team that was to move; see {@link Searcher#isMateScore(int)}.
+     */
+    public final int score;
+    /**
+     * The deepest iteration that finished.
+     */
+    public final int depth;
+    public final long nodes;
+    public final long elapsedMillis;
+
+    public SearchResult(Move bestMove, int score, int depth, long nodes, long elapsedMillis) {
+        this.bestMove = bestMove;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsedMillis = elapsedMillis;
+    }
+}
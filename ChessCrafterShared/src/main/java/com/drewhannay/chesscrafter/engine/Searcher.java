@@ -0,0 +1,324 @@
+package com.drewhannay.chesscrafter.engine;
+
+import com.drewhannay.chesscrafter.logic.Result;
+import com.drewhannay.chesscrafter.models.Board;
+import com.drewhannay.chesscrafter.models.BoardSize;
+import com.drewhannay.chesscrafter.models.Game;
+import com.drewhannay.chesscrafter.models.Move;
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Iterative deepening alpha-beta search over {@link Game#getLegalMoves()}, so it plays whatever rules the game was
+ * crafted with. Scores are negamax scores for the team to move. Since a {@link
+ * com.drewhannay.chesscrafter.models.turnkeeper.TurnKeeper} may give a team several moves in a row, the score is only
+ * negated when the move hands the turn to another team; with more than two teams every other team is treated as one
+ * opponent. Beyond the depth limit a quiescence search follows captures until the position is quiet, skipping those
+ * that {@link StaticExchangeEvaluator} says lose material.
+ * <p>
+ * The game is searched in place and is back in its original state when {@link #search} returns. A searcher is not
+ * thread safe, apart from {@link #stop()}, but any number of searchers may share one {@link TranspositionTable}.
+ */
+public final class Searcher {
+    public static final int MATE_SCORE = 1000000;
+
+    private static final int INFINITY = MATE_SCORE + 1;
+    // turns may be several moves long, so leave room beyond the depth limit
+    private static final int MAX_PLY = SearchLimits.MAX_DEPTH * 4;
+    private static final int MAX_EVALUATION = MATE_SCORE - MAX_PLY - 1;
+    private static final int NODE_CHECK_INTERVAL = 1024;
+
+    private final Evaluator mEvaluator;
+    private final TranspositionTable mTable;
+    private final MoveOrderer mMoveOrderer;
+    private final StaticExchangeEvaluator mExchangeEvaluator;
+
+    private volatile boolean mStopRequested;
+
+    private SearchLimits mLimits;
+    private long mDeadlineNanos;
+    private long mNodes;
+    private int mCompletedDepth;
+    private boolean mAborted;
+
+    public Searcher(@NotNull Evaluator evaluator) {
+        this(evaluator, new TranspositionTable(TranspositionTable.DEFAULT_SIZE_IN_MEGABYTES));
+    }
+
+    public Searcher(@NotNull Evaluator evaluator, @NotNull TranspositionTable table) {
+        Preconditions.checkArgument(evaluator != null);
+        Preconditions.checkArgument(table != null);
+
+        mEvaluator = evaluator;
+        mTable = table;
+        MaterialEvaluator materialEvaluator = new MaterialEvaluator();
+        mMoveOrderer = new MoveOrderer(materialEvaluator, MAX_PLY);
+        mExchangeEvaluator = new StaticExchangeEvaluator(materialEvaluator);
+    }
+
+    /**
+     * @return true if the score means a forced win or loss rather than an evaluation
+     */
+    public static boolean isMateScore(int score) {
+        return Math.abs(score) >= MATE_SCORE - MAX_PLY;
+    }
+
+    /**
+     * Asks a running search to return as soon as possible with the best move of its last finished iteration.
+     */
+    public void stop() {
+        mStopRequested = true;
+    }
+
+    void resetStop() {
+        mStopRequested = false;
+    }
+
+    @NotNull
+    public SearchResult search(@NotNull Game game, @NotNull SearchLimits limits) {
+        resetStop();
+        mTable.newSearch();
+        return search(game, limits, 0);
+    }
+
+    /**
+     * Searches without starting a new table generation or clearing a pending {@link #stop()}, for searchers working
+     * on the same position in parallel. Each worker gets its own {@code workerIndex} so they don't all walk the tree
+     * in the same order.
+     */
+    @NotNull
+    SearchResult search(@NotNull Game game, @NotNull SearchLimits limits, int workerIndex) {
+        Preconditions.checkState(!game.getHistory().isComplete(), "The game is already over");
+
+        List<Move> rootMoves = game.getLegalMoves();
+        Preconditions.checkState(!rootMoves.isEmpty(), "No legal moves");
+
+        long startNanos = System.nanoTime();
+        mLimits = limits;
+        mDeadlineNanos = limits.maxTimeMillis == SearchLimits.UNLIMITED
+                ? Long.MAX_VALUE : startNanos + TimeUnit.MILLISECONDS.toNanos(limits.maxTimeMillis);
+        mNodes = 0;
+        mCompletedDepth = 0;
+        mAborted = false;
+        mMoveOrderer.newSearch();
+
+        long rootKey = game.getPositionHash();
+        long rootEntry = mTable.probe(rootKey);
+        mMoveOrderer.orderMoves(game, rootMoves, rootEntry != 0 ? TranspositionTable.getMove(rootEntry) : 0, 0);
+
+        // odd workers skip ahead a ply and each worker starts from a different root move
+        int firstDepth = Math.min(1 + (workerIndex & 1), limits.maxDepth);
+        Collections.rotate(rootMoves, -(workerIndex % rootMoves.size()));
+
+        Move bestMove = rootMoves.get(0);
+        int bestScore = -INFINITY;
+
+        for (int depth = firstDepth; depth <= limits.maxDepth; depth++) {
+            int alpha = -INFINITY;
+            Move iterationBestMove = null;
+            int teamId = game.getTurnKeeper().getActiveTeamId();
+
+            for (Move move : rootMoves) {
+                game.executeMove(move);
+                int score = searchChild(game, teamId, depth - 1, 1, alpha, INFINITY);
+                game.undoMove();
+
+                if (mAborted) {
+                    break;
+                }
+                if (iterationBestMove == null || score > alpha) {
+                    alpha = score;
+                    iterationBestMove = move;
+                }
+            }
+
+            if (mAborted) {
+                break;
+            }
+
+            bestMove = iterationBestMove;
+            bestScore = alpha;
+            mCompletedDepth = depth;
+
+            // search the best move first next time around; it makes the cutoffs much more likely
+            rootMoves.remove(bestMove);
+            rootMoves.add(0, bestMove);
+            mTable.store(rootKey, depth, TranspositionTable.BOUND_EXACT, toTableScore(bestScore, 0),
+                    TranspositionTable.packMove(game, bestMove));
+
+            if (isMateScore(bestScore)) {
+                break;
+            }
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        return new SearchResult(bestMove, bestScore, mCompletedDepth, mNodes, elapsedMillis);
+    }
+
+    private int searchChild(@NotNull Game game, int teamId, int depth, int ply, int alpha, int beta) {
+        if (game.getTurnKeeper().getActiveTeamId() == teamId) {
+            return negamax(game, depth, ply, alpha, beta);
+        }
+        return -negamax(game, depth, ply, -beta, -alpha);
+    }
+
+    private int negamax(@NotNull Game game, int depth, int ply, int alpha, int beta) {
+        mNodes++;
+        if (mNodes % NODE_CHECK_INTERVAL == 0) {
+            checkLimits();
+        }
+
+        int teamId = game.getTurnKeeper().getActiveTeamId();
+        if (game.getHistory().isComplete()) {
+            return getGameOverScore(game.getHistory().getResult(), teamId, ply);
+        }
+        if (ply >= MAX_PLY) {
+            return evaluate(game, teamId);
+        }
+        if (depth <= 0) {
+            return quiesce(game, teamId, ply, alpha, beta);
+        }
+
+        long key = game.getPositionHash();
+        long entry = mTable.probe(key);
+        int tableMove = 0;
+        if (entry != 0) {
+            tableMove = TranspositionTable.getMove(entry);
+            if (TranspositionTable.getDepth(entry) >= depth) {
+                int score = fromTableScore(TranspositionTable.getScore(entry), ply);
+                int bound = TranspositionTable.getBound(entry);
+                if (bound == TranspositionTable.BOUND_EXACT
+                        || (bound == TranspositionTable.BOUND_LOWER && score >= beta)
+                        || (bound == TranspositionTable.BOUND_UPPER && score <= alpha)) {
+                    return score;
+                }
+            }
+        }
+
+        List<Move> moves = game.getLegalMoves();
+        if (moves.isEmpty()) {
+            return evaluate(game, teamId);
+        }
+
+        mMoveOrderer.orderMoves(game, moves, tableMove, ply);
+
+        int originalAlpha = alpha;
+        int bestScore = -INFINITY;
+        Move bestMove = null;
+        for (Move move : moves) {
+            game.executeMove(move);
+            int score = searchChild(game, teamId, depth - 1, ply + 1, alpha, beta);
+            game.undoMove();
+
+            if (mAborted) {
+                return 0;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+                if (score > alpha) {
+                    alpha = score;
+                    if (alpha >= beta) {
+                        mMoveOrderer.recordCutoff(game, move, depth, ply);
+                        break;
+                    }
+                }
+            }
+        }
+
+        int bound = bestScore <= originalAlpha ? TranspositionTable.BOUND_UPPER
+                : bestScore >= beta ? TranspositionTable.BOUND_LOWER
+                : TranspositionTable.BOUND_EXACT;
+        // an upper bound means no move was better than the others, so don't remember one
+        int packedMove = bound == TranspositionTable.BOUND_UPPER ? 0
+                : TranspositionTable.packMove(game, bestMove);
+        mTable.store(key, depth, bound, toTableScore(bestScore, ply), packedMove);
+        return bestScore;
+    }
+
+    private int quiesce(@NotNull Game game, int teamId, int ply, int alpha, int beta) {
+        // the side to move can usually do at least as well as the static evaluation by not capturing
+        int bestScore = evaluate(game, teamId);
+        if (bestScore >= beta) {
+            return bestScore;
+        }
+        alpha = Math.max(alpha, bestScore);
+
+        List<Move> captures = game.getLegalCaptures();
+        mMoveOrderer.orderMoves(game, captures, 0, ply);
+
+        Board board = game.getBoards()[0];
+        BoardSize boardSize = board.getBoardSize();
+        for (Move move : captures) {
+            if (mExchangeEvaluator.evaluate(board, boardSize.toSquareIndex(move.origin),
+                    boardSize.toSquareIndex(move.destination)) < 0) {
+                continue;
+            }
+
+            game.executeMove(move);
+            int score = searchChild(game, teamId, 0, ply + 1, alpha, beta);
+            game.undoMove();
+
+            if (mAborted) {
+                return 0;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                if (score > alpha) {
+                    alpha = score;
+                    if (alpha >= beta) {
+                        break;
+                    }
+                }
+            }
+        }
+        return bestScore;
+    }
+
+    /**
+     * Keeps the evaluation below the mate scores, so an evaluator that runs away on a large board can't be mistaken
+     * for a mate or overflow the table's score field.
+     */
+    private int evaluate(@NotNull Game game, int teamId) {
+        int score = mEvaluator.evaluate(game, teamId);
+        return Math.max(-MAX_EVALUATION, Math.min(MAX_EVALUATION, score));
+    }
+
+    /**
+     * Mate scores are stored relative to the position instead of the root, so they stay right when the position is
+     * reached at a different ply.
+     */
+    private static int toTableScore(int score, int ply) {
+        return score >= MATE_SCORE - MAX_PLY ? score + ply
+                : score <= -(MATE_SCORE - MAX_PLY) ? score - ply
+                : score;
+    }
+
+    private static int fromTableScore(int score, int ply) {
+        return score >= MATE_SCORE - MAX_PLY ? score - ply
+                : score <= -(MATE_SCORE - MAX_PLY) ? score + ply
+                : score;
+    }
+
+    private void checkLimits() {
+        // the first iteration always finishes so there's a real move to return
+        if (mCompletedDepth == 0) {
+            return;
+        }
+        if (mStopRequested || mNodes >= mLimits.maxNodes || System.nanoTime() >= mDeadlineNanos) {
+            mAborted = true;
+        }
+    }
+
+    private static int getGameOverScore(@NotNull Result result, int teamId, int ply) {
+        if (result.winningTeamId == null) {
+            return 0;
+        }
+        // prefer quicker wins and slower losses
+        return result.winningTeamId == teamId ? MATE_SCORE - ply : -(MATE_SCORE - ply);
+    }
+}
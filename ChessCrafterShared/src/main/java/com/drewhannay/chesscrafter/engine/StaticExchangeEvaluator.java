@@ -0,0 +1,196 @@
+package com.drewhannay.chesscrafter.engine;
+
+import com.drewhannay.chesscrafter.models.AttackTable;
+import com.drewhannay.chesscrafter.models.Board;
+import com.drewhannay.chesscrafter.models.BoardSize;
+import com.drewhannay.chesscrafter.models.Piece;
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Plays out the sequence of captures on one square, each side always recapturing with its least valuable attacker and
+ * free to stop when going on would lose material, without touching the board. Attackers come from {@link
+ * Board#getAttackers}, so they follow each piece type's capturing and two-hop movements; sliders and diagonal leapers
+ * hidden behind a piece that has captured join in once it leaves. With more than two teams every other team is treated as one
+ * opponent. Promotions and rules such as en passant are not considered.
+ * <p>
+ * Keeps scratch buffers, so each search thread needs its own instance.
+ */
+public final class StaticExchangeEvaluator {
+    // more than any trade could win back, so giving up an objective piece is never worth it
+    public static final int OBJECTIVE_PIECE_VALUE = 20000;
+
+    private final MaterialEvaluator mMaterialEvaluator;
+
+    private int[] mAttackers = new int[0];
+    private int[] mScratch = new int[0];
+    private boolean[] mRemoved = new boolean[0];
+    private int[] mGains = new int[0];
+
+    public StaticExchangeEvaluator(@NotNull MaterialEvaluator materialEvaluator) {
+        Preconditions.checkArgument(materialEvaluator != null);
+
+        mMaterialEvaluator = materialEvaluator;
+    }
+
+    public int getValue(@NotNull Piece piece, @NotNull BoardSize boardSize) {
+        return piece.isObjectivePiece() ? OBJECTIVE_PIECE_VALUE
+                : mMaterialEvaluator.getValue(piece.getPieceType(), boardSize);
+    }
+
+    /**
+     * @return the material the piece on {@code origin} wins, or loses if negative, by capturing on {@code
+     * destination} and letting both sides trade on that square for as long as it pays
+     */
+    public int evaluate(@NotNull Board board, int origin, int destination) {
+        BoardSize boardSize = board.getBoardSize();
+        Piece attacker = board.getPiece(origin);
+        Preconditions.checkArgument(attacker != null);
+
+        int squareCount = boardSize.getSquareCount();
+        if (mRemoved.length != squareCount) {
+            mAttackers = new int[squareCount];
+            mScratch = new int[squareCount];
+            mRemoved = new boolean[squareCount];
+            mGains = new int[squareCount + 1];
+        } else {
+            Arrays.fill(mRemoved, false);
+        }
+
+        int attackerCount = board.getAttackers(destination, mAttackers);
+        int teamId = attacker.getTeamId();
+
+        Piece victim = board.getPiece(destination);
+        mGains[0] = victim != null ? getValue(victim, boardSize) : 0;
+        int onSquareValue = getValue(attacker, boardSize);
+        attackerCount = removeAttacker(board, origin, destination, attackerCount);
+
+        int depth = 0;
+        boolean ownTurn = false;
+        while (true) {
+            int next = findLeastValuableAttacker(board, attackerCount, teamId, ownTurn);
+            if (next < 0) {
+                break;
+            }
+
+            depth++;
+            // what the side to move has gained if the exchange ends after it captures here
+            mGains[depth] = onSquareValue - mGains[depth - 1];
+            if (Math.max(-mGains[depth - 1], mGains[depth]) < 0) {
+                // neither continuing nor stopping changes the outcome any more
+                break;
+            }
+
+            onSquareValue = getValue(board.getPiece(next), boardSize);
+            attackerCount = removeAttacker(board, next, destination, attackerCount);
+            ownTurn = !ownTurn;
+        }
+
+        while (depth > 0) {
+            mGains[depth - 1] = -Math.max(-mGains[depth - 1], mGains[depth]);
+            depth--;
+        }
+        return mGains[0];
+    }
+
+    private int findLeastValuableAttacker(@NotNull Board board, int attackerCount, int teamId, boolean ownTeam) {
+        BoardSize boardSize = board.getBoardSize();
+        int bestSquare = -1;
+        int bestValue = Integer.MAX_VALUE;
+        for (int i = 0; i < attackerCount; i++) {
+            int square = mAttackers[i];
+            if (mRemoved[square]) {
+                continue;
+            }
+
+            Piece piece = board.getPiece(square);
+            if ((piece.getTeamId() == teamId) != ownTeam) {
+                continue;
+            }
+
+            int value = getValue(piece, boardSize);
+            if (value < bestValue) {
+                bestValue = value;
+                bestSquare = square;
+            }
+        }
+        return bestSquare;
+    }
+
+    /**
+     * Takes the attacker on {@code square} out of the exchange and adds any slider or diagonal leaper whose way to
+     * {@code destination} it was blocking.
+     */
+    private int removeAttacker(@NotNull Board board, int square, int destination, int attackerCount) {
+        mRemoved[square] = true;
+
+        // a slider blocked by this piece already attacks its square
+        attackerCount = addAttackersThrough(board, board.getAttackers(square, mScratch), square, destination,
+                attackerCount);
+        return addAttackersThrough(board, board.getLeapersOver(square, mScratch), square, destination, attackerCount);
+    }
+
+    private int addAttackersThrough(@NotNull Board board, int candidateCount, int through, int destination,
+                                    int attackerCount) {
+        for (int i = 0; i < candidateCount; i++) {
+            int candidate = mScratch[i];
+            if (!mRemoved[candidate] && !contains(attackerCount, candidate)
+                    && attacksThrough(board, candidate, through, destination)) {
+                mAttackers[attackerCount++] = candidate;
+            }
+        }
+        return attackerCount;
+    }
+
+    private boolean attacksThrough(@NotNull Board board, int source, int through, int destination) {
+        AttackTable attackTable = board.getPiece(source).getPieceType().getAttackTable(board.getBoardSize());
+        for (int[] ray : attackTable.getCapturingRays(source)) {
+            boolean passedThrough = false;
+            for (int target : ray) {
+                if (target == destination) {
+                    if (passedThrough) {
+                        return true;
+                    }
+                    break;
+                }
+                if (target == through) {
+                    passedThrough = true;
+                } else if (board.getPiece(target) != null && !mRemoved[target]) {
+                    break;
+                }
+            }
+        }
+        for (int[] leap : attackTable.getDiagonalLeaps(source)) {
+            if (leap[leap.length - 1] == destination && leapsThrough(board, leap, through)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return whether {@code through} is in between on {@code leap} and every other square in between is empty
+     */
+    private boolean leapsThrough(@NotNull Board board, @NotNull int[] leap, int through) {
+        boolean passedThrough = false;
+        for (int i = 0; i < leap.length - 1; i++) {
+            if (leap[i] == through) {
+                passedThrough = true;
+            } else if (board.getPiece(leap[i]) != null && !mRemoved[leap[i]]) {
+                return false;
+            }
+        }
+        return passedThrough;
+    }
+
+    private boolean contains(int attackerCount, int square) {
+        for (int i = 0; i < attackerCount; i++) {
+            if (mAttackers[i] == square) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
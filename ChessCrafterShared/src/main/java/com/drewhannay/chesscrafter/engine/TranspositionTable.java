@@ -0,0 +1,211 @@
+package com.drewhannay.chesscrafter.engine;
+
+import com.drewhannay.chesscrafter.models.Board;
+import com.drewhannay.chesscrafter.models.BoardSize;
+import com.drewhannay.chesscrafter.models.Game;
+import com.drewhannay.chesscrafter.models.Move;
+import com.drewhannay.chesscrafter.models.Piece;
+import com.drewhannay.chesscrafter.models.PieceType;
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+
+/**
+ * Fixed-size table of search results keyed by {@link com.drewhannay.chesscrafter.models.Game#getPositionHash()},
+ * meant to be shared by any number of search threads without locking.
+ * <p>
+ * Each entry is two longs: the key XOR the data, then the data. A reader only accepts an entry when the two XOR back to
+ * its key, so an entry torn by concurrent writers reads as a miss instead of as another position's result. Entries
+ * live in buckets of {@value #BUCKET_SIZE}; a store overwrites the same position, an empty entry, or else the entry
+ * from the oldest search with the shallowest depth.
+ * <p>
+ * Data layout, low bits first: move (28 bits, see {@link #packMove}), bound (2), depth (7), generation (6), score (21,
+ * signed).
+ */
+public final class TranspositionTable {
+    public static final int DEFAULT_SIZE_IN_MEGABYTES = 16;
+
+    public static final int BOUND_EXACT = 1;
+    public static final int BOUND_LOWER = 2;
+    public static final int BOUND_UPPER = 3;
+
+    public static final int MAX_DEPTH = 127;
+    public static final int MAX_SCORE = (1 << 20) - 1;
+
+    private static final int BYTES_PER_ENTRY = 16;
+    private static final int BUCKET_SIZE = 4;
+
+    private static final int MOVE_BITS = 28;
+    private static final int MAX_PROMOTION_CODE = 15;
+    private static final int BOUND_SHIFT = MOVE_BITS;
+    private static final int DEPTH_SHIFT = BOUND_SHIFT + 2;
+    private static final int GENERATION_SHIFT = DEPTH_SHIFT + 7;
+    private static final int SCORE_SHIFT = GENERATION_SHIFT + 6;
+    private static final int GENERATION_MASK = (1 << 6) - 1;
+
+    private final long[] mEntries;
+    private final int mBucketMask;
+
+    private volatile int mGeneration;
+
+    public TranspositionTable(int sizeInMegabytes) {
+        Preconditions.checkArgument(sizeInMegabytes > 0 && sizeInMegabytes <= 16 * 1024);
+
+        long bucketCount = ((long) sizeInMegabytes << 20) / (BYTES_PER_ENTRY * BUCKET_SIZE);
+        // round down to a power of two so a bucket can be picked by masking the key
+        int buckets = Integer.highestOneBit((int) Math.min(bucketCount, Integer.MAX_VALUE / (BUCKET_SIZE * 2)));
+
+        mEntries = new long[buckets * BUCKET_SIZE * 2];
+        mBucketMask = buckets - 1;
+    }
+
+    public int getCapacity() {
+        return mEntries.length / 2;
+    }
+
+    /**
+     * Marks the start of a new search; entries from earlier searches become the first to be replaced.
+     */
+    public void newSearch() {
+        mGeneration = (mGeneration + 1) & GENERATION_MASK;
+    }
+
+    public void clear() {
+        for (int i = 0; i < mEntries.length; i++) {
+            mEntries[i] = 0;
+        }
+    }
+
+    /**
+     * @return the stored data for the position, or 0 if there is none
+     */
+    public long probe(long key) {
+        int bucket = getBucketIndex(key);
+        for (int i = bucket; i < bucket + BUCKET_SIZE * 2; i += 2) {
+            long data = mEntries[i + 1];
+            if ((mEntries[i] ^ data) == key && data != 0) {
+                return data;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Does nothing if {@code score} doesn't fit in the table; the position is just searched again next time.
+     */
+    public void store(long key, int depth, int bound, int score, int move) {
+        Preconditions.checkArgument(bound >= BOUND_EXACT && bound <= BOUND_UPPER);
+        if (score < -MAX_SCORE || score > MAX_SCORE) {
+            return;
+        }
+
+        int generation = mGeneration;
+        int bucket = getBucketIndex(key);
+        int replaceIndex = bucket;
+        int replaceWorth = Integer.MAX_VALUE;
+        for (int i = bucket; i < bucket + BUCKET_SIZE * 2; i += 2) {
+            long data = mEntries[i + 1];
+            if (data == 0 || (mEntries[i] ^ data) == key) {
+                replaceIndex = i;
+                // keep the old move when this result didn't find one
+                if (move == 0 && data != 0) {
+                    move = getMove(data);
+                }
+                break;
+            }
+
+            // anything from an earlier search goes before anything from this one, then shallowest first
+            int worth = getDepth(data) + (getGeneration(data) == generation ? MAX_DEPTH + 1 : 0);
+            if (worth < replaceWorth) {
+                replaceWorth = worth;
+                replaceIndex = i;
+            }
+        }
+
+        long data = (move & ((1L << MOVE_BITS) - 1))
+                | ((long) bound << BOUND_SHIFT)
+                | ((long) Math.min(Math.max(depth, 0), MAX_DEPTH) << DEPTH_SHIFT)
+                | ((long) generation << GENERATION_SHIFT)
+                | ((long) score << SCORE_SHIFT);
+        mEntries[replaceIndex] = key ^ data;
+        mEntries[replaceIndex + 1] = data;
+    }
+
+    /**
+     * @return roughly how many entries in a thousand were written by the current search
+     */
+    public int getPermilleFull() {
+        int generation = mGeneration;
+        int sampleCount = Math.min(1000, getCapacity());
+        int usedCount = 0;
+        for (int i = 0; i < sampleCount; i++) {
+            long data = mEntries[i * 2 + 1];
+            if (data != 0 && getGeneration(data) == generation) {
+                usedCount++;
+            }
+        }
+        return usedCount * 1000 / sampleCount;
+    }
+
+    private int getBucketIndex(long key) {
+        // the low bits of the key pick the bucket; mix in the high bits since the XOR check already covers them
+        return (int) ((key ^ (key >>> 32)) & mBucketMask) * BUCKET_SIZE * 2;
+    }
+
+    /**
+     * @param promotionCode 0 for no promotion, otherwise 1-15 identifying the promotion type
+     */
+    public static int packMove(int origin, int destination, int promotionCode) {
+        return origin | (destination << 12) | (promotionCode << 24);
+    }
+
+    /**
+     * Must be called while the moving piece is still on {@code move.origin}. A promotion is coded by the position of
+     * its type among the piece's promotion options sorted by ID, so no two options of one move share a code.
+     *
+     * @return the packed move, or 0 for a promotion to one of the options past the fifteenth, which can't be coded
+     */
+    public static int packMove(@NotNull Game game, @NotNull Move move) {
+        Board board = game.getBoards()[0];
+        BoardSize boardSize = board.getBoardSize();
+
+        int promotionCode = 0;
+        if (move.promotionType != null) {
+            Piece piece = board.getPiece(move.origin);
+            Set<PieceType> options = game.getTeam(piece.getTeamId()).getPiecePromoter().getPromotionOptions(piece);
+            promotionCode = 1;
+            for (PieceType option : options) {
+                if (option.getInternalId().compareTo(move.promotionType) < 0) {
+                    promotionCode++;
+                }
+            }
+            if (promotionCode > MAX_PROMOTION_CODE) {
+                return 0;
+            }
+        }
+        return packMove(boardSize.toSquareIndex(move.origin), boardSize.toSquareIndex(move.destination),
+                promotionCode);
+    }
+
+    public static int getMove(long data) {
+        return (int) (data & ((1L << MOVE_BITS) - 1));
+    }
+
+    public static int getBound(long data) {
+        return (int) (data >>> BOUND_SHIFT) & 3;
+    }
+
+    public static int getDepth(long data) {
+        return (int) (data >>> DEPTH_SHIFT) & MAX_DEPTH;
+    }
+
+    public static int getScore(long data) {
+        // arithmetic shift restores the sign
+        return (int) (data >> SCORE_SHIFT);
+    }
+
+    static int getGeneration(long data) {
+        return (int) (data >>> GENERATION_SHIFT) & GENERATION_MASK;
+    }
+}
@@ -0,0 +1,290 @@
+package com.drewhannay.chesscrafter.logic;
+
+import com.drewhannay.chesscrafter.models.History;
+import com.drewhannay.chesscrafter.models.HistoryCodec;
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Many finished games in one file, each a {@link HistoryCodec} record, read through a memory mapping so a game can be
+ * looked up by index without parsing the others:
+ * <pre>
+ * header     int magic, byte version, long archive length
+ * records    one per game, back to back
+ * footer     int game count, long record offset per game, varint string count, strings
+ * trailer    long footer offset, int magic
+ * </pre>
+ * New games are appended by a {@link Writer}, which writes the records after the current footer and, when closed, a
+ * new footer and trailer after them. Only then is the length in the header moved past the new trailer, so until a
+ * writer is closed readers keep seeing the old footer, and bytes left behind by a writer that never got closed are
+ * ignored and later overwritten. Every append leaves its old footer behind as dead space.
+ * The whole file is mapped at once, so an archive is limited to 2 GB.
+ * <p>
+ * Reading is thread safe.
+ */
+public final class GameArchive {
+    private static final int MAGIC = 0x43434741;
+    private static final int FOOTER_MAGIC = 0x43434746;
+    private static final byte VERSION = 2;
+    private static final int HEADER_SIZE = 13;
+    private static final int LENGTH_OFFSET = 5;
+    private static final int TRAILER_SIZE = 12;
+
+    private final ByteBuffer mBuffer;
+    private final long mFooterOffset;
+    private final int mGameCount;
+    private final HistoryCodec mCodec;
+
+    private GameArchive(@NotNull ByteBuffer buffer, long footerOffset, int gameCount, @NotNull HistoryCodec codec) {
+        mBuffer = buffer;
+        mFooterOffset = footerOffset;
+        mGameCount = gameCount;
+        mCodec = codec;
+    }
+
+    @NotNull
+    public static GameArchive open(@NotNull File file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Game archive too large: " + file.getPath());
+            }
+            // the mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        try {
+            return read(buffer);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | BufferUnderflowException e) {
+            throw new IOException("Not a game archive: " + file.getPath(), e);
+        }
+    }
+
+    @NotNull
+    private static GameArchive read(@NotNull ByteBuffer buffer) {
+        Preconditions.checkArgument(buffer.limit() >= HEADER_SIZE + TRAILER_SIZE);
+        Preconditions.checkArgument(buffer.getInt(0) == MAGIC && buffer.get(4) == VERSION);
+        long length = buffer.getLong(LENGTH_OFFSET);
+        Preconditions.checkArgument(length >= HEADER_SIZE + TRAILER_SIZE && length <= buffer.limit());
+        int size = (int) length;
+        buffer.limit(size);
+        Preconditions.checkArgument(buffer.getInt(size - 4) == FOOTER_MAGIC);
+
+        long footerOffset = buffer.getLong(size - TRAILER_SIZE);
+        Preconditions.checkArgument(footerOffset >= HEADER_SIZE && footerOffset <= size - TRAILER_SIZE - 4);
+
+        ByteBuffer footer = buffer.duplicate();
+        footer.position((int) footerOffset);
+        int gameCount = footer.getInt();
+        Preconditions.checkArgument(gameCount >= 0 && gameCount <= footer.remaining() / 8);
+        footer.position(footer.position() + gameCount * 8);
+
+        return new GameArchive(buffer, footerOffset, gameCount, new HistoryCodec(readStrings(footer)));
+    }
+
+    @NotNull
+    private static List<String> readStrings(@NotNull ByteBuffer footer) {
+        int stringCount = HistoryCodec.readVarint(footer);
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < stringCount; i++) {
+            strings.add(HistoryCodec.readString(footer));
+        }
+        return strings;
+    }
+
+    public int getGameCount() {
+        return mGameCount;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the record is damaged
+     */
+    @NotNull
+    public History getHistory(int index) {
+        Preconditions.checkElementIndex(index, mGameCount);
+
+        ByteBuffer record = mBuffer.duplicate();
+        long offset = getRecordOffset(index);
+        Preconditions.checkArgument(offset >= HEADER_SIZE && offset < mFooterOffset, "Bad record offset");
+        record.position((int) offset);
+        record.limit((int) mFooterOffset);
+        return mCodec.decode(record);
+    }
+
+    private long getRecordOffset(int index) {
+        return mBuffer.getLong((int) mFooterOffset + 4 + index * 8);
+    }
+
+    /**
+     * Appends games to an archive; not thread safe.
+     */
+    public static final class Writer implements Closeable {
+        private final FileChannel mChannel;
+        private final DataOutputStream mOut;
+        private final HistoryCodec mCodec;
+
+        private long[] mOffsets;
+        private int mGameCount;
+        private long mPosition;
+
+        private Writer(@NotNull FileChannel channel, long position, @NotNull long[] offsets, int gameCount,
+                       @NotNull HistoryCodec codec) {
+            mChannel = channel;
+            mOut = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            mCodec = codec;
+            mOffsets = offsets;
+            mGameCount = gameCount;
+            mPosition = position;
+        }
+
+        /**
+         * Opens {@code file} for appending, creating a new archive if it doesn't exist or is empty.
+         */
+        @NotNull
+        public static Writer append(@NotNull File file) throws IOException {
+            FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            try {
+                if (channel.size() == 0) {
+                    writeEmptyArchive(channel);
+                }
+
+                // read the footer without mapping the file; a mapped file can't be truncated on Windows
+                long size = channel.size();
+                if (size < HEADER_SIZE + TRAILER_SIZE) {
+                    throw new IOException("Not a game archive: " + file.getPath());
+                }
+                ByteBuffer header = read(channel, 0, HEADER_SIZE);
+                if (header.getInt() != MAGIC || header.get() != VERSION) {
+                    throw new IOException("Not a game archive: " + file.getPath());
+                }
+                long length = header.getLong();
+                if (length < HEADER_SIZE + TRAILER_SIZE || length > size) {
+                    throw new IOException("Not a game archive: " + file.getPath());
+                }
+                ByteBuffer trailer = read(channel, length - TRAILER_SIZE, TRAILER_SIZE);
+                long footerOffset = trailer.getLong();
+                if (trailer.getInt() != FOOTER_MAGIC || footerOffset < HEADER_SIZE
+                        || footerOffset > length - TRAILER_SIZE - 4) {
+                    throw new IOException("Not a game archive: " + file.getPath());
+                }
+
+                ByteBuffer footer = read(channel, footerOffset, (int) (length - TRAILER_SIZE - footerOffset));
+                long[] offsets;
+                int gameCount;
+                HistoryCodec codec;
+                try {
+                    gameCount = footer.getInt();
+                    Preconditions.checkArgument(gameCount >= 0 && gameCount <= footer.remaining() / 8);
+                    offsets = new long[Math.max(gameCount * 2, 16)];
+                    for (int i = 0; i < gameCount; i++) {
+                        offsets[i] = footer.getLong();
+                    }
+                    codec = new HistoryCodec(readStrings(footer));
+                } catch (IllegalArgumentException | BufferUnderflowException e) {
+                    throw new IOException("Not a game archive: " + file.getPath(), e);
+                }
+
+                // anything past the length was left by a writer that never got closed
+                channel.truncate(length);
+                channel.position(length);
+                return new Writer(channel, length, offsets, gameCount, codec);
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        private static void writeEmptyArchive(@NotNull FileChannel channel) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + 5 + TRAILER_SIZE);
+            buffer.putInt(MAGIC);
+            buffer.put(VERSION);
+            buffer.putLong(buffer.capacity());
+            buffer.putInt(0);
+            buffer.put((byte) 0);
+            buffer.putLong(HEADER_SIZE);
+            buffer.putInt(FOOTER_MAGIC);
+            buffer.flip();
+            writeFully(channel, buffer, 0);
+            channel.force(false);
+        }
+
+        @NotNull
+        private static ByteBuffer read(@NotNull FileChannel channel, long position, int length) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new EOFException();
+                }
+            }
+            buffer.flip();
+            return buffer;
+        }
+
+        private static void writeFully(@NotNull FileChannel channel, @NotNull ByteBuffer buffer, long position)
+                throws IOException {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, position + buffer.position());
+            }
+        }
+
+        public void write(@NotNull History history) throws IOException {
+            byte[] record = mCodec.encode(history);
+            if (mGameCount == mOffsets.length) {
+                mOffsets = Arrays.copyOf(mOffsets, mGameCount * 2);
+            }
+            mOffsets[mGameCount++] = mPosition;
+            mOut.write(record);
+            mPosition += record.length;
+        }
+
+        public int getGameCount() {
+            return mGameCount;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                mOut.writeInt(mGameCount);
+                for (int i = 0; i < mGameCount; i++) {
+                    mOut.writeLong(mOffsets[i]);
+                }
+                List<String> strings = mCodec.getStrings();
+                HistoryCodec.writeVarint(mOut, strings.size());
+                for (String string : strings) {
+                    HistoryCodec.writeString(mOut, string);
+                }
+                mOut.writeLong(mPosition);
+                mOut.writeInt(FOOTER_MAGIC);
+                mOut.flush();
+                mChannel.force(false);
+
+                // the new footer is durable, so readers can switch over to it
+                ByteBuffer length = ByteBuffer.allocate(8);
+                length.putLong(mChannel.position());
+                length.flip();
+                writeFully(mChannel, length, LENGTH_OFFSET);
+                mChannel.force(false);
+            } finally {
+                mOut.close();
+            }
+        }
+    }
+}
@@ -68,8 +68,9 @@ public final class GameBuilder {
         Board[] boards = buildBoards(config.boards);
         Team[] teams = buildTeams(config.teams);
 
-        TurnKeeper turnKeeper = new TurnKeeper(config.turnKeeper.teamIds, config.turnKeeper.turnCounts,
-                config.turnKeeper.turnIncrements);
+        // TurnKeeper updates its turn counts in place, so each game needs its own copies
+        TurnKeeper turnKeeper = new TurnKeeper(config.turnKeeper.teamIds.clone(), config.turnKeeper.turnCounts.clone(),
+                config.turnKeeper.turnIncrements.clone());
 
         return new Game(config.name, config.internalGameId, boards, teams, turnKeeper, history);
     }
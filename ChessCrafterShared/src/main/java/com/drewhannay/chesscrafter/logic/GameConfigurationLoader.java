@@ -0,0 +1,71 @@
+package com.drewhannay.chesscrafter.logic;
+
+import com.drewhannay.chesscrafter.models.JsonAdapters;
+import com.drewhannay.chesscrafter.models.PieceType;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Reads the .craftconfig and .piece files the Desktop app saves, for the command line tools.
+ */
+public final class GameConfigurationLoader {
+    private static final String PIECE_EXTENSION = ".piece";
+
+    private GameConfigurationLoader() {
+    }
+
+    /**
+     * Registers the custom piece types in {@code pieceDirPath}, if given, then reads the configuration.
+     *
+     * @param configPath a .craftconfig file, or null for the classic configuration
+     */
+    @NotNull
+    public static GameConfiguration load(@Nullable String configPath, @Nullable String pieceDirPath)
+            throws IOException {
+        Gson gson = JsonAdapters.registerTypeAdapters(new GsonBuilder()).create();
+        if (pieceDirPath != null) {
+            registerPieceTypes(gson, new File(pieceDirPath));
+        }
+
+        if (configPath == null) {
+            return GameBuilder.getClassicConfiguration();
+        }
+        try (Reader reader = openFile(new File(configPath))) {
+            return gson.fromJson(reader, GameConfiguration.class);
+        }
+    }
+
+    private static void registerPieceTypes(Gson gson, File pieceDir) throws IOException {
+        File[] pieceFiles = pieceDir.listFiles();
+        if (pieceFiles == null) {
+            throw new IOException("Failed to list files in piece directory: " + pieceDir.getPath());
+        }
+
+        for (File file : pieceFiles) {
+            if (!file.getName().endsWith(PIECE_EXTENSION)) {
+                continue;
+            }
+            try (Reader reader = openFile(file)) {
+                PieceType pieceType = gson.fromJson(reader, PieceType.class);
+                if (pieceType != null && !PieceTypeManager.INSTANCE.hasPieceTypeWithId(pieceType.getInternalId())) {
+                    PieceTypeManager.INSTANCE.registerPieceType(pieceType);
+                }
+            } catch (JsonParseException e) {
+                System.err.println("Skipping unreadable piece file: " + file.getPath());
+            }
+        }
+    }
+
+    private static Reader openFile(File file) throws IOException {
+        return Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,126 @@
+package com.drewhannay.chesscrafter.logic;
+
+import com.drewhannay.chesscrafter.models.BoardCoordinate;
+import com.drewhannay.chesscrafter.models.Game;
+import com.drewhannay.chesscrafter.models.Move;
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Counts the leaf nodes of the legal move tree of a game, which is how move generation changes get validated against
+ * known counts and timed.
+ */
+public final class Perft {
+
+    private final GameConfiguration mConfig;
+
+    public Perft(@NotNull GameConfiguration config) {
+        Preconditions.checkArgument(config != null);
+
+        mConfig = config;
+    }
+
+    public long run(int depth) {
+        Preconditions.checkArgument(depth >= 0);
+
+        return perft(GameBuilder.buildGame(mConfig), depth);
+    }
+
+    /**
+     * @return the leaf count below each legal root move, in generation order
+     */
+    @NotNull
+    public Map<Move, Long> divide(final int depth, int threadCount) {
+        Preconditions.checkArgument(depth >= 1);
+        Preconditions.checkArgument(threadCount >= 1);
+
+        List<Move> rootMoves = GameBuilder.buildGame(mConfig).getLegalMoves();
+        Map<Move, Long> results = new LinkedHashMap<>();
+
+        if (threadCount == 1) {
+            Game game = GameBuilder.buildGame(mConfig);
+            for (Move move : rootMoves) {
+                game.executeMove(move);
+                results.put(move, perft(game, depth - 1));
+                game.undoMove();
+            }
+            return results;
+        }
+
+        // a Game isn't thread safe, so every subtree gets its own copy built from the configuration
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<Long>> futures = new ArrayList<>(rootMoves.size());
+            for (final Move move : rootMoves) {
+                futures.add(executor.submit(new Callable<Long>() {
+                    @Override
+                    public Long call() {
+                        Game game = GameBuilder.buildGame(mConfig);
+                        game.executeMove(move);
+                        return perft(game, depth - 1);
+                    }
+                }));
+            }
+
+            for (int i = 0; i < rootMoves.size(); i++) {
+                results.put(rootMoves.get(i), futures.get(i).get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Perft was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Perft failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    public static long perft(@NotNull Game game, int depth) {
+        if (depth == 0) {
+            return 1;
+        }
+        if (game.getHistory().isComplete()) {
+            return 0;
+        }
+
+        List<Move> moves = game.getLegalMoves();
+        if (depth == 1) {
+            return moves.size();
+        }
+
+        long nodes = 0;
+        for (Move move : moves) {
+            game.executeMove(move);
+            nodes += perft(game, depth - 1);
+            game.undoMove();
+        }
+        return nodes;
+    }
+
+    /**
+     * @return the move in coordinate notation, e.g. "e2e4" or "e7e8=Queen"
+     */
+    @NotNull
+    public static String toNotation(@NotNull Move move) {
+        String notation = toNotation(move.origin) + toNotation(move.destination);
+        return move.promotionType != null ? notation + "=" + move.promotionType : notation;
+    }
+
+    private static String toNotation(@NotNull BoardCoordinate coordinate) {
+        if (coordinate.x > 26) {
+            return "(" + coordinate.x + "," + coordinate.y + ")";
+        }
+        return String.valueOf((char) ('a' + coordinate.x - 1)) + coordinate.y;
+    }
+}
@@ -0,0 +1,89 @@
+package com.drewhannay.chesscrafter.logic;
+
+import com.drewhannay.chesscrafter.models.Move;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Command line entry point for {@link Perft}:
+ * <pre>
+ * PerftCommand [--config file.craftconfig] [--pieces dir] [--divide] [--threads n] depth
+ * </pre>
+ * Without --config the classic configuration is used. Custom piece types referenced by the configuration are read
+ * from the .piece files in --pieces.
+ */
+public final class PerftCommand {
+    private static final String USAGE =
+            "usage: PerftCommand [--config file.craftconfig] [--pieces dir] [--divide] [--threads n] depth";
+
+    private PerftCommand() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        String configPath = null;
+        String pieceDirPath = null;
+        boolean divide = false;
+        int threadCount = 1;
+        int depth = -1;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--config":
+                        configPath = args[++i];
+                        break;
+                    case "--pieces":
+                        pieceDirPath = args[++i];
+                        break;
+                    case "--divide":
+                        divide = true;
+                        break;
+                    case "--threads":
+                        threadCount = Integer.parseInt(args[++i]);
+                        break;
+                    default:
+                        depth = Integer.parseInt(args[i]);
+                        break;
+                }
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            depth = -1;
+        }
+
+        if (depth < 1 || threadCount < 1) {
+            System.err.println(USAGE);
+            System.exit(1);
+            return;
+        }
+
+        GameConfiguration config = GameConfigurationLoader.load(configPath, pieceDirPath);
+
+        Perft perft = new Perft(config);
+        long start = System.nanoTime();
+        long nodes;
+        if (divide || threadCount > 1) {
+            nodes = 0;
+            Map<Move, Long> results = perft.divide(depth, threadCount);
+            for (Map.Entry<Move, Long> entry : results.entrySet()) {
+                if (divide) {
+                    System.out.println(Perft.toNotation(entry.getKey()) + ": " + entry.getValue());
+                }
+                nodes += entry.getValue();
+            }
+            if (divide) {
+                System.out.println("moves: " + results.size());
+            }
+        } else {
+            nodes = perft.run(depth);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        long nodesPerSecond = elapsedNanos > 0 ? (long) (nodes / (elapsedNanos / 1e9)) : 0;
+        System.out.println("nodes: " + nodes);
+        System.out.println("time: " + elapsedMillis + " ms");
+        System.out.println("nps: " + nodesPerSecond);
+    }
+}
@@ -1,5 +1,7 @@
 package com.drewhannay.chesscrafter.logic;
 
+import com.drewhannay.chesscrafter.models.AttackTable;
+import com.drewhannay.chesscrafter.models.BoardSize;
 import com.drewhannay.chesscrafter.models.CardinalMovement;
 import com.drewhannay.chesscrafter.models.Direction;
 import com.drewhannay.chesscrafter.models.PieceType;
@@ -11,6 +13,8 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public enum PieceTypeManager {
     INSTANCE;
@@ -23,9 +27,14 @@ public enum PieceTypeManager {
     public static final String QUEEN_ID = "Queen";
     public static final String ROOK_ID = "Rook";
 
+    // puts a queen on the classic board close to her usual 900
+    private static final int VALUE_PER_MOBILITY_SQUARE = 40;
+    // how much a square that reaches one more target than average is worth
+    private static final int POSITIONAL_VALUE_PER_MOBILITY_SQUARE = 5;
 
     private final Set<PieceType> mPieceTypes;
     private final Set<String> mSystemPieceIds;
+    private final ConcurrentMap<PieceType, ConcurrentMap<BoardSize, Valuation>> mValuations;
 
     PieceTypeManager() {
         mPieceTypes = new HashSet<>();
@@ -41,6 +50,8 @@ public enum PieceTypeManager {
         for (PieceType pieceType : mPieceTypes) {
             mSystemPieceIds.add(pieceType.getInternalId());
         }
+
+        mValuations = new ConcurrentHashMap<>();
     }
 
     @NotNull
@@ -76,7 +87,96 @@ public enum PieceTypeManager {
     public void unregisterPieceType(@NotNull String internalId) {
         Preconditions.checkArgument(hasPieceTypeWithId(internalId), "Unknown PieceType");
 
-        mPieceTypes.remove(getPieceTypeById(internalId));
+        PieceType pieceType = getPieceTypeById(internalId);
+        mPieceTypes.remove(pieceType);
+        mValuations.remove(pieceType);
+    }
+
+    /**
+     * Derives a material value from how many squares the piece type reaches, averaged over every square of an empty
+     * board of the given size. Quiet, capturing and two-hop movements all count, each square once. Values are cached
+     * per piece type and board size, and this method may be called from any thread.
+     */
+    public int getMaterialValue(@NotNull PieceType pieceType, @NotNull BoardSize boardSize) {
+        return getValuation(pieceType, boardSize).materialValue;
+    }
+
+    /**
+     * Material value plus a bonus for each square, indexed by {@link BoardSize#toSquareIndex(int, int)}. The bonus
+     * grows with how many more targets than average the piece type reaches from the square, so pieces are drawn to
+     * where they are most mobile. Cached like {@link #getMaterialValue}; callers must not modify the array.
+     */
+    @NotNull
+    public int[] getPieceSquareTable(@NotNull PieceType pieceType, @NotNull BoardSize boardSize) {
+        return getValuation(pieceType, boardSize).pieceSquareTable;
+    }
+
+    @NotNull
+    private Valuation getValuation(@NotNull PieceType pieceType, @NotNull BoardSize boardSize) {
+        ConcurrentMap<BoardSize, Valuation> valuations = mValuations.get(pieceType);
+        if (valuations == null) {
+            valuations = new ConcurrentHashMap<>();
+            ConcurrentMap<BoardSize, Valuation> existing = mValuations.putIfAbsent(pieceType, valuations);
+            if (existing != null) {
+                valuations = existing;
+            }
+        }
+
+        Valuation valuation = valuations.get(boardSize);
+        if (valuation == null) {
+            valuation = computeValuation(pieceType, boardSize);
+            valuations.put(boardSize, valuation);
+        }
+        return valuation;
+    }
+
+    @NotNull
+    private static Valuation computeValuation(@NotNull PieceType pieceType, @NotNull BoardSize boardSize) {
+        AttackTable attackTable = pieceType.getAttackTable(boardSize);
+        int squareCount = boardSize.getSquareCount();
+
+        // the last square each target was counted from, so overlapping movements only count a target once
+        int[] countedFrom = new int[squareCount];
+        int[] mobility = new int[squareCount];
+        long totalMobility = 0;
+        for (int square = 0; square < squareCount; square++) {
+            int mark = square + 1;
+            for (int[] ray : attackTable.getRays(square)) {
+                mobility[square] += countTargets(ray, countedFrom, mark);
+            }
+            for (int[] ray : attackTable.getCapturingRays(square)) {
+                mobility[square] += countTargets(ray, countedFrom, mark);
+            }
+            mobility[square] += countTargets(attackTable.getLeaperTargets(square), countedFrom, mark);
+            for (int[] leap : attackTable.getDiagonalLeaps(square)) {
+                mobility[square] += countTargets(leap, leap.length - 1, countedFrom, mark);
+            }
+            totalMobility += mobility[square];
+        }
+
+        double averageMobility = (double) totalMobility / squareCount;
+        int materialValue = (int) Math.round(averageMobility * VALUE_PER_MOBILITY_SQUARE);
+        int[] pieceSquareTable = new int[squareCount];
+        for (int square = 0; square < squareCount; square++) {
+            pieceSquareTable[square] = materialValue
+                    + (int) Math.round((mobility[square] - averageMobility) * POSITIONAL_VALUE_PER_MOBILITY_SQUARE);
+        }
+        return new Valuation(materialValue, pieceSquareTable);
+    }
+
+    private static int countTargets(@NotNull int[] targets, @NotNull int[] countedFrom, int mark) {
+        return countTargets(targets, 0, countedFrom, mark);
+    }
+
+    private static int countTargets(@NotNull int[] targets, int start, @NotNull int[] countedFrom, int mark) {
+        int count = 0;
+        for (int i = start; i < targets.length; i++) {
+            if (countedFrom[targets[i]] != mark) {
+                countedFrom[targets[i]] = mark;
+                count++;
+            }
+        }
+        return count;
     }
 
     public static PieceType getBishopPieceType() {
@@ -146,4 +246,14 @@ public enum PieceTypeManager {
     public boolean isSystemPiece(@NotNull String internalId) {
         return mSystemPieceIds.contains(internalId);
     }
+
+    private static final class Valuation {
+        final int materialValue;
+        final int[] pieceSquareTable;
+
+        Valuation(int materialValue, @NotNull int[] pieceSquareTable) {
+            this.materialValue = materialValue;
+            this.pieceSquareTable = pieceSquareTable;
+        }
+    }
 }
@@ -0,0 +1,268 @@
+package com.drewhannay.chesscrafter.models;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Squares attacked by every piece on a {@link Board}, kept up to date as pieces are set and cleared. A piece attacks
+ * the squares it could capture on: its capturing rays up to and including the first occupied square, its leaper
+ * targets, and the targets of its diagonal leaps with nothing in between. Squares are addressed by {@link
+ * BoardSize#toSquareIndex(int, int)}.
+ */
+final class AttackMap {
+    private final Board mBoard;
+    private final BoardSize mBoardSize;
+
+    private final BitSet[] mAttackersOf;
+    private final BitSet[] mLeapersOver;
+    private final BitSet mAffected;
+    private final int[][] mAttacks;
+    private final int[] mAttackCounts;
+    private final int[] mAffectedSquares;
+
+    private int[] mTeamIds;
+    private int[][] mTeamAttackCounts;
+    private int[] mObjectiveSquares;
+    private int mTeamCount;
+
+    private final Map<PieceType, AttackTable> mAttackTables;
+
+    AttackMap(@NotNull Board board) {
+        mBoard = board;
+        mBoardSize = board.getBoardSize();
+
+        int squareCount = mBoardSize.getSquareCount();
+        mAttackersOf = new BitSet[squareCount];
+        mLeapersOver = new BitSet[squareCount];
+        mAttacks = new int[squareCount][];
+        mAttackCounts = new int[squareCount];
+        for (int square = 0; square < squareCount; square++) {
+            mAttackersOf[square] = new BitSet(squareCount);
+            mLeapersOver[square] = new BitSet(squareCount);
+            mAttacks[square] = new int[8];
+        }
+        mAffected = new BitSet(squareCount);
+        mAffectedSquares = new int[squareCount];
+
+        mTeamIds = new int[2];
+        mTeamAttackCounts = new int[2][];
+        mObjectiveSquares = new int[2];
+
+        mAttackTables = new IdentityHashMap<>();
+    }
+
+    /**
+     * Must be called after the board already holds {@code newPiece} on {@code square}.
+     */
+    void setPiece(int square, @Nullable Piece oldPiece, @Nullable Piece newPiece) {
+        // sliders that reach this square and diagonal leapers that pass over it are the only other pieces whose
+        // attacks can change
+        mAffected.clear();
+        mAffected.or(mAttackersOf[square]);
+        mAffected.or(mLeapersOver[square]);
+        int affectedCount = 0;
+        for (int source = mAffected.nextSetBit(0); source >= 0; source = mAffected.nextSetBit(source + 1)) {
+            mAffectedSquares[affectedCount++] = source;
+        }
+
+        if (oldPiece != null) {
+            removeAttacks(square, oldPiece);
+            if (oldPiece.isObjectivePiece()) {
+                int teamSlot = getTeamSlot(oldPiece.getTeamId());
+                if (mObjectiveSquares[teamSlot] == square) {
+                    mObjectiveSquares[teamSlot] = -1;
+                }
+            }
+        }
+        for (int i = 0; i < affectedCount; i++) {
+            removeAttacks(mAffectedSquares[i], mBoard.getPiece(mAffectedSquares[i]));
+        }
+
+        if (newPiece != null) {
+            addAttacks(square, newPiece);
+            if (newPiece.isObjectivePiece()) {
+                mObjectiveSquares[getTeamSlot(newPiece.getTeamId())] = square;
+            }
+        }
+        for (int i = 0; i < affectedCount; i++) {
+            addAttacks(mAffectedSquares[i], mBoard.getPiece(mAffectedSquares[i]));
+        }
+    }
+
+    boolean isAttacked(int square, int teamId) {
+        return getAttackerCount(square, teamId) > 0;
+    }
+
+    int getAttackerCount(int square, int teamId) {
+        int teamSlot = findTeamSlot(teamId);
+        return teamSlot < 0 ? 0 : mTeamAttackCounts[teamSlot][square];
+    }
+
+    int getOpponentAttackerCount(int square, int teamId) {
+        int count = 0;
+        for (int i = 0; i < mTeamCount; i++) {
+            if (mTeamIds[i] != teamId) {
+                count += mTeamAttackCounts[i][square];
+            }
+        }
+        return count;
+    }
+
+    int getOpponentAttackers(int square, int teamId, @NotNull int[] attackers) {
+        BitSet attackersOf = mAttackersOf[square];
+        int count = 0;
+        for (int source = attackersOf.nextSetBit(0); source >= 0; source = attackersOf.nextSetBit(source + 1)) {
+            if (mBoard.getPiece(source).getTeamId() != teamId) {
+                attackers[count++] = source;
+            }
+        }
+        return count;
+    }
+
+    int getAttackers(int square, @NotNull int[] attackers) {
+        BitSet attackersOf = mAttackersOf[square];
+        int count = 0;
+        for (int source = attackersOf.nextSetBit(0); source >= 0; source = attackersOf.nextSetBit(source + 1)) {
+            attackers[count++] = source;
+        }
+        return count;
+    }
+
+    void generateCaptures(int source, @NotNull MoveBuffer moves) {
+        int teamId = mBoard.getPiece(source).getTeamId();
+        int[] attacks = mAttacks[source];
+        for (int i = 0; i < mAttackCounts[source]; i++) {
+            Piece target = mBoard.getPiece(attacks[i]);
+            if (target != null && target.getTeamId() != teamId) {
+                moves.add(source, attacks[i], MoveBuffer.FLAG_CAPTURE);
+            }
+        }
+    }
+
+    int getLeapersOver(int square, @NotNull int[] leapers) {
+        BitSet leapersOver = mLeapersOver[square];
+        int count = 0;
+        for (int source = leapersOver.nextSetBit(0); source >= 0; source = leapersOver.nextSetBit(source + 1)) {
+            leapers[count++] = source;
+        }
+        return count;
+    }
+
+    int getObjectivePieceSquare(int teamId) {
+        int teamSlot = findTeamSlot(teamId);
+        if (teamSlot < 0) {
+            return -1;
+        }
+
+        if (mObjectiveSquares[teamSlot] < 0) {
+            for (int square = 0; square < mBoardSize.getSquareCount(); square++) {
+                Piece piece = mBoard.getPiece(square);
+                if (piece != null && piece.getTeamId() == teamId && piece.isObjectivePiece()) {
+                    mObjectiveSquares[teamSlot] = square;
+                    break;
+                }
+            }
+        }
+        return mObjectiveSquares[teamSlot];
+    }
+
+    private void addAttacks(int source, @NotNull Piece piece) {
+        AttackTable attackTable = getAttackTable(piece.getPieceType());
+        int teamSlot = getTeamSlot(piece.getTeamId());
+
+        for (int[] ray : attackTable.getCapturingRays(source)) {
+            for (int target : ray) {
+                addAttack(source, target, teamSlot);
+                if (mBoard.getPiece(target) != null) {
+                    break;
+                }
+            }
+        }
+        for (int target : attackTable.getLeaperTargets(source)) {
+            addAttack(source, target, teamSlot);
+        }
+        for (int[] leap : attackTable.getDiagonalLeaps(source)) {
+            boolean blocked = false;
+            for (int i = 0; i < leap.length - 1; i++) {
+                mLeapersOver[leap[i]].set(source);
+                blocked |= mBoard.getPiece(leap[i]) != null;
+            }
+            if (!blocked) {
+                addAttack(source, leap[leap.length - 1], teamSlot);
+            }
+        }
+    }
+
+    private void addAttack(int source, int target, int teamSlot) {
+        BitSet attackers = mAttackersOf[target];
+        if (attackers.get(source)) {
+            return;
+        }
+        attackers.set(source);
+        mTeamAttackCounts[teamSlot][target]++;
+
+        int[] attacks = mAttacks[source];
+        if (mAttackCounts[source] == attacks.length) {
+            attacks = Arrays.copyOf(attacks, attacks.length * 2);
+            mAttacks[source] = attacks;
+        }
+        attacks[mAttackCounts[source]++] = target;
+    }
+
+    private void removeAttacks(int source, @NotNull Piece piece) {
+        int teamSlot = getTeamSlot(piece.getTeamId());
+
+        int[] attacks = mAttacks[source];
+        for (int i = 0; i < mAttackCounts[source]; i++) {
+            mAttackersOf[attacks[i]].clear(source);
+            mTeamAttackCounts[teamSlot][attacks[i]]--;
+        }
+        mAttackCounts[source] = 0;
+
+        for (int[] leap : getAttackTable(piece.getPieceType()).getDiagonalLeaps(source)) {
+            for (int i = 0; i < leap.length - 1; i++) {
+                mLeapersOver[leap[i]].clear(source);
+            }
+        }
+    }
+
+    @NotNull
+    private AttackTable getAttackTable(@NotNull PieceType pieceType) {
+        AttackTable attackTable = mAttackTables.get(pieceType);
+        if (attackTable == null) {
+            attackTable = pieceType.getAttackTable(mBoardSize);
+            mAttackTables.put(pieceType, attackTable);
+        }
+        return attackTable;
+    }
+
+    private int findTeamSlot(int teamId) {
+        for (int i = 0; i < mTeamCount; i++) {
+            if (mTeamIds[i] == teamId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int getTeamSlot(int teamId) {
+        int slot = findTeamSlot(teamId);
+        if (slot >= 0) {
+            return slot;
+        }
+        if (mTeamCount == mTeamIds.length) {
+            mTeamIds = Arrays.copyOf(mTeamIds, mTeamCount * 2);
+            mTeamAttackCounts = Arrays.copyOf(mTeamAttackCounts, mTeamCount * 2);
+            mObjectiveSquares = Arrays.copyOf(mObjectiveSquares, mTeamCount * 2);
+        }
+        mTeamIds[mTeamCount] = teamId;
+        mTeamAttackCounts[mTeamCount] = new int[mBoardSize.getSquareCount()];
+        mObjectiveSquares[mTeamCount] = -1;
+        return mTeamCount++;
+    }
+}
@@ -0,0 +1,179 @@
+package com.drewhannay.chesscrafter.models;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Precomputed destination squares for one {@link PieceType} on one {@link BoardSize}. Squares are addressed by
+ * {@link BoardSize#toSquareIndex(int, int)}; rays are ordered outward from the origin and clamped to the movement's
+ * distance. Diagonal leaps such as (2, 2) are kept apart from the other leaper targets because a piece on the diagonal
+ * in between blocks them, the same as it would block a slider.
+ */
+public final class AttackTable {
+    private static final int[] NO_SQUARES = new int[0];
+
+    private final BoardSize mBoardSize;
+    private final int[][][] mRays;
+    private final int[][][] mCapturingRays;
+    private final int[][] mLeaperTargets;
+    private final int[][][] mDiagonalLeaps;
+
+    AttackTable(@NotNull BoardSize boardSize, @NotNull Collection<CardinalMovement> movements,
+                @NotNull Collection<CardinalMovement> capturingMovements,
+                @NotNull Collection<TwoHopMovement> twoHopMovements) {
+        mBoardSize = boardSize;
+
+        int squareCount = boardSize.getSquareCount();
+        mRays = new int[squareCount][][];
+        mCapturingRays = new int[squareCount][][];
+        mLeaperTargets = new int[squareCount][];
+        mDiagonalLeaps = new int[squareCount][][];
+        for (int square = 0; square < squareCount; square++) {
+            mRays[square] = computeRays(square, movements);
+            mCapturingRays[square] = computeRays(square, capturingMovements);
+            mLeaperTargets[square] = computeLeaperTargets(square, twoHopMovements);
+            mDiagonalLeaps[square] = computeDiagonalLeaps(square, twoHopMovements);
+        }
+    }
+
+    @NotNull
+    public BoardSize getBoardSize() {
+        return mBoardSize;
+    }
+
+    /**
+     * @return one ordered ray per non-capturing movement; callers must not modify the arrays
+     */
+    @NotNull
+    public int[][] getRays(int square) {
+        return mRays[square];
+    }
+
+    /**
+     * @return one ordered ray per capturing movement; callers must not modify the arrays
+     */
+    @NotNull
+    public int[][] getCapturingRays(int square) {
+        return mCapturingRays[square];
+    }
+
+    /**
+     * @return the distinct on-board targets of the leaps that can't be blocked; callers must not modify the array
+     */
+    @NotNull
+    public int[] getLeaperTargets(int square) {
+        return mLeaperTargets[square];
+    }
+
+    /**
+     * @return one ray per diagonal leap, holding the squares in between ordered outward followed by the target, which
+     * is only reached when every square before it is empty; callers must not modify the arrays
+     */
+    @NotNull
+    public int[][] getDiagonalLeaps(int square) {
+        return mDiagonalLeaps[square];
+    }
+
+    /**
+     * @return whether {@code movement} is a diagonal leap that passes over other squares, such as (2, 2)
+     */
+    public static boolean isBlockable(@NotNull TwoHopMovement movement) {
+        return movement.x == movement.y && movement.x > 1;
+    }
+
+    @NotNull
+    private int[][] computeRays(int square, @NotNull Collection<CardinalMovement> movements) {
+        int x = square % mBoardSize.width;
+        int y = square / mBoardSize.width;
+
+        int[][] rays = new int[movements.size()][];
+        int rayIndex = 0;
+        for (CardinalMovement movement : movements) {
+            int[] ray = new int[Math.max(mBoardSize.width, mBoardSize.height)];
+            int length = 0;
+
+            int targetX = x + movement.direction.dx;
+            int targetY = y + movement.direction.dy;
+            while (length < movement.distance && isOnBoard(targetX, targetY)) {
+                ray[length++] = targetX + targetY * mBoardSize.width;
+                targetX += movement.direction.dx;
+                targetY += movement.direction.dy;
+            }
+
+            rays[rayIndex++] = length == 0 ? NO_SQUARES : Arrays.copyOf(ray, length);
+        }
+        return rays;
+    }
+
+    @NotNull
+    private int[] computeLeaperTargets(int square, @NotNull Collection<TwoHopMovement> twoHopMovements) {
+        if (twoHopMovements.isEmpty()) {
+            return NO_SQUARES;
+        }
+
+        int x = square % mBoardSize.width;
+        int y = square / mBoardSize.width;
+
+        int[] targets = new int[twoHopMovements.size() * 8];
+        int length = 0;
+        for (TwoHopMovement movement : twoHopMovements) {
+            if (isBlockable(movement)) {
+                continue;
+            }
+            for (int xMultiplier = -1; xMultiplier <= 1; xMultiplier += 2) {
+                for (int yMultiplier = -1; yMultiplier <= 1; yMultiplier += 2) {
+                    length = addLeaperTarget(targets, length, x + movement.x * xMultiplier, y + movement.y * yMultiplier);
+                    length = addLeaperTarget(targets, length, x + movement.y * xMultiplier, y + movement.x * yMultiplier);
+                }
+            }
+        }
+        return length == 0 ? NO_SQUARES : Arrays.copyOf(targets, length);
+    }
+
+    @NotNull
+    private int[][] computeDiagonalLeaps(int square, @NotNull Collection<TwoHopMovement> twoHopMovements) {
+        int x = square % mBoardSize.width;
+        int y = square / mBoardSize.width;
+
+        List<int[]> leaps = new ArrayList<>();
+        for (TwoHopMovement movement : twoHopMovements) {
+            if (!isBlockable(movement)) {
+                continue;
+            }
+            for (Direction direction : Direction.DIAGONAL_DIRECTIONS) {
+                if (!isOnBoard(x + direction.dx * movement.x, y + direction.dy * movement.y)) {
+                    continue;
+                }
+                int[] leap = new int[movement.x];
+                for (int step = 1; step <= movement.x; step++) {
+                    leap[step - 1] = x + direction.dx * step + (y + direction.dy * step) * mBoardSize.width;
+                }
+                leaps.add(leap);
+            }
+        }
+        return leaps.toArray(new int[leaps.size()][]);
+    }
+
+    private int addLeaperTarget(@NotNull int[] targets, int length, int x, int y) {
+        if (!isOnBoard(x, y)) {
+            return length;
+        }
+
+        int target = x + y * mBoardSize.width;
+        for (int i = 0; i < length; i++) {
+            if (targets[i] == target) {
+                return length;
+            }
+        }
+        targets[length] = target;
+        return length + 1;
+    }
+
+    private boolean isOnBoard(int x, int y) {
+        return x >= 0 && y >= 0 && x < mBoardSize.width && y < mBoardSize.height;
+    }
+}
@@ -0,0 +1,62 @@
+package com.drewhannay.chesscrafter.models;
+
+import com.drewhannay.chesscrafter.logic.PieceTypeManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+
+/**
+ * Occupancy index kept by a {@link Board} next to its piece array. Squares are addressed by
+ * {@link BoardSize#toSquareIndex(int, int)}.
+ */
+abstract class Bitboard {
+
+    @NotNull
+    static Bitboard create(@NotNull BoardSize boardSize) {
+        if (boardSize.getSquareCount() <= Long.SIZE) {
+            return new ClassicBitboard(boardSize);
+        }
+        return new MultiWordBitboard(boardSize);
+    }
+
+    abstract void setPiece(int square, @Nullable Piece oldPiece, @Nullable Piece newPiece);
+
+    abstract boolean isOccupied(int square);
+
+    abstract int getPieceCount(int teamId, @NotNull PieceType pieceType);
+
+    abstract void addMovesFrom(int square, @NotNull Piece piece, @NotNull Collection<BoardCoordinate> moves);
+
+    abstract void generateMoves(int square, @NotNull Piece piece, @NotNull MoveBuffer moves);
+
+    int getMoveFlags(int target, int doubleStepTarget) {
+        if (isOccupied(target)) {
+            return MoveBuffer.FLAG_CAPTURE;
+        }
+        return target == doubleStepTarget ? MoveBuffer.FLAG_DOUBLE_STEP : 0;
+    }
+
+    static int getDoubleStepTarget(int square, @NotNull Piece piece, @NotNull BoardSize boardSize) {
+        int initialStepY = getInitialStepY(piece);
+        return initialStepY == 0 ? -1 : square + initialStepY * boardSize.width;
+    }
+
+    static int getInitialStepY(@NotNull Piece piece) {
+        if (piece.hasMoved()) {
+            return 0;
+        }
+
+        String internalId = piece.getInternalId();
+        if (internalId.equals(PieceTypeManager.NORTH_FACING_PAWN_ID)) {
+            return 2;
+        } else if (internalId.equals(PieceTypeManager.SOUTH_FACING_PAWN_ID)) {
+            return -2;
+        }
+        return 0;
+    }
+
+    static boolean isIncreasing(@NotNull Direction direction) {
+        return direction.dy > 0 || (direction.dy == 0 && direction.dx > 0);
+    }
+}
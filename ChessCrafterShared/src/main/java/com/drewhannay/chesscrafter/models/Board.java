@@ -1,28 +1,51 @@
 package com.drewhannay.chesscrafter.models;
 
-import com.drewhannay.chesscrafter.logic.PathMaker;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Sets;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
+import java.util.HashSet;
 import java.util.Set;
 
 public final class Board {
     private final Piece[][] mPieces;
     private final BoardSize mBoardSize;
+    private final Bitboard mBitboard;
+    private final AttackMap mAttackMap;
+    private final PieceSquareScores mPieceSquareScores;
+
+    private long mPositionHash;
 
     public Board(@NotNull BoardSize boardSize) {
         mBoardSize = boardSize;
 
         mPieces = new Piece[boardSize.width][boardSize.height];
+        mBitboard = Bitboard.create(boardSize);
+        mAttackMap = new AttackMap(this);
+        mPieceSquareScores = new PieceSquareScores(boardSize);
     }
 
     public BoardSize getBoardSize() {
         return mBoardSize;
     }
 
+    /**
+     * @return a board with copies of every piece, so moves on one board never show up on the other
+     */
+    @NotNull
+    public Board copy() {
+        Board board = new Board(mBoardSize);
+        for (int x = 0; x < mBoardSize.width; x++) {
+            for (int y = 0; y < mBoardSize.height; y++) {
+                Piece piece = mPieces[x][y];
+                if (piece != null) {
+                    board.setPiece(piece.copy(), BoardCoordinate.at(x + 1, y + 1));
+                }
+            }
+        }
+        return board;
+    }
+
     public void addPiece(@NotNull Piece piece, @NotNull BoardCoordinate location) {
         //noinspection ConstantConditions
         Preconditions.checkArgument(piece != null);
@@ -59,11 +82,17 @@ public final class Board {
         addPiece(pieceToMove, destination);
         removePiece(origin);
 
+        boolean hadMoved = pieceToMove.hasMoved();
         if (incrementMoveCount) {
             pieceToMove.incrementMoveCount();
         } else {
             pieceToMove.decrementMoveCount();
         }
+        if (hadMoved != pieceToMove.hasMoved() && Zobrist.hasMovedMatter(pieceToMove)) {
+            int square = mBoardSize.toSquareIndex(destination);
+            mPositionHash ^= Zobrist.getPieceKey(pieceToMove, square, hadMoved)
+                    ^ Zobrist.getPieceKey(pieceToMove, square, !hadMoved);
+        }
 
         return pieceToCapture;
     }
@@ -72,51 +101,137 @@ public final class Board {
         return getPiece(coordinateToCheck) != null;
     }
 
-    private boolean doesFriendlyPieceExistAt(BoardCoordinate origin, BoardCoordinate destination) {
-        Piece piece = getPiece(destination);
-        return piece != null && piece.getTeamId() == getPiece(origin).getTeamId();
-    }
-
     public Piece getPiece(@NotNull BoardCoordinate coordinateToRetrieve) {
         return mPieces[coordinateToRetrieve.x - 1][coordinateToRetrieve.y - 1];
     }
 
+    @Nullable
+    public Piece getPiece(int square) {
+        return mPieces[square % mBoardSize.width][square / mBoardSize.width];
+    }
+
     private void setPiece(@Nullable Piece piece, @NotNull BoardCoordinate location) {
+        Piece oldPiece = mPieces[location.x - 1][location.y - 1];
         mPieces[location.x - 1][location.y - 1] = piece;
+
+        int square = mBoardSize.toSquareIndex(location);
+        if (oldPiece != null) {
+            mPositionHash ^= Zobrist.getPieceKey(oldPiece, square);
+        }
+        if (piece != null) {
+            mPositionHash ^= Zobrist.getPieceKey(piece, square);
+        }
+
+        mBitboard.setPiece(square, oldPiece, piece);
+        mAttackMap.setPiece(square, oldPiece, piece);
+        mPieceSquareScores.setPiece(square, oldPiece, piece);
     }
 
-    public Set<BoardCoordinate> getMovesFrom(BoardCoordinate origin) {
-        Piece piece = getPiece(origin);
+    /**
+     * @return the Zobrist hash of the piece placement, kept up to date by every change to the board
+     */
+    public long getPositionHash() {
+        return mPositionHash;
+    }
 
-        Set<BoardCoordinate> allPossibleMoves = piece.getMovesFrom(origin, mBoardSize);
-        Set<BoardCoordinate> capturingMoves = piece.getCapturingMovesFrom(origin, mBoardSize);
-        Set<BoardCoordinate> validMoves = Sets.newHashSetWithExpectedSize(allPossibleMoves.size());
+    /**
+     * @return the piece-square score of team {@code teamId} minus that of every other team, kept up to date by every
+     * change to the board; see {@link com.drewhannay.chesscrafter.logic.PieceTypeManager#getPieceSquareTable}
+     */
+    public int getPieceSquareBalance(int teamId) {
+        return 2 * mPieceSquareScores.getScore(teamId) - mPieceSquareScores.getTotalScore();
+    }
 
-        for (BoardCoordinate move : allPossibleMoves) {
-            if (!isBlocked(origin, move) && !doesPieceExistAt(move)) {
-                validMoves.add(move);
-            }
-        }
+    public int getPieceCount(int teamId, @NotNull PieceType pieceType) {
+        return mBitboard.getPieceCount(teamId, pieceType);
+    }
 
-        for (BoardCoordinate move : capturingMoves) {
-            if (!isBlocked(origin, move) && doesPieceExistAt(move) && !doesFriendlyPieceExistAt(origin, move)) {
-                validMoves.add(move);
-            }
-        }
+    /**
+     * @return true if a piece of team {@code teamId} could capture on {@code square}
+     */
+    public boolean isAttacked(int square, int teamId) {
+        return mAttackMap.isAttacked(square, teamId);
+    }
 
-        return validMoves;
+    /**
+     * @return true if a piece of any team other than {@code teamId} could capture on {@code square}
+     */
+    public boolean isAttackedByOpponentOf(int square, int teamId) {
+        return mAttackMap.getOpponentAttackerCount(square, teamId) > 0;
     }
 
-    private boolean isBlocked(BoardCoordinate origin, BoardCoordinate destination) {
-        PathMaker pathMaker = new PathMaker(origin, destination);
-        List<BoardCoordinate> spacesAlongPath = pathMaker.getPathToDestination();
-        BoardCoordinate lastSpace = spacesAlongPath.isEmpty() ? null : spacesAlongPath.get(spacesAlongPath.size() - 1);
-        for (BoardCoordinate space : spacesAlongPath) {
-            if (doesFriendlyPieceExistAt(origin, space) || (doesPieceExistAt(space) && !space.equals(lastSpace))) {
-                return true;
-            }
-        }
-        return false;
+    /**
+     * @return the number of pieces of teams other than {@code teamId} that could capture on {@code square}
+     */
+    public int getOpponentAttackerCount(int square, int teamId) {
+        return mAttackMap.getOpponentAttackerCount(square, teamId);
+    }
+
+    /**
+     * Writes the squares of the opponent pieces that could capture on {@code square} into {@code attackers}, which
+     * must be able to hold one entry per square on the board.
+     *
+     * @return the number of squares written
+     */
+    public int getOpponentAttackers(int square, int teamId, @NotNull int[] attackers) {
+        return mAttackMap.getOpponentAttackers(square, teamId, attackers);
+    }
+
+    /**
+     * Writes the squares of the pieces of every team that could capture on {@code square} into {@code attackers},
+     * which must be able to hold one entry per square on the board.
+     *
+     * @return the number of squares written
+     */
+    public int getAttackers(int square, @NotNull int[] attackers) {
+        return mAttackMap.getAttackers(square, attackers);
+    }
+
+    /**
+     * Writes the squares of the pieces with a diagonal leap over {@code square}, whether or not something blocks it,
+     * into {@code leapers}, which must be able to hold one entry per square on the board.
+     *
+     * @return the number of squares written
+     */
+    public int getLeapersOver(int square, @NotNull int[] leapers) {
+        return mAttackMap.getLeapersOver(square, leapers);
+    }
+
+    /**
+     * @return the square of the objective piece of team {@code teamId}, or -1 if it has none on this board
+     */
+    public int getObjectivePieceSquare(int teamId) {
+        return mAttackMap.getObjectivePieceSquare(teamId);
+    }
+
+    public Set<BoardCoordinate> getMovesFrom(BoardCoordinate origin) {
+        Set<BoardCoordinate> moves = new HashSet<>();
+        mBitboard.addMovesFrom(mBoardSize.toSquareIndex(origin), getPiece(origin), moves);
+        return moves;
+    }
+
+    /**
+     * Appends the pseudo-legal moves of the piece on {@code square} to {@code moves} without allocating. Boards with
+     * more than {@link MoveBuffer#MAX_SQUARE_COUNT} squares have to use {@link #getMovesFrom} instead.
+     */
+    public void generateMoves(int square, @NotNull MoveBuffer moves) {
+        Preconditions.checkState(mBoardSize.getSquareCount() <= MoveBuffer.MAX_SQUARE_COUNT,
+                "Board too large for a MoveBuffer");
+        Piece piece = getPiece(square);
+        Preconditions.checkArgument(piece != null);
+
+        mBitboard.generateMoves(square, piece, moves);
+    }
+
+    /**
+     * Appends the pseudo-legal captures of the piece on {@code square} to {@code moves}: the opponent pieces it
+     * attacks through its capturing and two-hop movements.
+     */
+    public void generateCaptures(int square, @NotNull MoveBuffer moves) {
+        Preconditions.checkState(mBoardSize.getSquareCount() <= MoveBuffer.MAX_SQUARE_COUNT);
+        Preconditions.checkArgument(getPiece(square) != null);
+
+        mAttackMap.generateCaptures(square, moves);
     }
 
     private void verifyCoordinatesOrThrow(@NotNull BoardCoordinate... coordinates) {
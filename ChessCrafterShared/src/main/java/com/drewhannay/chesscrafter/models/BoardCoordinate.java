@@ -1,8 +1,8 @@
 package com.drewhannay.chesscrafter.models;
 
-import java.util.Objects;
-
 public final class BoardCoordinate {
+    private static final int MAX_CACHED_DIMENSION = 256;
+
     public final int x;
     public final int y;
 
@@ -11,8 +11,16 @@ public final class BoardCoordinate {
         this.y = y;
     }
 
+    /**
+     * Returns a shared instance for on-board coordinates up to {@value #MAX_CACHED_DIMENSION} in either dimension;
+     * anything else is allocated. Instances are still compared by value since Gson creates its own.
+     */
     public static BoardCoordinate at(int x, int y) {
-        return new BoardCoordinate(x, y);
+        if (x < 1 || y < 1 || x > MAX_CACHED_DIMENSION || y > MAX_CACHED_DIMENSION) {
+            return new BoardCoordinate(x, y);
+        }
+
+        return Cache.get(x, y);
     }
 
     public boolean isValid(BoardSize boardSize) {
@@ -37,6 +45,8 @@ public final class BoardCoordinate {
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this)
+            return true;
         if (obj == null || obj.getClass() != this.getClass())
             return false;
 
@@ -47,11 +57,56 @@ public final class BoardCoordinate {
 
     @Override
     public int hashCode() {
-        return Objects.hash(x, y);
+        return 31 * x + y;
     }
 
     @Override
     public String toString() {
         return "BoardCoordinate{x=" + x + ", y=" + y + "}";
     }
+
+    /**
+     * Kept out of BoardCoordinate itself so the table doesn't show up as a field of the value class.
+     */
+    private static final class Cache {
+        private static final int INITIAL_DIMENSION = 16;
+
+        // canonical instances indexed by [x - 1][y - 1]; replaced wholesale when it grows so readers never lock
+        private static volatile BoardCoordinate[][] sCoordinates = createCoordinates(new BoardCoordinate[0][0], INITIAL_DIMENSION);
+
+        static BoardCoordinate get(int x, int y) {
+            BoardCoordinate[][] coordinates = sCoordinates;
+            if (x > coordinates.length || y > coordinates.length) {
+                coordinates = growCoordinates(Math.max(x, y));
+            }
+            return coordinates[x - 1][y - 1];
+        }
+
+        private static synchronized BoardCoordinate[][] growCoordinates(int minDimension) {
+            BoardCoordinate[][] coordinates = sCoordinates;
+            if (minDimension <= coordinates.length) {
+                return coordinates;
+            }
+
+            int dimension = coordinates.length;
+            while (dimension < minDimension) {
+                dimension *= 2;
+            }
+            coordinates = createCoordinates(coordinates, Math.min(dimension, MAX_CACHED_DIMENSION));
+            sCoordinates = coordinates;
+            return coordinates;
+        }
+
+        private static BoardCoordinate[][] createCoordinates(BoardCoordinate[][] existing, int dimension) {
+            BoardCoordinate[][] coordinates = new BoardCoordinate[dimension][dimension];
+            for (int x = 0; x < dimension; x++) {
+                for (int y = 0; y < dimension; y++) {
+                    // keep handing out the same instances once a coordinate has been published
+                    coordinates[x][y] = x < existing.length && y < existing.length
+                            ? existing[x][y] : new BoardCoordinate(x + 1, y + 1);
+                }
+            }
+            return coordinates;
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package com.drewhannay.chesscrafter.models;
 
 import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.Objects;
 
@@ -22,6 +23,23 @@ public final class BoardSize {
         return new BoardSize(width, height);
     }
 
+    public int getSquareCount() {
+        return width * height;
+    }
+
+    public int toSquareIndex(int x, int y) {
+        return (x - 1) + (y - 1) * width;
+    }
+
+    public int toSquareIndex(@NotNull BoardCoordinate coordinate) {
+        return toSquareIndex(coordinate.x, coordinate.y);
+    }
+
+    @NotNull
+    public BoardCoordinate toCoordinate(int squareIndex) {
+        return BoardCoordinate.at(squareIndex % width + 1, squareIndex / width + 1);
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj == null || obj.getClass() != this.getClass()) {
@@ -0,0 +1,216 @@
+package com.drewhannay.chesscrafter.models;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Single 64-bit word per set; used for every board with at most 64 squares.
+ */
+final class ClassicBitboard extends Bitboard {
+
+    private final BoardSize mBoardSize;
+    private final long mBoardMask;
+    private final int mLongestRay;
+    private final long[][] mRays;
+
+    private long mOccupancy;
+
+    private int[] mTeamIds;
+    private long[] mTeamOccupancy;
+    private int mTeamCount;
+
+    private String[] mTypeIds;
+    private long[] mTypeOccupancy;
+    private int mTypeCount;
+
+    ClassicBitboard(@NotNull BoardSize boardSize) {
+        mBoardSize = boardSize;
+        mBoardMask = boardSize.getSquareCount() == Long.SIZE ? -1L : (1L << boardSize.getSquareCount()) - 1;
+        mLongestRay = Math.max(boardSize.width, boardSize.height) - 1;
+
+        Direction[] directions = Direction.values();
+        mRays = new long[directions.length][boardSize.getSquareCount()];
+        for (Direction direction : directions) {
+            for (int square = 0; square < boardSize.getSquareCount(); square++) {
+                mRays[direction.ordinal()][square] = walkRay(direction, square, mLongestRay);
+            }
+        }
+
+        mTeamIds = new int[2];
+        mTeamOccupancy = new long[2];
+        mTypeIds = new String[8];
+        mTypeOccupancy = new long[8];
+    }
+
+    @Override
+    void setPiece(int square, @Nullable Piece oldPiece, @Nullable Piece newPiece) {
+        long bit = 1L << square;
+        if (oldPiece != null) {
+            mOccupancy &= ~bit;
+            mTeamOccupancy[getTeamSlot(oldPiece.getTeamId())] &= ~bit;
+            mTypeOccupancy[getTypeSlot(oldPiece.getInternalId())] &= ~bit;
+        }
+        if (newPiece != null) {
+            mOccupancy |= bit;
+            mTeamOccupancy[getTeamSlot(newPiece.getTeamId())] |= bit;
+            mTypeOccupancy[getTypeSlot(newPiece.getInternalId())] |= bit;
+        }
+    }
+
+    @Override
+    boolean isOccupied(int square) {
+        return (mOccupancy & (1L << square)) != 0;
+    }
+
+    @Override
+    int getPieceCount(int teamId, @NotNull PieceType pieceType) {
+        return Long.bitCount(getTeamOccupancy(teamId) & getTypeOccupancy(pieceType.getInternalId()));
+    }
+
+    @Override
+    void addMovesFrom(int square, @NotNull Piece piece, @NotNull Collection<BoardCoordinate> moves) {
+        long targets = getMoveTargets(square, piece);
+        while (targets != 0) {
+            moves.add(mBoardSize.toCoordinate(Long.numberOfTrailingZeros(targets)));
+            targets &= targets - 1;
+        }
+    }
+
+    @Override
+    void generateMoves(int square, @NotNull Piece piece, @NotNull MoveBuffer moves) {
+        int doubleStepTarget = getDoubleStepTarget(square, piece, mBoardSize);
+
+        long targets = getMoveTargets(square, piece);
+        while (targets != 0) {
+            int target = Long.numberOfTrailingZeros(targets);
+            moves.add(square, target, getMoveFlags(target, doubleStepTarget));
+            targets &= targets - 1;
+        }
+    }
+
+    long getMoveTargets(int square, @NotNull Piece piece) {
+        PieceType pieceType = piece.getPieceType();
+        long empty = ~mOccupancy & mBoardMask;
+        long enemies = mOccupancy & ~getTeamOccupancy(piece.getTeamId());
+
+        long targets = 0;
+        for (CardinalMovement movement : pieceType.getMovements()) {
+            targets |= getSlidingAttacks(movement.direction, square, movement.distance) & empty;
+        }
+        for (CardinalMovement movement : pieceType.getCapturingMovements()) {
+            targets |= getSlidingAttacks(movement.direction, square, movement.distance) & enemies;
+        }
+        targets |= getLeaperAttacks(pieceType.getAttackTable(mBoardSize), square) & (empty | enemies);
+
+        int initialStepY = getInitialStepY(piece);
+        if (initialStepY != 0) {
+            Direction direction = initialStepY > 0 ? Direction.NORTH : Direction.SOUTH;
+            long path = walkRay(direction, square, Math.abs(initialStepY));
+            if (Long.bitCount(path) == Math.abs(initialStepY) && (path & mOccupancy) == 0) {
+                targets |= 1L << (square + initialStepY * mBoardSize.width);
+            }
+        }
+
+        return targets;
+    }
+
+    private long getSlidingAttacks(@NotNull Direction direction, int square, int distance) {
+        long ray = distance >= mLongestRay ? mRays[direction.ordinal()][square] : walkRay(direction, square, distance);
+        long blockers = ray & mOccupancy;
+        if (blockers != 0) {
+            int blocker = isIncreasing(direction)
+                    ? Long.numberOfTrailingZeros(blockers)
+                    : Long.SIZE - 1 - Long.numberOfLeadingZeros(blockers);
+            ray &= ~mRays[direction.ordinal()][blocker];
+        }
+        return ray;
+    }
+
+    private long getLeaperAttacks(@NotNull AttackTable attackTable, int square) {
+        long attacks = 0;
+        for (int target : attackTable.getLeaperTargets(square)) {
+            attacks |= 1L << target;
+        }
+        for (int[] leap : attackTable.getDiagonalLeaps(square)) {
+            long between = 0;
+            for (int i = 0; i < leap.length - 1; i++) {
+                between |= 1L << leap[i];
+            }
+            if ((between & mOccupancy) == 0) {
+                attacks |= 1L << leap[leap.length - 1];
+            }
+        }
+        return attacks;
+    }
+
+    private long walkRay(@NotNull Direction direction, int square, int distance) {
+        int x = square % mBoardSize.width;
+        int y = square / mBoardSize.width;
+
+        long ray = 0;
+        for (int step = 1; step <= distance; step++) {
+            long bit = getBit(x + direction.dx * step, y + direction.dy * step);
+            if (bit == 0) {
+                break;
+            }
+            ray |= bit;
+        }
+        return ray;
+    }
+
+    private long getBit(int x, int y) {
+        if (x < 0 || y < 0 || x >= mBoardSize.width || y >= mBoardSize.height) {
+            return 0;
+        }
+        return 1L << (x + y * mBoardSize.width);
+    }
+
+    private long getTeamOccupancy(int teamId) {
+        for (int i = 0; i < mTeamCount; i++) {
+            if (mTeamIds[i] == teamId) {
+                return mTeamOccupancy[i];
+            }
+        }
+        return 0;
+    }
+
+    private long getTypeOccupancy(@NotNull String internalId) {
+        for (int i = 0; i < mTypeCount; i++) {
+            if (mTypeIds[i].equals(internalId)) {
+                return mTypeOccupancy[i];
+            }
+        }
+        return 0;
+    }
+
+    private int getTeamSlot(int teamId) {
+        for (int i = 0; i < mTeamCount; i++) {
+            if (mTeamIds[i] == teamId) {
+                return i;
+            }
+        }
+        if (mTeamCount == mTeamIds.length) {
+            mTeamIds = Arrays.copyOf(mTeamIds, mTeamCount * 2);
+            mTeamOccupancy = Arrays.copyOf(mTeamOccupancy, mTeamCount * 2);
+        }
+        mTeamIds[mTeamCount] = teamId;
+        return mTeamCount++;
+    }
+
+    private int getTypeSlot(@NotNull String internalId) {
+        for (int i = 0; i < mTypeCount; i++) {
+            if (mTypeIds[i].equals(internalId)) {
+                return i;
+            }
+        }
+        if (mTypeCount == mTypeIds.length) {
+            mTypeIds = Arrays.copyOf(mTypeIds, mTypeCount * 2);
+            mTypeOccupancy = Arrays.copyOf(mTypeOccupancy, mTypeCount * 2);
+        }
+        mTypeIds[mTypeCount] = internalId;
+        return mTypeCount++;
+    }
+}
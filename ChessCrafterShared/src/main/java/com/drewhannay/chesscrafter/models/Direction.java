@@ -5,18 +5,26 @@ import org.jetbrains.annotations.NotNull;
 import java.util.EnumSet;
 
 public enum Direction {
-    NORTH,
-    SOUTH,
-    EAST,
-    WEST,
-    NORTHEAST,
-    NORTHWEST,
-    SOUTHEAST,
-    SOUTHWEST;
+    NORTH(0, 1),
+    SOUTH(0, -1),
+    EAST(1, 0),
+    WEST(-1, 0),
+    NORTHEAST(1, 1),
+    NORTHWEST(-1, 1),
+    SOUTHEAST(1, -1),
+    SOUTHWEST(-1, -1);
 
     public static final EnumSet<Direction> ADJACENT_DIRECTIONS = EnumSet.of(NORTH, SOUTH, EAST, WEST);
     public static final EnumSet<Direction> DIAGONAL_DIRECTIONS = EnumSet.of(NORTHEAST, NORTHWEST, SOUTHEAST, SOUTHWEST);
 
+    public final int dx;
+    public final int dy;
+
+    Direction(int dx, int dy) {
+        this.dx = dx;
+        this.dy = dy;
+    }
+
     public BoardCoordinate getFurthestPoint(@NotNull BoardCoordinate start, @NotNull BoardSize boardSize) {
         int x = start.x;
         int y = start.y;
@@ -3,6 +3,8 @@ package com.drewhannay.chesscrafter.models;
 import com.drewhannay.chesscrafter.logic.PieceTypeManager;
 import com.drewhannay.chesscrafter.logic.Result;
 import com.drewhannay.chesscrafter.logic.Status;
+import com.drewhannay.chesscrafter.models.GameSnapshot.PieceState;
+import com.drewhannay.chesscrafter.models.GameSnapshot.TeamState;
 import com.drewhannay.chesscrafter.models.turnkeeper.TurnKeeper;
 import com.drewhannay.chesscrafter.rules.conditionalmovegenerator.ConditionalMoveGenerator;
 import com.drewhannay.chesscrafter.rules.movefilter.MoveFilter;
@@ -13,20 +15,43 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public final class Game {
 
+    /**
+     * How many plies apart the history keeps snapshots, and {@link #seekTo} keeps them for a finished game
+     */
+    static final int SNAPSHOT_INTERVAL = 16;
+
     private final String mName;
     private final String mInternalGameId;
     private final Team[] mTeams;
     private final Board[] mBoards;
     private final TurnKeeper mTurnKeeper;
     private final History mHistory;
+    private final MoveBuffer mMoveBuffer;
+    private final GameSnapshot mInitialSnapshot;
 
     private int mHistoryIndex;
+    /**
+     * Null until {@link #getStatus()} needs it after a move that was replayed or taken back
+     */
     private Status mStatus;
-
+    private boolean mEndedByLastMove;
+    /**
+     * Snapshots of a finished game at every {@link #SNAPSHOT_INTERVAL}th ply, the start included, built by the first
+     * {@link #seekTo}; only valid while the history stays complete, since its moves can't change until then
+     */
+    private GameSnapshot[] mPlaybackSnapshots;
+
+    /**
+     * @param history a history in progress is replayed from its last snapshot, or from the start if it has none; a
+     *                finished one is loaded at its first position for playback
+     */
     public Game(@NotNull String name, @NotNull String internalGameId, @NotNull Board[] boards,
                 @NotNull Team[] teams, @NotNull TurnKeeper turnKeeper, @Nullable History history) {
         mName = name;
@@ -36,18 +61,157 @@ public final class Game {
         mTurnKeeper = turnKeeper;
 
         mStatus = Status.CONTINUE;
+        mMoveBuffer = new MoveBuffer();
+        mInitialSnapshot = GameSnapshot.of(0, mBoards, mTeams, mTurnKeeper);
 
         mHistory = history != null ? history : new History(internalGameId, new ArrayList<Move>());
         if (history != null) {
             Preconditions.checkArgument(internalGameId.equals(history.internalGameId),
                     "History name {" + history.internalGameId + "} does not match internalGameId {" + internalGameId + "}");
 
+            // snapshots past the last move can only belong to moves that were taken back
+            mHistory.removeSnapshotsAfter(mHistory.moves.size());
+
             if (!mHistory.isComplete()) {
-                for (Move move : history.moves) {
-                    executeMove(move);
+                int firstMove = 0;
+                GameSnapshot snapshot = mHistory.getLastSnapshot();
+                if (snapshot != null) {
+                    restoreSnapshot(snapshot);
+                    firstMove = snapshot.ply;
+                }
+
+                // executeMove appends to the history, so replay from a copy of the moves
+                List<Move> moves = new ArrayList<>(mHistory.moves);
+                mHistory.moves.subList(firstMove, moves.size()).clear();
+
+                // a game in progress can only have ended with its last move, so the ones before don't need the end
+                // conditions checked
+                for (int i = firstMove; i < moves.size() - 1; i++) {
+                    doExecuteMove(moves.get(i), false);
+                }
+                if (firstMove < moves.size()) {
+                    executeMove(moves.get(moves.size() - 1));
+                }
+            }
+        }
+    }
+
+    private Game(@NotNull Game other) {
+        mName = other.mName;
+        mInternalGameId = other.mInternalGameId;
+
+        mBoards = new Board[other.mBoards.length];
+        for (int i = 0; i < mBoards.length; i++) {
+            mBoards[i] = other.mBoards[i].copy();
+        }
+        mTeams = new Team[other.mTeams.length];
+        for (int i = 0; i < mTeams.length; i++) {
+            mTeams[i] = other.mTeams[i].copy();
+        }
+        mTurnKeeper = other.mTurnKeeper.copy();
+        mHistory = other.mHistory.copy();
+        mMoveBuffer = new MoveBuffer();
+        mInitialSnapshot = other.mInitialSnapshot;
+
+        mHistoryIndex = other.mHistoryIndex;
+        mStatus = other.mStatus;
+        mEndedByLastMove = other.mEndedByLastMove;
+    }
+
+    /**
+     * @return an independent game in the same position, with the same history, that can be played on another thread
+     * while this one is in use
+     */
+    @NotNull
+    public Game copy() {
+        return new Game(this);
+    }
+
+    /**
+     * Like {@link #copy()}, but while stepping through a finished game with {@link #nextMove()} and {@link
+     * #previousMove()} the copy only keeps the moves up to the current one and is still in progress, so it can be
+     * searched or played on from there.
+     */
+    @NotNull
+    public Game copyCurrentPosition() {
+        Game game = new Game(this);
+        if (mHistory.isComplete() && mHistoryIndex < mHistory.moves.size()) {
+            game.mHistory.moves.subList(mHistoryIndex, game.mHistory.moves.size()).clear();
+            game.mHistory.removeSnapshotsAfter(mHistoryIndex);
+            game.mHistory.setResult(null);
+            game.mEndedByLastMove = false;
+        }
+        return game;
+    }
+
+    /**
+     * Gives the history a snapshot for every {@link #SNAPSHOT_INTERVAL} plies played, so they get saved with it and
+     * loading the game again only replays the moves after the last one. Only the moves since the history's last
+     * snapshot are replayed, on a copy of the game, so this is cheap to call before every save.
+     */
+    public void addSnapshotsToHistory() {
+        GameSnapshot start = mHistory.getLastSnapshot();
+        if (start == null) {
+            start = mInitialSnapshot;
+        }
+        for (GameSnapshot snapshot : takeSnapshotsAfter(start)) {
+            mHistory.addSnapshot(snapshot);
+        }
+    }
+
+    /**
+     * Replays the moves after {@code start} on a copy of the game, so this one stays where it is.
+     *
+     * @return a snapshot for every {@link #SNAPSHOT_INTERVAL}th ply after {@code start}
+     */
+    @NotNull
+    private List<GameSnapshot> takeSnapshotsAfter(@NotNull GameSnapshot start) {
+        List<GameSnapshot> snapshots = new ArrayList<>();
+        int plies = mHistory.moves.size();
+        if (start.ply + SNAPSHOT_INTERVAL > plies) {
+            return snapshots;
+        }
+
+        Game game = new Game(this);
+        game.restoreSnapshot(start);
+        for (int ply = start.ply; ply < plies; ) {
+            game.applyMove(mHistory.moves.get(ply));
+            ply++;
+            if (ply % SNAPSHOT_INTERVAL == 0) {
+                snapshots.add(GameSnapshot.of(ply, game.mBoards, game.mTeams, game.mTurnKeeper));
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * Puts the snapshot's pieces, turn state, captures and promotions onto this game's own boards and teams, which
+     * callers may be holding on to.
+     */
+    private void restoreSnapshot(@NotNull GameSnapshot snapshot) {
+        Preconditions.checkArgument(snapshot.boards.size() == mBoards.length && snapshot.teams.size() == mTeams.length);
+
+        for (int i = 0; i < mBoards.length; i++) {
+            Board board = mBoards[i];
+            BoardSize boardSize = board.getBoardSize();
+            Map<BoardCoordinate, PieceState> pieces = snapshot.boards.get(i);
+            for (int square = 0; square < boardSize.getSquareCount(); square++) {
+                BoardCoordinate coordinate = boardSize.toCoordinate(square);
+                PieceState piece = pieces.get(coordinate);
+                if (piece != null) {
+                    board.addPiece(piece.toPiece(), coordinate);
+                } else if (board.getPiece(square) != null) {
+                    board.removePiece(coordinate);
                 }
             }
         }
+        mTurnKeeper.restore(snapshot.activeTeamIndex, snapshot.movesMadeCount, snapshot.turnCounts);
+        for (TeamState teamState : snapshot.teams) {
+            Team team = getTeam(teamState.teamId);
+            team.restoreCaptures(teamState.captureMoves, PieceState.toPieces(teamState.capturedPieces));
+            team.getPiecePromoter().restorePromotedPieces(PieceState.toPieces(teamState.promotedPieces));
+        }
+        mStatus = null;
     }
 
     public String getName() {
@@ -75,9 +239,34 @@ public final class Game {
     }
 
     public Status getStatus() {
+        if (mStatus == null) {
+            mStatus = getTeam(mTurnKeeper.getActiveTeamId()).getEndCondition().checkEndCondition(this);
+        }
         return mStatus;
     }
 
+    /**
+     * @return a Zobrist hash of the piece placement on every board, the turn state and any en passant opportunity
+     */
+    public long getPositionHash() {
+        long hash = mTurnKeeper.getStateHash();
+        for (int boardIndex = 0; boardIndex < mBoards.length; boardIndex++) {
+            hash ^= Zobrist.getBoardKey(mBoards[boardIndex].getPositionHash(), boardIndex);
+        }
+
+        Move lastMove = getOpponentsLastMove();
+        if (lastMove != null && Math.abs(lastMove.destination.y - lastMove.origin.y) == 2
+                && lastMove.origin.x == lastMove.destination.x) {
+            Board board = mBoards[0];
+            Piece piece = board.getPiece(lastMove.destination);
+            if (piece != null && (piece.getInternalId().equals(PieceTypeManager.NORTH_FACING_PAWN_ID)
+                    || piece.getInternalId().equals(PieceTypeManager.SOUTH_FACING_PAWN_ID))) {
+                hash ^= Zobrist.getEnPassantKey(board.getBoardSize().toSquareIndex(lastMove.destination));
+            }
+        }
+        return hash;
+    }
+
     public Piece getPiece(int boardIndex, BoardCoordinate coordinates) {
         Preconditions.checkPositionIndex(boardIndex, mBoards.length);
 
@@ -94,22 +283,208 @@ public final class Game {
 
     @NotNull
     public Set<BoardCoordinate> doGetMovesFrom(int boardIndex, @NotNull BoardCoordinate coordinate) {
+        if (isTooLargeForMoveBuffer(mBoards[boardIndex])) {
+            return getLegalDestinations(boardIndex, coordinate);
+        }
+
+        BoardSize boardSize = mBoards[boardIndex].getBoardSize();
+        generateLegalMoves(boardIndex, boardSize.toSquareIndex(coordinate), mMoveBuffer);
+
+        Set<BoardCoordinate> moves = new HashSet<>(mMoveBuffer.size() * 2);
+        for (int i = 0; i < mMoveBuffer.size(); i++) {
+            moves.add(boardSize.toCoordinate(MoveBuffer.getDestination(mMoveBuffer.get(i))));
+        }
+        return moves;
+    }
+
+    /**
+     * A {@link MoveBuffer} can't address the squares of boards this large, so their moves go through the Set-based
+     * rule methods instead, as they did before move buffers existed.
+     */
+    private static boolean isTooLargeForMoveBuffer(@NotNull Board board) {
+        return board.getBoardSize().getSquareCount() > MoveBuffer.MAX_SQUARE_COUNT;
+    }
+
+    @NotNull
+    private Set<BoardCoordinate> getLegalDestinations(int boardIndex, @NotNull BoardCoordinate coordinate) {
         Board board = mBoards[boardIndex];
         Team team = getTeam(mTurnKeeper.getActiveTeamId());
 
         Set<BoardCoordinate> moves = board.getMovesFrom(coordinate);
-
         for (ConditionalMoveGenerator conditionalMoveGenerator : team.getConditionalMoveGenerators()) {
             moves.addAll(conditionalMoveGenerator.generateMoves(board, coordinate, mHistory));
         }
-
         for (MoveFilter moveFilter : team.getMoveFilters()) {
             moves = moveFilter.filterMoves(board, coordinate, moves);
         }
+        return moves;
+    }
+
+    /**
+     * Replaces the contents of {@code moves} with the active team's legal moves for the piece on {@code square}.
+     * Only for boards of up to {@link MoveBuffer#MAX_SQUARE_COUNT} squares.
+     */
+    public void generateLegalMoves(int boardIndex, int square, @NotNull MoveBuffer moves) {
+        Board board = mBoards[boardIndex];
+        Team team = getTeam(mTurnKeeper.getActiveTeamId());
+
+        moves.clear();
+        board.generateMoves(square, moves);
+
+        Set<ConditionalMoveGenerator> conditionalMoveGenerators = team.getConditionalMoveGenerators();
+        if (!conditionalMoveGenerators.isEmpty()) {
+            BoardSize boardSize = board.getBoardSize();
+            BoardCoordinate coordinate = boardSize.toCoordinate(square);
+            for (ConditionalMoveGenerator conditionalMoveGenerator : conditionalMoveGenerators) {
+                for (BoardCoordinate destination : conditionalMoveGenerator.generateMoves(board, coordinate, mHistory)) {
+                    int destinationSquare = boardSize.toSquareIndex(destination);
+                    if (!moves.containsDestination(destinationSquare)) {
+                        int flags = MoveBuffer.FLAG_CONDITIONAL
+                                | (board.getPiece(destinationSquare) != null ? MoveBuffer.FLAG_CAPTURE : 0);
+                        moves.add(square, destinationSquare, flags);
+                    }
+                }
+            }
+        }
+
+        for (MoveFilter moveFilter : team.getMoveFilters()) {
+            moveFilter.filterMoves(board, square, moves);
+        }
+    }
+
+    /**
+     * Like {@link #generateLegalMoves} but only for captures. Conditional moves, such as en passant, are left out.
+     * Only for boards of up to {@link MoveBuffer#MAX_SQUARE_COUNT} squares.
+     */
+    public void generateLegalCaptures(int boardIndex, int square, @NotNull MoveBuffer moves) {
+        Board board = mBoards[boardIndex];
+        Team team = getTeam(mTurnKeeper.getActiveTeamId());
+
+        moves.clear();
+        board.generateCaptures(square, moves);
+
+        for (MoveFilter moveFilter : team.getMoveFilters()) {
+            moveFilter.filterMoves(board, square, moves);
+        }
+    }
+
+    /**
+     * @return true as soon as any piece of the active team is found to have a legal move
+     */
+    public boolean hasLegalMove(int boardIndex) {
+        Board board = mBoards[boardIndex];
+        int teamId = mTurnKeeper.getActiveTeamId();
+
+        boolean tooLarge = isTooLargeForMoveBuffer(board);
+
+        for (int square = 0; square < board.getBoardSize().getSquareCount(); square++) {
+            Piece piece = board.getPiece(square);
+            if (piece == null || piece.getTeamId() != teamId) {
+                continue;
+            }
+
+            if (tooLarge) {
+                if (!getLegalDestinations(boardIndex, board.getBoardSize().toCoordinate(square)).isEmpty()) {
+                    return true;
+                }
+            } else {
+                generateLegalMoves(boardIndex, square, mMoveBuffer);
+                if (!mMoveBuffer.isEmpty()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public int getLegalMoveCount(int boardIndex) {
+        Board board = mBoards[boardIndex];
+        int teamId = mTurnKeeper.getActiveTeamId();
+
+        boolean tooLarge = isTooLargeForMoveBuffer(board);
+
+        int legalMoveCount = 0;
+        for (int square = 0; square < board.getBoardSize().getSquareCount(); square++) {
+            Piece piece = board.getPiece(square);
+            if (piece == null || piece.getTeamId() != teamId) {
+                continue;
+            }
+
+            if (tooLarge) {
+                legalMoveCount += getLegalDestinations(boardIndex, board.getBoardSize().toCoordinate(square)).size();
+            } else {
+                generateLegalMoves(boardIndex, square, mMoveBuffer);
+                legalMoveCount += mMoveBuffer.size();
+            }
+        }
+        return legalMoveCount;
+    }
+
+    /**
+     * @return every legal move for the active team on the first board, with one move per promotion option
+     */
+    @NotNull
+    public List<Move> getLegalMoves() {
+        return getLegalMoves(false);
+    }
+
+    /**
+     * @return the legal captures for the active team on the first board, as in {@link #generateLegalCaptures}
+     */
+    @NotNull
+    public List<Move> getLegalCaptures() {
+        return getLegalMoves(true);
+    }
+
+    @NotNull
+    private List<Move> getLegalMoves(boolean capturesOnly) {
+        Board board = mBoards[0];
+        BoardSize boardSize = board.getBoardSize();
+        int teamId = mTurnKeeper.getActiveTeamId();
+        boolean tooLarge = isTooLargeForMoveBuffer(board);
+
+        List<Move> moves = new ArrayList<>();
+        for (int square = 0; square < boardSize.getSquareCount(); square++) {
+            Piece piece = board.getPiece(square);
+            if (piece == null || piece.getTeamId() != teamId) {
+                continue;
+            }
+
+            BoardCoordinate origin = boardSize.toCoordinate(square);
+            if (tooLarge) {
+                for (BoardCoordinate destination : getLegalDestinations(0, origin)) {
+                    Piece victim = board.getPiece(destination);
+                    if (!capturesOnly || (victim != null && victim.getTeamId() != teamId)) {
+                        addLegalMoves(moves, origin, destination);
+                    }
+                }
+                continue;
+            }
 
+            if (capturesOnly) {
+                generateLegalCaptures(0, square, mMoveBuffer);
+            } else {
+                generateLegalMoves(0, square, mMoveBuffer);
+            }
+            for (int i = 0; i < mMoveBuffer.size(); i++) {
+                addLegalMoves(moves, origin, boardSize.toCoordinate(MoveBuffer.getDestination(mMoveBuffer.get(i))));
+            }
+        }
         return moves;
     }
 
+    private void addLegalMoves(@NotNull List<Move> moves, @NotNull BoardCoordinate origin,
+                               @NotNull BoardCoordinate destination) {
+        MoveBuilder builder = newMoveBuilder(origin, destination);
+        if (builder.needsPromotion()) {
+            for (PieceType promotionType : builder.getPromotionOptions()) {
+                moves.add(builder.setPromotionType(promotionType).build());
+            }
+        } else {
+            moves.add(builder.build());
+        }
+    }
+
     public MoveBuilder newMoveBuilder(@NotNull BoardCoordinate origin, @NotNull BoardCoordinate destination) {
         return new MoveBuilder(getTeam(mTurnKeeper.getActiveTeamId()), mBoards[0], origin, destination);
     }
@@ -119,21 +494,88 @@ public final class Game {
         Preconditions.checkState(canUndoMove());
 
         mStatus = Status.DRAW;
+        mEndedByLastMove = false;
         mHistory.setResult(new Result(mStatus, null));
         mHistoryIndex = mHistory.moves.size();
     }
 
+    /**
+     * @return how many moves of the history have been played to reach the current position
+     */
+    public int getCurrentPly() {
+        return mHistory.isComplete() ? mHistoryIndex : mHistory.moves.size();
+    }
+
+    /**
+     * Jumps to the position after {@code ply} moves of a finished game. Starts from whichever is closest of the
+     * current position and the game's snapshots, so any position is at most {@link #SNAPSHOT_INTERVAL} / 2 moves
+     * away.
+     */
+    public void seekTo(int ply) {
+        Preconditions.checkState(mHistory.isComplete());
+        Preconditions.checkPositionIndex(ply, mHistory.moves.size());
+
+        if (mPlaybackSnapshots == null) {
+            buildPlaybackSnapshots();
+        }
+
+        GameSnapshot closest = null;
+        int distance = Math.abs(ply - mHistoryIndex);
+        for (int index = ply / SNAPSHOT_INTERVAL; index <= ply / SNAPSHOT_INTERVAL + 1; index++) {
+            if (index < mPlaybackSnapshots.length && mPlaybackSnapshots[index] != null
+                    && Math.abs(ply - index * SNAPSHOT_INTERVAL) < distance) {
+                closest = mPlaybackSnapshots[index];
+                distance = Math.abs(ply - index * SNAPSHOT_INTERVAL);
+            }
+        }
+        if (closest != null) {
+            restoreSnapshot(closest);
+            mHistoryIndex = closest.ply;
+        }
+
+        while (mHistoryIndex < ply) {
+            nextMove();
+        }
+        while (mHistoryIndex > ply) {
+            previousMove();
+        }
+    }
+
+    /**
+     * Reuses the history's snapshots and takes the ones it's missing, which replays the rest of the game once so that
+     * seeks don't have to. The history itself is left alone; only {@link #addSnapshotsToHistory()} changes it.
+     */
+    private void buildPlaybackSnapshots() {
+        mPlaybackSnapshots = new GameSnapshot[mHistory.moves.size() / SNAPSHOT_INTERVAL + 1];
+        mPlaybackSnapshots[0] = mInitialSnapshot;
+
+        int lastIndex = 0;
+        for (GameSnapshot snapshot : mHistory.getSnapshots()) {
+            if (snapshot.ply % SNAPSHOT_INTERVAL == 0 && snapshot.ply / SNAPSHOT_INTERVAL == lastIndex + 1) {
+                lastIndex++;
+                mPlaybackSnapshots[lastIndex] = snapshot;
+            }
+        }
+        for (GameSnapshot snapshot : takeSnapshotsAfter(mPlaybackSnapshots[lastIndex])) {
+            mPlaybackSnapshots[snapshot.ply / SNAPSHOT_INTERVAL] = snapshot;
+        }
+    }
+
     public boolean hasNextMove() {
         return mHistory.isComplete() && mHistoryIndex < mHistory.moves.size();
     }
 
+    /**
+     * Steps forward through a finished game. The moves are known to be legal, so the end conditions are only checked
+     * if {@link #getStatus()} is called for the position stepped to.
+     */
     public void nextMove() {
         Preconditions.checkState(mHistory.isComplete());
         Preconditions.checkState(mHistoryIndex < mHistory.moves.size());
 
         Move move = mHistory.moves.get(mHistoryIndex);
         mHistoryIndex++;
-        doExecuteMove(move);
+        doExecuteMove(move, false);
     }
 
     public boolean hasPreviousMove() {
@@ -152,10 +594,36 @@ public final class Game {
     public void executeMove(@NotNull Move move) {
         Preconditions.checkState(!mHistory.isComplete());
 
-        doExecuteMove(move);
+        doExecuteMove(move, true);
+        mEndedByLastMove = mHistory.isComplete();
+    }
+
+    private void doExecuteMove(@NotNull Move move, boolean checkEndCondition) {
+        Team team = applyMove(move);
+
+        if (!mHistory.isComplete()) {
+            mHistory.moves.add(move);
+        }
+
+        mStatus = null;
+        if (!checkEndCondition) {
+            return;
+        }
+
+        if (Status.END_OF_GAME_STATUS.contains(getStatus())) {
+            Integer winningTeamId = mStatus == Status.CHECKMATE ? team.getTeamId() : null;
+            mHistory.setResult(new Result(mStatus, winningTeamId));
+            mHistoryIndex = mHistory.moves.size();
+        }
     }
 
-    private void doExecuteMove(@NotNull Move move) {
+    /**
+     * Moves the pieces and passes the turn, without touching the history or the status.
+     *
+     * @return the team that made the move
+     */
+    @NotNull
+    private Team applyMove(@NotNull Move move) {
         Board board = mBoards[0];
         Team team = getTeam(mTurnKeeper.getActiveTeamId());
 
@@ -175,45 +643,40 @@ public final class Game {
         }
 
         mTurnKeeper.finishTurn();
-
-        if (!mHistory.isComplete()) {
-            mHistory.moves.add(move);
-        }
-
-        Team newActiveTeam = getTeam(mTurnKeeper.getActiveTeamId());
-        mStatus = newActiveTeam.getEndCondition().checkEndCondition(this);
-
-        if (Status.END_OF_GAME_STATUS.contains(mStatus)) {
-            Integer winningTeamId = mStatus == Status.CHECKMATE ? team.getTeamId() : null;
-            mHistory.setResult(new Result(mStatus, winningTeamId));
-            mHistoryIndex = mHistory.moves.size();
-        }
+        return team;
     }
 
     public boolean canUndoMove() {
         return !mHistory.isComplete() && !mHistory.moves.isEmpty();
     }
 
+    /**
+     * Takes back the last executed move. Unlike {@link #canUndoMove()} suggests for the UI, this also takes back a move
+     * that ended the game, which search and perft rely on; games that were loaded complete or drawn stay finished.
+     */
     public void undoMove() {
-        Preconditions.checkState(!mHistory.isComplete());
         Preconditions.checkState(!mHistory.moves.isEmpty());
+        // a finished game stepped back with previousMove or seekTo isn't at the move being taken back
+        Preconditions.checkState(!mHistory.isComplete()
+                || (mEndedByLastMove && mHistoryIndex == mHistory.moves.size()));
+
+        if (mHistory.isComplete()) {
+            mHistory.setResult(null);
+            mEndedByLastMove = false;
+            mPlaybackSnapshots = null;
+        }
 
         Move move = mHistory.moves.remove(mHistory.moves.size() - 1);
+        mHistory.removeSnapshotsAfter(mHistory.moves.size());
         doUndoMove(move);
     }
 
     public void doUndoMove(@NotNull Move move) {
-
-        // TODO: Undo check end condition
-
         mTurnKeeper.undoFinishTurn();
 
         Board board = mBoards[0];
         Team team = getTeam(mTurnKeeper.getActiveTeamId());
 
-        // TODO: test this more closely to make sure it's correct
-        mStatus = team.getEndCondition().checkEndCondition(this);
-
         Move opponentsLastMove = getOpponentsLastMove();
         for (PostMoveAction action : team.getPostMoveActions()) {
             action.undo(board, team, move, opponentsLastMove);
@@ -230,6 +693,9 @@ public final class Game {
         if (capturedPiece != null) {
             mBoards[0].addPiece(capturedPiece, move.destination);
         }
+
+        // the previous position's status is worked out again only if someone asks for it; search and perft never do
+        mStatus = null;
     }
 
     public Team getTeam(int teamId) {
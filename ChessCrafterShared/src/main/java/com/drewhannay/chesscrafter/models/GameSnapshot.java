@@ -0,0 +1,138 @@
+package com.drewhannay.chesscrafter.models;
+
+import com.drewhannay.chesscrafter.logic.PieceTypeManager;
+import com.drewhannay.chesscrafter.models.turnkeeper.TurnKeeper;
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The state a {@link Game} builds up while moves are played, as plain data: where the pieces stand, the turn
+ * counters, and each team's captured pieces and pieces waiting to be un-promoted. The rules themselves come from the
+ * game's configuration, so a snapshot is restored onto the boards and teams of a game built from it.
+ * <p>
+ * {@link History} keeps one for every {@link Game#SNAPSHOT_INTERVAL} plies and saves them with its moves, so loading a
+ * long game only replays the moves after the last one. Snapshots are never changed once taken.
+ */
+public final class GameSnapshot {
+    final int ply;
+    final List<Map<BoardCoordinate, PieceState>> boards;
+    final int activeTeamIndex;
+    final int movesMadeCount;
+    final int[] turnCounts;
+    final List<TeamState> teams;
+
+    GameSnapshot(int ply, @NotNull List<Map<BoardCoordinate, PieceState>> boards, int activeTeamIndex,
+                 int movesMadeCount, @NotNull int[] turnCounts, @NotNull List<TeamState> teams) {
+        Preconditions.checkArgument(ply >= 0);
+
+        this.ply = ply;
+        this.boards = Collections.unmodifiableList(new ArrayList<>(boards));
+        this.activeTeamIndex = activeTeamIndex;
+        this.movesMadeCount = movesMadeCount;
+        this.turnCounts = turnCounts.clone();
+        this.teams = Collections.unmodifiableList(new ArrayList<>(teams));
+    }
+
+    @NotNull
+    static GameSnapshot of(int ply, @NotNull Board[] boards, @NotNull Team[] teams, @NotNull TurnKeeper turnKeeper) {
+        List<Map<BoardCoordinate, PieceState>> boardStates = new ArrayList<>(boards.length);
+        for (Board board : boards) {
+            BoardSize boardSize = board.getBoardSize();
+            Map<BoardCoordinate, PieceState> pieces = new LinkedHashMap<>();
+            for (int square = 0; square < boardSize.getSquareCount(); square++) {
+                Piece piece = board.getPiece(square);
+                if (piece != null) {
+                    pieces.put(boardSize.toCoordinate(square), PieceState.of(piece));
+                }
+            }
+            boardStates.add(Collections.unmodifiableMap(pieces));
+        }
+
+        List<TeamState> teamStates = new ArrayList<>(teams.length);
+        for (Team team : teams) {
+            teamStates.add(new TeamState(team.getTeamId(), team.getCaptureMoves(),
+                    PieceState.of(team.getCapturedOpposingPieces()),
+                    PieceState.of(team.getPiecePromoter().getPromotedPieces())));
+        }
+
+        return new GameSnapshot(ply, boardStates, turnKeeper.getActiveTeamIndex(), turnKeeper.getMovesMadeCount(),
+                turnKeeper.getTurnCounts(), teamStates);
+    }
+
+    /**
+     * @return how many moves had been played when the snapshot was taken
+     */
+    public int getPly() {
+        return ply;
+    }
+
+    static final class PieceState {
+        final String pieceType;
+        final int teamId;
+        final boolean isObjectivePiece;
+        final int moveCount;
+
+        PieceState(@NotNull String pieceType, int teamId, boolean isObjectivePiece, int moveCount) {
+            this.pieceType = pieceType;
+            this.teamId = teamId;
+            this.isObjectivePiece = isObjectivePiece;
+            this.moveCount = moveCount;
+        }
+
+        @NotNull
+        static PieceState of(@NotNull Piece piece) {
+            return new PieceState(piece.getInternalId(), piece.getTeamId(), piece.isObjectivePiece(),
+                    piece.getMoveCount());
+        }
+
+        @NotNull
+        static List<PieceState> of(@NotNull Iterable<Piece> pieces) {
+            List<PieceState> states = new ArrayList<>();
+            for (Piece piece : pieces) {
+                states.add(of(piece));
+            }
+            return Collections.unmodifiableList(states);
+        }
+
+        @NotNull
+        static List<Piece> toPieces(@NotNull List<PieceState> states) {
+            List<Piece> pieces = new ArrayList<>(states.size());
+            for (PieceState state : states) {
+                pieces.add(state.toPiece());
+            }
+            return pieces;
+        }
+
+        /**
+         * @throws IllegalArgumentException if the piece type isn't registered
+         */
+        @NotNull
+        Piece toPiece() {
+            return new Piece(teamId, PieceTypeManager.INSTANCE.getPieceTypeById(pieceType), isObjectivePiece,
+                    moveCount);
+        }
+    }
+
+    static final class TeamState {
+        final int teamId;
+        final List<Move> captureMoves;
+        final List<PieceState> capturedPieces;
+        final List<PieceState> promotedPieces;
+
+        TeamState(int teamId, @NotNull List<Move> captureMoves, @NotNull List<PieceState> capturedPieces,
+                  @NotNull List<PieceState> promotedPieces) {
+            Preconditions.checkArgument(captureMoves.size() == capturedPieces.size());
+
+            this.teamId = teamId;
+            this.captureMoves = Collections.unmodifiableList(new ArrayList<>(captureMoves));
+            this.capturedPieces = Collections.unmodifiableList(new ArrayList<>(capturedPieces));
+            this.promotedPieces = Collections.unmodifiableList(new ArrayList<>(promotedPieces));
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.drewhannay.chesscrafter.models;
 
 import com.drewhannay.chesscrafter.logic.Result;
+import com.google.common.base.Preconditions;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,11 +16,28 @@ public final class History {
     public final List<Move> moves;
 
     private Result mResult;
+    /**
+     * Ascending by ply; transient so it stays out of reflective JSON, {@link JsonAdapters} writes it
+     */
+    private final transient List<GameSnapshot> mSnapshots;
 
     public History(@NotNull String internalGameId, @NotNull List<Move> moves) {
-        this.internalHistoryId = UUID.randomUUID().toString();
+        this(UUID.randomUUID().toString(), internalGameId, moves);
+    }
+
+    History(@NotNull String internalHistoryId, @NotNull String internalGameId, @NotNull List<Move> moves) {
+        this.internalHistoryId = internalHistoryId;
         this.internalGameId = internalGameId;
         this.moves = moves;
+        mSnapshots = new ArrayList<>();
+    }
+
+    @NotNull
+    History copy() {
+        History history = new History(internalHistoryId, internalGameId, new ArrayList<>(moves));
+        history.mResult = mResult;
+        history.mSnapshots.addAll(mSnapshots);
+        return history;
     }
 
     public boolean isComplete() {
@@ -32,4 +52,35 @@ public final class History {
     void setResult(@Nullable Result result) {
         mResult = result;
     }
+
+    /**
+     * @return the snapshots {@link Game} took every {@link Game#SNAPSHOT_INTERVAL} plies of these moves, oldest
+     * first
+     */
+    @NotNull
+    public List<GameSnapshot> getSnapshots() {
+        return Collections.unmodifiableList(mSnapshots);
+    }
+
+    @Nullable
+    GameSnapshot getLastSnapshot() {
+        return mSnapshots.isEmpty() ? null : mSnapshots.get(mSnapshots.size() - 1);
+    }
+
+    void addSnapshot(@NotNull GameSnapshot snapshot) {
+        GameSnapshot last = getLastSnapshot();
+        Preconditions.checkArgument(last == null || last.ply < snapshot.ply);
+        Preconditions.checkArgument(snapshot.ply <= moves.size());
+
+        mSnapshots.add(snapshot);
+    }
+
+    /**
+     * Drops the snapshots of positions after {@code ply}, whose moves are being taken back.
+     */
+    void removeSnapshotsAfter(int ply) {
+        while (!mSnapshots.isEmpty() && getLastSnapshot().ply > ply) {
+            mSnapshots.remove(mSnapshots.size() - 1);
+        }
+    }
 }
@@ -0,0 +1,252 @@
+package com.drewhannay.chesscrafter.models;
+
+import com.drewhannay.chesscrafter.logic.Result;
+import com.drewhannay.chesscrafter.logic.Status;
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Compact binary form of a {@link History}, a few bytes per move instead of the JSON objects Gson writes:
+ * <pre>
+ * history id     varint 0 + two longs for a UUID, else varint length + 1 and UTF-8 bytes
+ * game id        varint string table index
+ * width          varint widest x of any move, 0 without moves
+ * move count     varint
+ * per move       varint origin square * 2 + 1 if promoting, varint destination square,
+ *                [varint string table index of the promotion type]
+ * result         varint 0 if in progress, else status ordinal + 1 followed by varint winning team id + 1, 0 for none
+ * </pre>
+ * Squares are {@code (y - 1) * width + x - 1}, so a move on a classic board takes two bytes. Game ids and promotion
+ * types repeat from game to game, so they are written once to a string table shared by every history encoded with the
+ * same codec; whoever stores the histories has to store {@link #getStrings()} along with them.
+ * <p>
+ * Encoding adds to the string table and is not thread safe; decoding only reads it.
+ */
+public final class HistoryCodec {
+    private static final int UUID_MARKER = 0;
+
+    private final List<String> mStrings;
+    private final Map<String, Integer> mStringIndexes;
+
+    public HistoryCodec() {
+        this(Collections.<String>emptyList());
+    }
+
+    /**
+     * @param strings the string table the histories to decode were encoded with
+     */
+    public HistoryCodec(@NotNull List<String> strings) {
+        mStrings = new ArrayList<>(strings);
+        mStringIndexes = new HashMap<>();
+        for (int i = 0; i < mStrings.size(); i++) {
+            mStringIndexes.put(mStrings.get(i), i);
+        }
+    }
+
+    @NotNull
+    public List<String> getStrings() {
+        return Collections.unmodifiableList(mStrings);
+    }
+
+    @NotNull
+    public byte[] encode(@NotNull History history) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + history.moves.size() * 2);
+        try {
+            writeHistoryId(out, history.internalHistoryId);
+            writeVarint(out, getStringIndex(history.internalGameId));
+
+            int width = 0;
+            for (Move move : history.moves) {
+                checkCoordinate(move.origin);
+                checkCoordinate(move.destination);
+                width = Math.max(width, Math.max(move.origin.x, move.destination.x));
+            }
+            writeVarint(out, width);
+
+            writeVarint(out, history.moves.size());
+            for (Move move : history.moves) {
+                boolean promotes = move.promotionType != null;
+                writeVarint(out, toSquare(move.origin, width) * 2 + (promotes ? 1 : 0));
+                writeVarint(out, toSquare(move.destination, width));
+                if (promotes) {
+                    writeVarint(out, getStringIndex(move.promotionType));
+                }
+            }
+
+            Result result = history.getResult();
+            if (result == null) {
+                writeVarint(out, 0);
+            } else {
+                writeVarint(out, result.status.ordinal() + 1);
+                Preconditions.checkArgument(result.winningTeamId == null || result.winningTeamId >= 0);
+                writeVarint(out, result.winningTeamId != null ? result.winningTeamId + 1 : 0);
+            }
+        } catch (IOException e) {
+            // ByteArrayOutputStream doesn't throw
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Reads one history starting at the buffer's position and leaves the position right after it.
+     *
+     * @throws IllegalArgumentException if the bytes aren't a history encoded with this string table
+     */
+    @NotNull
+    public History decode(@NotNull ByteBuffer buffer) {
+        try {
+            String historyId = readHistoryId(buffer);
+            String gameId = getString(readVarint(buffer));
+            int width = readVarint(buffer);
+
+            int moveCount = readVarint(buffer);
+            Preconditions.checkArgument(moveCount <= buffer.remaining(), "Bad move count");
+            List<Move> moves = new ArrayList<>(moveCount);
+            for (int i = 0; i < moveCount; i++) {
+                int origin = readVarint(buffer);
+                BoardCoordinate destination = toCoordinate(readVarint(buffer), width);
+                String promotionType = (origin & 1) != 0 ? getString(readVarint(buffer)) : null;
+                moves.add(Move.from(toCoordinate(origin >>> 1, width), destination, promotionType));
+            }
+
+            History history = new History(historyId, gameId, moves);
+            int status = readVarint(buffer);
+            if (status != 0) {
+                Status[] statuses = Status.values();
+                Preconditions.checkArgument(status <= statuses.length, "Bad status");
+                int winningTeamId = readVarint(buffer);
+                history.setResult(new Result(statuses[status - 1], winningTeamId != 0 ? winningTeamId - 1 : null));
+            }
+            return history;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated history", e);
+        }
+    }
+
+    public static void writeVarint(@NotNull OutputStream out, int value) throws IOException {
+        Preconditions.checkArgument(value >= 0);
+
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    public static int readVarint(@NotNull ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                Preconditions.checkArgument(value >= 0, "Bad varint");
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Bad varint");
+    }
+
+    public static void writeString(@NotNull OutputStream out, @NotNull String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes);
+    }
+
+    @NotNull
+    public static String readString(@NotNull ByteBuffer buffer) {
+        return readUtf8(buffer, readVarint(buffer));
+    }
+
+    private int getStringIndex(@NotNull String value) {
+        Integer index = mStringIndexes.get(value);
+        if (index == null) {
+            index = mStrings.size();
+            mStrings.add(value);
+            mStringIndexes.put(value, index);
+        }
+        return index;
+    }
+
+    @NotNull
+    private String getString(int index) {
+        Preconditions.checkArgument(index < mStrings.size(), "Bad string table index");
+        return mStrings.get(index);
+    }
+
+    private static void writeHistoryId(@NotNull OutputStream out, @NotNull String historyId) throws IOException {
+        // ids are random UUIDs unless a file said otherwise, and those take less than half the space as numbers
+        UUID uuid = parseUuid(historyId);
+        if (uuid != null) {
+            writeVarint(out, UUID_MARKER);
+            writeLong(out, uuid.getMostSignificantBits());
+            writeLong(out, uuid.getLeastSignificantBits());
+        } else {
+            byte[] bytes = historyId.getBytes(StandardCharsets.UTF_8);
+            writeVarint(out, bytes.length + 1);
+            out.write(bytes);
+        }
+    }
+
+    @NotNull
+    private static String readHistoryId(@NotNull ByteBuffer buffer) {
+        int marker = readVarint(buffer);
+        if (marker == UUID_MARKER) {
+            return new UUID(buffer.getLong(), buffer.getLong()).toString();
+        }
+        return readUtf8(buffer, marker - 1);
+    }
+
+    @Nullable
+    private static UUID parseUuid(@NotNull String value) {
+        try {
+            UUID uuid = UUID.fromString(value);
+            // fromString also takes forms that wouldn't come back the same
+            return uuid.toString().equals(value) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void writeLong(@NotNull OutputStream out, long value) throws IOException {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift));
+        }
+    }
+
+    @NotNull
+    private static String readUtf8(@NotNull ByteBuffer buffer, int length) {
+        Preconditions.checkArgument(length <= buffer.remaining(), "Bad string length");
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void checkCoordinate(@NotNull BoardCoordinate coordinate) {
+        Preconditions.checkArgument(coordinate.x >= 1 && coordinate.y >= 1, "Off-board coordinate");
+    }
+
+    private static int toSquare(@NotNull BoardCoordinate coordinate, int width) {
+        return (coordinate.y - 1) * width + coordinate.x - 1;
+    }
+
+    @NotNull
+    private static BoardCoordinate toCoordinate(int square, int width) {
+        Preconditions.checkArgument(width > 0, "Bad width");
+        return BoardCoordinate.at(square % width + 1, square / width + 1);
+    }
+}
@@ -0,0 +1,1035 @@
+package com.drewhannay.chesscrafter.models;
+
+import com.drewhannay.chesscrafter.logic.GameConfiguration;
+import com.drewhannay.chesscrafter.logic.GameConfiguration.BoardConfiguration;
+import com.drewhannay.chesscrafter.logic.GameConfiguration.PiecePromoterConfiguration;
+import com.drewhannay.chesscrafter.logic.GameConfiguration.TeamConfiguration;
+import com.drewhannay.chesscrafter.logic.GameConfiguration.TurnKeeperConfiguration;
+import com.drewhannay.chesscrafter.logic.PieceConfiguration;
+import com.drewhannay.chesscrafter.logic.Result;
+import com.drewhannay.chesscrafter.logic.Status;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streaming Gson adapters for the types that end up in saved files, so reading or writing a long history or a big
+ * configuration doesn't go through a {@link com.google.gson.JsonElement} tree or reflection. They read and write
+ * exactly the JSON that reflection did, private field names included, so old files keep loading. The one addition is
+ * a history's {@link GameSnapshot}s, written only when it has some.
+ */
+public final class JsonAdapters {
+
+    private JsonAdapters() {
+    }
+
+    @NotNull
+    public static GsonBuilder registerTypeAdapters(@NotNull GsonBuilder builder) {
+        return builder
+                .registerTypeAdapter(BoardCoordinate.class, new BoardCoordinateAdapter().nullSafe())
+                .registerTypeAdapter(Move.class, new MoveAdapter().nullSafe())
+                .registerTypeAdapter(History.class, new HistoryAdapter().nullSafe())
+                .registerTypeAdapter(PieceType.class, new PieceTypeAdapter().nullSafe())
+                .registerTypeAdapter(GameConfiguration.class, new GameConfigurationAdapter().nullSafe());
+    }
+
+    private static final class BoardCoordinateAdapter extends TypeAdapter<BoardCoordinate> {
+        @Override
+        public void write(JsonWriter out, BoardCoordinate coordinate) throws IOException {
+            out.beginObject();
+            out.name("x").value(coordinate.x);
+            out.name("y").value(coordinate.y);
+            out.endObject();
+        }
+
+        @Override
+        public BoardCoordinate read(JsonReader in) throws IOException {
+            int x = 0;
+            int y = 0;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "x":
+                        x = in.nextInt();
+                        break;
+                    case "y":
+                        y = in.nextInt();
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return BoardCoordinate.at(x, y);
+        }
+    }
+
+    private static final class MoveAdapter extends TypeAdapter<Move> {
+        private final BoardCoordinateAdapter mCoordinateAdapter = new BoardCoordinateAdapter();
+
+        @Override
+        public void write(JsonWriter out, Move move) throws IOException {
+            out.beginObject();
+            out.name("origin");
+            mCoordinateAdapter.write(out, move.origin);
+            out.name("destination");
+            mCoordinateAdapter.write(out, move.destination);
+            out.name("promotionType").value(move.promotionType);
+            out.endObject();
+        }
+
+        @Override
+        public Move read(JsonReader in) throws IOException {
+            BoardCoordinate origin = null;
+            BoardCoordinate destination = null;
+            String promotionType = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "origin":
+                        origin = mCoordinateAdapter.read(in);
+                        break;
+                    case "destination":
+                        destination = mCoordinateAdapter.read(in);
+                        break;
+                    case "promotionType":
+                        promotionType = readString(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            if (origin == null || destination == null) {
+                throw new JsonParseException("Move without origin or destination");
+            }
+            return Move.from(origin, destination, promotionType);
+        }
+    }
+
+    private static final class HistoryAdapter extends TypeAdapter<History> {
+        private final MoveAdapter mMoveAdapter = new MoveAdapter();
+        private final SnapshotAdapter mSnapshotAdapter = new SnapshotAdapter();
+
+        @Override
+        public void write(JsonWriter out, History history) throws IOException {
+            out.beginObject();
+            out.name("internalHistoryId").value(history.internalHistoryId);
+            out.name("internalGameId").value(history.internalGameId);
+            out.name("moves");
+            out.beginArray();
+            for (Move move : history.moves) {
+                mMoveAdapter.write(out, move);
+            }
+            out.endArray();
+
+            Result result = history.getResult();
+            if (result != null) {
+                out.name("mResult");
+                out.beginObject();
+                out.name("status").value(result.status != null ? result.status.name() : null);
+                out.name("winningTeamId").value(result.winningTeamId);
+                out.endObject();
+            }
+
+            List<GameSnapshot> snapshots = history.getSnapshots();
+            if (!snapshots.isEmpty()) {
+                out.name("snapshots");
+                out.beginArray();
+                for (GameSnapshot snapshot : snapshots) {
+                    mSnapshotAdapter.write(out, snapshot);
+                }
+                out.endArray();
+            }
+            out.endObject();
+        }
+
+        @Override
+        public History read(JsonReader in) throws IOException {
+            String historyId = null;
+            String gameId = null;
+            List<Move> moves = new ArrayList<>();
+            Result result = null;
+            List<GameSnapshot> snapshots = new ArrayList<>();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "internalHistoryId":
+                        historyId = readString(in);
+                        break;
+                    case "internalGameId":
+                        gameId = readString(in);
+                        break;
+                    case "moves":
+                        in.beginArray();
+                        while (in.hasNext()) {
+                            moves.add(mMoveAdapter.read(in));
+                        }
+                        in.endArray();
+                        break;
+                    case "mResult":
+                        result = readResult(in);
+                        break;
+                    case "snapshots":
+                        in.beginArray();
+                        while (in.hasNext()) {
+                            snapshots.add(mSnapshotAdapter.read(in));
+                        }
+                        in.endArray();
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            if (gameId == null) {
+                throw new JsonParseException("History without game id");
+            }
+
+            History history = historyId != null ? new History(historyId, gameId, moves) : new History(gameId, moves);
+            history.setResult(result);
+            try {
+                for (GameSnapshot snapshot : snapshots) {
+                    history.addSnapshot(snapshot);
+                }
+            } catch (IllegalArgumentException e) {
+                throw new JsonParseException("Snapshots out of order or past the last move", e);
+            }
+            return history;
+        }
+
+        @Nullable
+        private static Result readResult(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            Status status = null;
+            Integer winningTeamId = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "status":
+                        String statusName = readString(in);
+                        status = statusName != null ? readEnum(Status.class, statusName) : null;
+                        break;
+                    case "winningTeamId":
+                        winningTeamId = readInteger(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return new Result(status, winningTeamId);
+        }
+    }
+
+    private static final class SnapshotAdapter extends TypeAdapter<GameSnapshot> {
+        private final BoardCoordinateAdapter mCoordinateAdapter = new BoardCoordinateAdapter();
+        private final MoveAdapter mMoveAdapter = new MoveAdapter();
+
+        @Override
+        public void write(JsonWriter out, GameSnapshot snapshot) throws IOException {
+            out.beginObject();
+            out.name("ply").value(snapshot.ply);
+            out.name("boards");
+            out.beginArray();
+            for (Map<BoardCoordinate, GameSnapshot.PieceState> pieces : snapshot.boards) {
+                out.beginArray();
+                for (Map.Entry<BoardCoordinate, GameSnapshot.PieceState> entry : pieces.entrySet()) {
+                    out.beginObject();
+                    out.name("coordinate");
+                    mCoordinateAdapter.write(out, entry.getKey());
+                    out.name("piece");
+                    writePiece(out, entry.getValue());
+                    out.endObject();
+                }
+                out.endArray();
+            }
+            out.endArray();
+            out.name("activeTeamIndex").value(snapshot.activeTeamIndex);
+            out.name("movesMadeCount").value(snapshot.movesMadeCount);
+            GameConfigurationAdapter.writeIntArray(out, "turnCounts", snapshot.turnCounts);
+            out.name("teams");
+            out.beginArray();
+            for (GameSnapshot.TeamState team : snapshot.teams) {
+                out.beginObject();
+                out.name("teamId").value(team.teamId);
+                out.name("captureMoves");
+                out.beginArray();
+                for (Move move : team.captureMoves) {
+                    mMoveAdapter.write(out, move);
+                }
+                out.endArray();
+                out.name("capturedPieces");
+                writePieces(out, team.capturedPieces);
+                out.name("promotedPieces");
+                writePieces(out, team.promotedPieces);
+                out.endObject();
+            }
+            out.endArray();
+            out.endObject();
+        }
+
+        @Override
+        public GameSnapshot read(JsonReader in) throws IOException {
+            int ply = -1;
+            List<Map<BoardCoordinate, GameSnapshot.PieceState>> boards = new ArrayList<>();
+            int activeTeamIndex = 0;
+            int movesMadeCount = 0;
+            int[] turnCounts = null;
+            List<GameSnapshot.TeamState> teams = new ArrayList<>();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ply":
+                        ply = in.nextInt();
+                        break;
+                    case "boards":
+                        in.beginArray();
+                        while (in.hasNext()) {
+                            boards.add(readBoard(in));
+                        }
+                        in.endArray();
+                        break;
+                    case "activeTeamIndex":
+                        activeTeamIndex = in.nextInt();
+                        break;
+                    case "movesMadeCount":
+                        movesMadeCount = in.nextInt();
+                        break;
+                    case "turnCounts":
+                        turnCounts = GameConfigurationAdapter.readIntArray(in);
+                        break;
+                    case "teams":
+                        in.beginArray();
+                        while (in.hasNext()) {
+                            teams.add(readTeam(in));
+                        }
+                        in.endArray();
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            if (ply < 0 || turnCounts == null) {
+                throw new JsonParseException("Snapshot without ply or turn counts");
+            }
+            return new GameSnapshot(ply, boards, activeTeamIndex, movesMadeCount, turnCounts, teams);
+        }
+
+        private Map<BoardCoordinate, GameSnapshot.PieceState> readBoard(JsonReader in) throws IOException {
+            Map<BoardCoordinate, GameSnapshot.PieceState> pieces = new LinkedHashMap<>();
+            in.beginArray();
+            while (in.hasNext()) {
+                BoardCoordinate coordinate = null;
+                GameSnapshot.PieceState piece = null;
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "coordinate":
+                            coordinate = mCoordinateAdapter.read(in);
+                            break;
+                        case "piece":
+                            piece = readPiece(in);
+                            break;
+                        default:
+                            in.skipValue();
+                            break;
+                    }
+                }
+                in.endObject();
+                if (coordinate == null || piece == null) {
+                    throw new JsonParseException("Snapshot square without coordinate or piece");
+                }
+                pieces.put(coordinate, piece);
+            }
+            in.endArray();
+            return Collections.unmodifiableMap(pieces);
+        }
+
+        private GameSnapshot.TeamState readTeam(JsonReader in) throws IOException {
+            Integer teamId = null;
+            List<Move> captureMoves = new ArrayList<>();
+            List<GameSnapshot.PieceState> capturedPieces = new ArrayList<>();
+            List<GameSnapshot.PieceState> promotedPieces = new ArrayList<>();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "teamId":
+                        teamId = in.nextInt();
+                        break;
+                    case "captureMoves":
+                        in.beginArray();
+                        while (in.hasNext()) {
+                            captureMoves.add(mMoveAdapter.read(in));
+                        }
+                        in.endArray();
+                        break;
+                    case "capturedPieces":
+                        capturedPieces = readPieces(in);
+                        break;
+                    case "promotedPieces":
+                        promotedPieces = readPieces(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            if (teamId == null || captureMoves.size() != capturedPieces.size()) {
+                throw new JsonParseException("Snapshot team without id or with mismatched captures");
+            }
+            return new GameSnapshot.TeamState(teamId, captureMoves, capturedPieces, promotedPieces);
+        }
+
+        private static void writePieces(JsonWriter out, List<GameSnapshot.PieceState> pieces) throws IOException {
+            out.beginArray();
+            for (GameSnapshot.PieceState piece : pieces) {
+                writePiece(out, piece);
+            }
+            out.endArray();
+        }
+
+        private static void writePiece(JsonWriter out, GameSnapshot.PieceState piece) throws IOException {
+            out.beginObject();
+            out.name("pieceType").value(piece.pieceType);
+            out.name("teamId").value(piece.teamId);
+            out.name("isObjectivePiece").value(piece.isObjectivePiece);
+            out.name("moveCount").value(piece.moveCount);
+            out.endObject();
+        }
+
+        private static List<GameSnapshot.PieceState> readPieces(JsonReader in) throws IOException {
+            List<GameSnapshot.PieceState> pieces = new ArrayList<>();
+            in.beginArray();
+            while (in.hasNext()) {
+                pieces.add(readPiece(in));
+            }
+            in.endArray();
+            return pieces;
+        }
+
+        private static GameSnapshot.PieceState readPiece(JsonReader in) throws IOException {
+            String pieceType = null;
+            int teamId = 0;
+            boolean isObjectivePiece = false;
+            int moveCount = 0;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "pieceType":
+                        pieceType = readString(in);
+                        break;
+                    case "teamId":
+                        teamId = in.nextInt();
+                        break;
+                    case "isObjectivePiece":
+                        isObjectivePiece = in.nextBoolean();
+                        break;
+                    case "moveCount":
+                        moveCount = in.nextInt();
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            if (pieceType == null) {
+                throw new JsonParseException("Snapshot piece without type");
+            }
+            return new GameSnapshot.PieceState(pieceType, teamId, isObjectivePiece, moveCount);
+        }
+    }
+
+    private static final class PieceTypeAdapter extends TypeAdapter<PieceType> {
+        @Override
+        public void write(JsonWriter out, PieceType pieceType) throws IOException {
+            out.beginObject();
+            out.name("mInternalId").value(pieceType.getInternalId());
+            out.name("mName").value(pieceType.getName());
+            out.name("mMovements");
+            writeCardinalMovements(out, pieceType.getMovements());
+            out.name("mCapturingMovements");
+            writeCardinalMovements(out, pieceType.getCapturingMovements());
+            out.name("mTwoHopMovements");
+            out.beginArray();
+            for (TwoHopMovement movement : pieceType.getTwoHopMovements()) {
+                out.beginObject();
+                out.name("x").value(movement.x);
+                out.name("y").value(movement.y);
+                out.endObject();
+            }
+            out.endArray();
+            out.endObject();
+        }
+
+        @Override
+        public PieceType read(JsonReader in) throws IOException {
+            String internalId = null;
+            String name = null;
+            Set<CardinalMovement> movements = null;
+            Set<CardinalMovement> capturingMovements = null;
+            Set<TwoHopMovement> twoHopMovements = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "mInternalId":
+                        internalId = readString(in);
+                        break;
+                    case "mName":
+                        name = readString(in);
+                        break;
+                    case "mMovements":
+                        movements = readCardinalMovements(in);
+                        break;
+                    case "mCapturingMovements":
+                        capturingMovements = readCardinalMovements(in);
+                        break;
+                    case "mTwoHopMovements":
+                        twoHopMovements = readTwoHopMovements(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            if (internalId == null || internalId.isEmpty() || name == null || name.isEmpty()) {
+                throw new JsonParseException("PieceType without id or name");
+            }
+
+            // files from before capturing movements were split off capture the way they move
+            return new PieceType(internalId, name, movements,
+                    capturingMovements != null ? capturingMovements : movements, twoHopMovements);
+        }
+
+        private static void writeCardinalMovements(JsonWriter out, Set<CardinalMovement> movements)
+                throws IOException {
+            out.beginArray();
+            for (CardinalMovement movement : movements) {
+                out.beginObject();
+                out.name("direction").value(movement.direction.name());
+                out.name("distance").value(movement.distance);
+                out.endObject();
+            }
+            out.endArray();
+        }
+
+        @Nullable
+        private static Set<CardinalMovement> readCardinalMovements(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            Set<CardinalMovement> movements = new LinkedHashSet<>();
+            in.beginArray();
+            while (in.hasNext()) {
+                Direction direction = null;
+                int distance = 0;
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "direction":
+                            direction = readEnum(Direction.class, in.nextString());
+                            break;
+                        case "distance":
+                            distance = in.nextInt();
+                            break;
+                        default:
+                            in.skipValue();
+                            break;
+                    }
+                }
+                in.endObject();
+                if (direction == null) {
+                    throw new JsonParseException("Movement without direction");
+                }
+                movements.add(CardinalMovement.with(direction, distance));
+            }
+            in.endArray();
+            return movements;
+        }
+
+        @Nullable
+        private static Set<TwoHopMovement> readTwoHopMovements(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            Set<TwoHopMovement> movements = new LinkedHashSet<>();
+            in.beginArray();
+            while (in.hasNext()) {
+                int x = 0;
+                int y = 0;
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "x":
+                            x = in.nextInt();
+                            break;
+                        case "y":
+                            y = in.nextInt();
+                            break;
+                        default:
+                            in.skipValue();
+                            break;
+                    }
+                }
+                in.endObject();
+                movements.add(TwoHopMovement.with(x, y));
+            }
+            in.endArray();
+            return movements;
+        }
+    }
+
+    private static final class GameConfigurationAdapter extends TypeAdapter<GameConfiguration> {
+        @Override
+        public void write(JsonWriter out, GameConfiguration config) throws IOException {
+            out.beginObject();
+            out.name("name").value(config.name);
+            out.name("internalGameId").value(config.internalGameId);
+            if (config.boards != null) {
+                out.name("boards");
+                out.beginArray();
+                for (BoardConfiguration board : config.boards) {
+                    writeBoard(out, board);
+                }
+                out.endArray();
+            }
+            if (config.teams != null) {
+                out.name("teams");
+                out.beginArray();
+                for (TeamConfiguration team : config.teams) {
+                    writeTeam(out, team);
+                }
+                out.endArray();
+            }
+            if (config.turnKeeper != null) {
+                out.name("turnKeeper");
+                out.beginObject();
+                writeIntArray(out, "teamIds", config.turnKeeper.teamIds);
+                writeIntArray(out, "turnCounts", config.turnKeeper.turnCounts);
+                writeIntArray(out, "turnIncrements", config.turnKeeper.turnIncrements);
+                out.endObject();
+            }
+            out.endObject();
+        }
+
+        @Override
+        public GameConfiguration read(JsonReader in) throws IOException {
+            GameConfiguration config = new GameConfiguration();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "name":
+                        config.name = readString(in);
+                        break;
+                    case "internalGameId":
+                        config.internalGameId = readString(in);
+                        break;
+                    case "boards":
+                        config.boards = readBoards(in);
+                        break;
+                    case "teams":
+                        config.teams = readTeams(in);
+                        break;
+                    case "turnKeeper":
+                        config.turnKeeper = readTurnKeeper(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return config;
+        }
+
+        private static void writeBoard(JsonWriter out, BoardConfiguration board) throws IOException {
+            if (board == null) {
+                out.nullValue();
+                return;
+            }
+
+            out.beginObject();
+            out.name("width").value(board.width);
+            out.name("height").value(board.height);
+            if (board.pieces != null) {
+                out.name("pieces");
+                out.beginArray();
+                for (PieceConfiguration[] row : board.pieces) {
+                    if (row == null) {
+                        out.nullValue();
+                        continue;
+                    }
+                    out.beginArray();
+                    for (PieceConfiguration piece : row) {
+                        if (piece == null) {
+                            out.nullValue();
+                            continue;
+                        }
+                        out.beginObject();
+                        out.name("teamId").value(piece.teamId);
+                        out.name("isObjective").value(piece.isObjective);
+                        out.name("internalId").value(piece.internalId);
+                        out.endObject();
+                    }
+                    out.endArray();
+                }
+                out.endArray();
+            }
+            out.endObject();
+        }
+
+        @Nullable
+        private static BoardConfiguration[] readBoards(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            List<BoardConfiguration> boards = new ArrayList<>();
+            in.beginArray();
+            while (in.hasNext()) {
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    boards.add(null);
+                    continue;
+                }
+
+                BoardConfiguration board = new BoardConfiguration();
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "width":
+                            board.width = in.nextInt();
+                            break;
+                        case "height":
+                            board.height = in.nextInt();
+                            break;
+                        case "pieces":
+                            board.pieces = readPieces(in);
+                            break;
+                        default:
+                            in.skipValue();
+                            break;
+                    }
+                }
+                in.endObject();
+                boards.add(board);
+            }
+            in.endArray();
+            return boards.toArray(new BoardConfiguration[boards.size()]);
+        }
+
+        @Nullable
+        private static PieceConfiguration[][] readPieces(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            List<PieceConfiguration[]> rows = new ArrayList<>();
+            in.beginArray();
+            while (in.hasNext()) {
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    rows.add(null);
+                    continue;
+                }
+
+                List<PieceConfiguration> row = new ArrayList<>();
+                in.beginArray();
+                while (in.hasNext()) {
+                    if (in.peek() == JsonToken.NULL) {
+                        in.nextNull();
+                        row.add(null);
+                        continue;
+                    }
+
+                    PieceConfiguration piece = new PieceConfiguration();
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        switch (in.nextName()) {
+                            case "teamId":
+                                piece.teamId = in.nextInt();
+                                break;
+                            case "isObjective":
+                                piece.isObjective = in.nextBoolean();
+                                break;
+                            case "internalId":
+                                piece.internalId = readString(in);
+                                break;
+                            default:
+                                in.skipValue();
+                                break;
+                        }
+                    }
+                    in.endObject();
+                    row.add(piece);
+                }
+                in.endArray();
+                rows.add(row.toArray(new PieceConfiguration[row.size()]));
+            }
+            in.endArray();
+            return rows.toArray(new PieceConfiguration[rows.size()][]);
+        }
+
+        private static void writeTeam(JsonWriter out, TeamConfiguration team) throws IOException {
+            if (team == null) {
+                out.nullValue();
+                return;
+            }
+
+            out.beginObject();
+            out.name("teamId").value(team.teamId);
+            out.name("teamColor").value(team.teamColor);
+            out.name("teamName").value(team.teamName);
+            writeStringArray(out, "conditionalMoveGenerators", team.conditionalMoveGenerators);
+            writeStringArray(out, "moveFilters", team.moveFilters);
+            writeStringArray(out, "postMoveActions", team.postMoveActions);
+            PiecePromoterConfiguration promoter = team.piecePromoterConfiguration;
+            if (promoter != null) {
+                out.name("piecePromoterConfiguration");
+                out.beginObject();
+                out.name("promotionRow").value(promoter.promotionRow);
+                out.name("pieceTypeId").value(promoter.pieceTypeId);
+                out.endObject();
+            }
+            out.name("endCondition").value(team.endCondition);
+            out.endObject();
+        }
+
+        @Nullable
+        private static TeamConfiguration[] readTeams(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            List<TeamConfiguration> teams = new ArrayList<>();
+            in.beginArray();
+            while (in.hasNext()) {
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    teams.add(null);
+                    continue;
+                }
+
+                TeamConfiguration team = new TeamConfiguration();
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "teamId":
+                            team.teamId = in.nextInt();
+                            break;
+                        case "teamColor":
+                            team.teamColor = in.nextInt();
+                            break;
+                        case "teamName":
+                            team.teamName = readString(in);
+                            break;
+                        case "conditionalMoveGenerators":
+                            team.conditionalMoveGenerators = readStringArray(in);
+                            break;
+                        case "moveFilters":
+                            team.moveFilters = readStringArray(in);
+                            break;
+                        case "postMoveActions":
+                            team.postMoveActions = readStringArray(in);
+                            break;
+                        case "piecePromoterConfiguration":
+                            team.piecePromoterConfiguration = readPromoter(in);
+                            break;
+                        case "endCondition":
+                            team.endCondition = readString(in);
+                            break;
+                        default:
+                            in.skipValue();
+                            break;
+                    }
+                }
+                in.endObject();
+                teams.add(team);
+            }
+            in.endArray();
+            return teams.toArray(new TeamConfiguration[teams.size()]);
+        }
+
+        @Nullable
+        private static PiecePromoterConfiguration readPromoter(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            PiecePromoterConfiguration promoter = new PiecePromoterConfiguration();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "promotionRow":
+                        promoter.promotionRow = in.nextInt();
+                        break;
+                    case "pieceTypeId":
+                        promoter.pieceTypeId = readString(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return promoter;
+        }
+
+        @Nullable
+        private static TurnKeeperConfiguration readTurnKeeper(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            TurnKeeperConfiguration turnKeeper = new TurnKeeperConfiguration();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "teamIds":
+                        turnKeeper.teamIds = readIntArray(in);
+                        break;
+                    case "turnCounts":
+                        turnKeeper.turnCounts = readIntArray(in);
+                        break;
+                    case "turnIncrements":
+                        turnKeeper.turnIncrements = readIntArray(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return turnKeeper;
+        }
+
+        private static void writeIntArray(JsonWriter out, String name, int[] values) throws IOException {
+            if (values == null) {
+                return;
+            }
+
+            out.name(name);
+            out.beginArray();
+            for (int value : values) {
+                out.value(value);
+            }
+            out.endArray();
+        }
+
+        @Nullable
+        private static int[] readIntArray(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            int[] values = new int[8];
+            int count = 0;
+            in.beginArray();
+            while (in.hasNext()) {
+                if (count == values.length) {
+                    values = Arrays.copyOf(values, count * 2);
+                }
+                values[count++] = in.nextInt();
+            }
+            in.endArray();
+            return Arrays.copyOf(values, count);
+        }
+
+        private static void writeStringArray(JsonWriter out, String name, String[] values) throws IOException {
+            if (values == null) {
+                return;
+            }
+
+            out.name(name);
+            out.beginArray();
+            for (String value : values) {
+                out.value(value);
+            }
+            out.endArray();
+        }
+
+        @Nullable
+        private static String[] readStringArray(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            List<String> values = new ArrayList<>();
+            in.beginArray();
+            while (in.hasNext()) {
+                values.add(readString(in));
+            }
+            in.endArray();
+            return values.toArray(new String[values.size()]);
+        }
+    }
+
+    @Nullable
+    private static String readString(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextString();
+    }
+
+    @Nullable
+    private static Integer readInteger(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextInt();
+    }
+
+    /**
+     * @return null for a name the enum doesn't have, like Gson's own enum adapter
+     */
+    @Nullable
+    private static <E extends Enum<E>> E readEnum(Class<E> enumClass, String name) {
+        try {
+            return Enum.valueOf(enumClass, name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.drewhannay.chesscrafter.models;
+
+import com.google.common.base.Preconditions;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of moves packed into ints, owned by the caller and reused between move generation calls. A packed
+ * move holds the origin square in the low 12 bits, the destination square in the next 12 bits and {@code FLAG_*}
+ * bits in the top byte. Squares are addressed by {@link BoardSize#toSquareIndex(int, int)}.
+ */
+public final class MoveBuffer {
+    public static final int MAX_SQUARE_COUNT = 1 << 12;
+
+    public static final int FLAG_CAPTURE = 1;
+    public static final int FLAG_DOUBLE_STEP = 1 << 1;
+    public static final int FLAG_CONDITIONAL = 1 << 2;
+
+    private static final int SQUARE_MASK = MAX_SQUARE_COUNT - 1;
+    private static final int DESTINATION_SHIFT = 12;
+    private static final int FLAGS_SHIFT = 24;
+
+    private int[] mMoves;
+    private int mSize;
+
+    public MoveBuffer() {
+        this(64);
+    }
+
+    public MoveBuffer(int initialCapacity) {
+        Preconditions.checkArgument(initialCapacity > 0);
+
+        mMoves = new int[initialCapacity];
+    }
+
+    public static int encode(int origin, int destination, int flags) {
+        return origin | (destination << DESTINATION_SHIFT) | (flags << FLAGS_SHIFT);
+    }
+
+    public static int getOrigin(int move) {
+        return move & SQUARE_MASK;
+    }
+
+    public static int getDestination(int move) {
+        return (move >>> DESTINATION_SHIFT) & SQUARE_MASK;
+    }
+
+    public static int getFlags(int move) {
+        return move >>> FLAGS_SHIFT;
+    }
+
+    public static boolean isCapture(int move) {
+        return (getFlags(move) & FLAG_CAPTURE) != 0;
+    }
+
+    public void add(int move) {
+        if (mSize == mMoves.length) {
+            mMoves = Arrays.copyOf(mMoves, mSize * 2);
+        }
+        mMoves[mSize++] = move;
+    }
+
+    public void add(int origin, int destination, int flags) {
+        add(encode(origin, destination, flags));
+    }
+
+    public int get(int index) {
+        Preconditions.checkElementIndex(index, mSize);
+        return mMoves[index];
+    }
+
+    public void set(int index, int move) {
+        Preconditions.checkElementIndex(index, mSize);
+        mMoves[index] = move;
+    }
+
+    public boolean containsDestination(int destination) {
+        for (int i = 0; i < mSize; i++) {
+            if (getDestination(mMoves[i]) == destination) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return mSize;
+    }
+
+    public boolean isEmpty() {
+        return mSize == 0;
+    }
+
+    /**
+     * Drops every move at or after {@code size}; used by filters that compact kept moves to the front in place.
+     */
+    public void truncate(int size) {
+        Preconditions.checkPositionIndex(size, mSize);
+        mSize = size;
+    }
+
+    public void clear() {
+        mSize = 0;
+    }
+}
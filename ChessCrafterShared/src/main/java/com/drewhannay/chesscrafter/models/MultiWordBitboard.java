@@ -0,0 +1,309 @@
+package com.drewhannay.chesscrafter.models;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Bit sets spread over a {@code long[]} for boards with more than 64 squares. Sliding attacks are generated by
+ * repeatedly shifting the moving piece's bit by the direction's square offset and masking off file wrap-around.
+ */
+final class MultiWordBitboard extends Bitboard {
+
+    private final BoardSize mBoardSize;
+    private final int mWordCount;
+    private final int mLongestRay;
+
+    private final long[] mBoardMask;
+    private final long[] mNotFirstFile;
+    private final long[] mNotLastFile;
+
+    private final long[] mOccupancy;
+
+    private int[] mTeamIds;
+    private long[][] mTeamOccupancy;
+    private int mTeamCount;
+
+    private String[] mTypeIds;
+    private long[][] mTypeOccupancy;
+    private int mTypeCount;
+
+    private final long[] mEmpty;
+    private final long[] mEnemies;
+    private final long[] mTargets;
+    private final long[] mGenerator;
+    private final long[] mShifted;
+
+    MultiWordBitboard(@NotNull BoardSize boardSize) {
+        mBoardSize = boardSize;
+        mWordCount = (boardSize.getSquareCount() + Long.SIZE - 1) / Long.SIZE;
+        mLongestRay = Math.max(boardSize.width, boardSize.height) - 1;
+
+        mBoardMask = new long[mWordCount];
+        mNotFirstFile = new long[mWordCount];
+        mNotLastFile = new long[mWordCount];
+        for (int square = 0; square < boardSize.getSquareCount(); square++) {
+            setBit(mBoardMask, square);
+            if (square % boardSize.width != 0) {
+                setBit(mNotFirstFile, square);
+            }
+            if (square % boardSize.width != boardSize.width - 1) {
+                setBit(mNotLastFile, square);
+            }
+        }
+
+        mOccupancy = new long[mWordCount];
+
+        mTeamIds = new int[2];
+        mTeamOccupancy = new long[2][mWordCount];
+        mTypeIds = new String[8];
+        mTypeOccupancy = new long[8][mWordCount];
+
+        mEmpty = new long[mWordCount];
+        mEnemies = new long[mWordCount];
+        mTargets = new long[mWordCount];
+        mGenerator = new long[mWordCount];
+        mShifted = new long[mWordCount];
+    }
+
+    @Override
+    void setPiece(int square, @Nullable Piece oldPiece, @Nullable Piece newPiece) {
+        if (oldPiece != null) {
+            clearBit(mOccupancy, square);
+            clearBit(mTeamOccupancy[getTeamSlot(oldPiece.getTeamId())], square);
+            clearBit(mTypeOccupancy[getTypeSlot(oldPiece.getInternalId())], square);
+        }
+        if (newPiece != null) {
+            setBit(mOccupancy, square);
+            setBit(mTeamOccupancy[getTeamSlot(newPiece.getTeamId())], square);
+            setBit(mTypeOccupancy[getTypeSlot(newPiece.getInternalId())], square);
+        }
+    }
+
+    @Override
+    boolean isOccupied(int square) {
+        return isBitSet(mOccupancy, square);
+    }
+
+    @Override
+    int getPieceCount(int teamId, @NotNull PieceType pieceType) {
+        int teamSlot = findTeamSlot(teamId);
+        int typeSlot = findTypeSlot(pieceType.getInternalId());
+        if (teamSlot < 0 || typeSlot < 0) {
+            return 0;
+        }
+
+        int count = 0;
+        for (int word = 0; word < mWordCount; word++) {
+            count += Long.bitCount(mTeamOccupancy[teamSlot][word] & mTypeOccupancy[typeSlot][word]);
+        }
+        return count;
+    }
+
+    @Override
+    void addMovesFrom(int square, @NotNull Piece piece, @NotNull Collection<BoardCoordinate> moves) {
+        computeMoveTargets(square, piece);
+
+        for (int word = 0; word < mWordCount; word++) {
+            long targets = mTargets[word];
+            while (targets != 0) {
+                moves.add(mBoardSize.toCoordinate(word * Long.SIZE + Long.numberOfTrailingZeros(targets)));
+                targets &= targets - 1;
+            }
+        }
+    }
+
+    @Override
+    void generateMoves(int square, @NotNull Piece piece, @NotNull MoveBuffer moves) {
+        int doubleStepTarget = getDoubleStepTarget(square, piece, mBoardSize);
+        computeMoveTargets(square, piece);
+
+        for (int word = 0; word < mWordCount; word++) {
+            long targets = mTargets[word];
+            while (targets != 0) {
+                int target = word * Long.SIZE + Long.numberOfTrailingZeros(targets);
+                moves.add(square, target, getMoveFlags(target, doubleStepTarget));
+                targets &= targets - 1;
+            }
+        }
+    }
+
+    private void computeMoveTargets(int square, @NotNull Piece piece) {
+        PieceType pieceType = piece.getPieceType();
+
+        int teamSlot = findTeamSlot(piece.getTeamId());
+        for (int word = 0; word < mWordCount; word++) {
+            long friends = teamSlot < 0 ? 0 : mTeamOccupancy[teamSlot][word];
+            mEmpty[word] = ~mOccupancy[word] & mBoardMask[word];
+            mEnemies[word] = mOccupancy[word] & ~friends;
+            mTargets[word] = 0;
+        }
+
+        for (CardinalMovement movement : pieceType.getMovements()) {
+            slide(movement.direction, square, movement.distance, mEmpty);
+        }
+        for (CardinalMovement movement : pieceType.getCapturingMovements()) {
+            slide(movement.direction, square, movement.distance, mEnemies);
+        }
+        addLeaperTargets(pieceType.getAttackTable(mBoardSize), square);
+
+        int initialStepY = getInitialStepY(piece);
+        if (initialStepY != 0) {
+            int x = square % mBoardSize.width;
+            int y = square / mBoardSize.width;
+            int step = Integer.signum(initialStepY);
+            if (isOnBoard(x, y + initialStepY)
+                    && !isOccupied(square + step * mBoardSize.width)
+                    && !isOccupied(square + initialStepY * mBoardSize.width)) {
+                setBit(mTargets, square + initialStepY * mBoardSize.width);
+            }
+        }
+    }
+
+    /**
+     * Adds the squares reached by sliding from {@code square} that are also in {@code filter}. The slide stops on
+     * (and includes) the first occupied square.
+     */
+    private void slide(@NotNull Direction direction, int square, int distance, @NotNull long[] filter) {
+        int offset = direction.dx + direction.dy * mBoardSize.width;
+        long[] wrapMask = direction.dx > 0 ? mNotFirstFile : direction.dx < 0 ? mNotLastFile : mBoardMask;
+
+        Arrays.fill(mGenerator, 0);
+        setBit(mGenerator, square);
+
+        int steps = Math.min(distance, mLongestRay);
+        for (int step = 0; step < steps; step++) {
+            shift(mGenerator, offset, mShifted);
+
+            boolean reachedSquare = false;
+            for (int word = 0; word < mWordCount; word++) {
+                long reached = mShifted[word] & wrapMask[word] & mBoardMask[word];
+                mTargets[word] |= reached & filter[word];
+                mGenerator[word] = reached & ~mOccupancy[word];
+                reachedSquare |= mGenerator[word] != 0;
+            }
+
+            if (!reachedSquare) {
+                return;
+            }
+        }
+    }
+
+    private void shift(@NotNull long[] source, int offset, @NotNull long[] destination) {
+        int wordShift = Math.abs(offset) / Long.SIZE;
+        int bitShift = Math.abs(offset) % Long.SIZE;
+
+        if (offset >= 0) {
+            for (int word = mWordCount - 1; word >= 0; word--) {
+                int from = word - wordShift;
+                long value = from >= 0 ? source[from] << bitShift : 0;
+                if (bitShift != 0 && from - 1 >= 0) {
+                    value |= source[from - 1] >>> (Long.SIZE - bitShift);
+                }
+                destination[word] = value;
+            }
+        } else {
+            for (int word = 0; word < mWordCount; word++) {
+                int from = word + wordShift;
+                long value = from < mWordCount ? source[from] >>> bitShift : 0;
+                if (bitShift != 0 && from + 1 < mWordCount) {
+                    value |= source[from + 1] << (Long.SIZE - bitShift);
+                }
+                destination[word] = value;
+            }
+        }
+    }
+
+    private void addLeaperTargets(@NotNull AttackTable attackTable, int square) {
+        for (int target : attackTable.getLeaperTargets(square)) {
+            addLeaperTarget(target);
+        }
+        for (int[] leap : attackTable.getDiagonalLeaps(square)) {
+            if (isPathEmpty(leap)) {
+                addLeaperTarget(leap[leap.length - 1]);
+            }
+        }
+    }
+
+    private void addLeaperTarget(int target) {
+        if (isBitSet(mEmpty, target) || isBitSet(mEnemies, target)) {
+            setBit(mTargets, target);
+        }
+    }
+
+    /**
+     * @return whether every square of {@code leap} before its target is empty
+     */
+    private boolean isPathEmpty(@NotNull int[] leap) {
+        for (int i = 0; i < leap.length - 1; i++) {
+            if (isBitSet(mOccupancy, leap[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isOnBoard(int x, int y) {
+        return x >= 0 && y >= 0 && x < mBoardSize.width && y < mBoardSize.height;
+    }
+
+    private static void setBit(@NotNull long[] bits, int index) {
+        bits[index / Long.SIZE] |= 1L << (index % Long.SIZE);
+    }
+
+    private static void clearBit(@NotNull long[] bits, int index) {
+        bits[index / Long.SIZE] &= ~(1L << (index % Long.SIZE));
+    }
+
+    private static boolean isBitSet(@NotNull long[] bits, int index) {
+        return (bits[index / Long.SIZE] & (1L << (index % Long.SIZE))) != 0;
+    }
+
+    private int findTeamSlot(int teamId) {
+        for (int i = 0; i < mTeamCount; i++) {
+            if (mTeamIds[i] == teamId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int findTypeSlot(@NotNull String internalId) {
+        for (int i = 0; i < mTypeCount; i++) {
+            if (mTypeIds[i].equals(internalId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int getTeamSlot(int teamId) {
+        int slot = findTeamSlot(teamId);
+        if (slot >= 0) {
+            return slot;
+        }
+        if (mTeamCount == mTeamIds.length) {
+            mTeamIds = Arrays.copyOf(mTeamIds, mTeamCount * 2);
+            mTeamOccupancy = Arrays.copyOf(mTeamOccupancy, mTeamCount * 2);
+        }
+        mTeamIds[mTeamCount] = teamId;
+        mTeamOccupancy[mTeamCount] = new long[mWordCount];
+        return mTeamCount++;
+    }
+
+    private int getTypeSlot(@NotNull String internalId) {
+        int slot = findTypeSlot(internalId);
+        if (slot >= 0) {
+            return slot;
+        }
+        if (mTypeCount == mTypeIds.length) {
+            mTypeIds = Arrays.copyOf(mTypeIds, mTypeCount * 2);
+            mTypeOccupancy = Arrays.copyOf(mTypeOccupancy, mTypeCount * 2);
+        }
+        mTypeIds[mTypeCount] = internalId;
+        mTypeOccupancy[mTypeCount] = new long[mWordCount];
+        return mTypeCount++;
+    }
+}
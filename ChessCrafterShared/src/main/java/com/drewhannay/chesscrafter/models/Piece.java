@@ -40,6 +40,11 @@ public final class Piece {
         return mPieceType.getInternalId();
     }
 
+    @NotNull
+    public PieceType getPieceType() {
+        return mPieceType;
+    }
+
     public int getTeamId() {
         return mTeamId;
     }
@@ -64,6 +69,11 @@ public final class Piece {
         mMoveCount--;
     }
 
+    @NotNull
+    public Piece copy() {
+        return new Piece(mTeamId, mPieceType, mIsObjectivePiece, mMoveCount);
+    }
+
     public Set<BoardCoordinate> getMovesFrom(@NotNull BoardCoordinate coordinate, @NotNull BoardSize boardSize) {
         return mPieceType.getMovesFrom(coordinate, boardSize, mMoveCount);
     }
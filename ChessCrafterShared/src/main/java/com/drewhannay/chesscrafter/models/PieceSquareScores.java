@@ -0,0 +1,86 @@
+package com.drewhannay.chesscrafter.models;
+
+import com.drewhannay.chesscrafter.logic.PieceTypeManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Per-team sums of {@link PieceTypeManager#getPieceSquareTable} values for the pieces on a {@link Board}, kept up to
+ * date as pieces are set and cleared so an evaluation never has to scan the board. Objective pieces can't be traded,
+ * so they don't count.
+ */
+final class PieceSquareScores {
+    private final BoardSize mBoardSize;
+    private final Map<PieceType, int[]> mPieceSquareTables;
+
+    private int[] mTeamIds;
+    private int[] mScores;
+    private int mTeamCount;
+    private int mTotalScore;
+
+    PieceSquareScores(@NotNull BoardSize boardSize) {
+        mBoardSize = boardSize;
+        mPieceSquareTables = new IdentityHashMap<>();
+
+        mTeamIds = new int[2];
+        mScores = new int[2];
+    }
+
+    void setPiece(int square, @Nullable Piece oldPiece, @Nullable Piece newPiece) {
+        if (oldPiece != null && !oldPiece.isObjectivePiece()) {
+            int value = getPieceSquareTable(oldPiece.getPieceType())[square];
+            mScores[getTeamSlot(oldPiece.getTeamId())] -= value;
+            mTotalScore -= value;
+        }
+        if (newPiece != null && !newPiece.isObjectivePiece()) {
+            int value = getPieceSquareTable(newPiece.getPieceType())[square];
+            mScores[getTeamSlot(newPiece.getTeamId())] += value;
+            mTotalScore += value;
+        }
+    }
+
+    int getScore(int teamId) {
+        int slot = findTeamSlot(teamId);
+        return slot >= 0 ? mScores[slot] : 0;
+    }
+
+    int getTotalScore() {
+        return mTotalScore;
+    }
+
+    @NotNull
+    private int[] getPieceSquareTable(@NotNull PieceType pieceType) {
+        int[] pieceSquareTable = mPieceSquareTables.get(pieceType);
+        if (pieceSquareTable == null) {
+            pieceSquareTable = PieceTypeManager.INSTANCE.getPieceSquareTable(pieceType, mBoardSize);
+            mPieceSquareTables.put(pieceType, pieceSquareTable);
+        }
+        return pieceSquareTable;
+    }
+
+    private int findTeamSlot(int teamId) {
+        for (int i = 0; i < mTeamCount; i++) {
+            if (mTeamIds[i] == teamId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int getTeamSlot(int teamId) {
+        int slot = findTeamSlot(teamId);
+        if (slot >= 0) {
+            return slot;
+        }
+        if (mTeamCount == mTeamIds.length) {
+            mTeamIds = Arrays.copyOf(mTeamIds, mTeamCount * 2);
+            mScores = Arrays.copyOf(mScores, mTeamCount * 2);
+        }
+        mTeamIds[mTeamCount] = teamId;
+        return mTeamCount++;
+    }
+}
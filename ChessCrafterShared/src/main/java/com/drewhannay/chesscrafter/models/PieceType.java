@@ -1,6 +1,5 @@
 package com.drewhannay.chesscrafter.models;
 
-import com.drewhannay.chesscrafter.logic.PathMaker;
 import com.drewhannay.chesscrafter.logic.PieceTypeManager;
 import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
@@ -11,6 +10,8 @@ import org.jetbrains.annotations.Nullable;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class PieceType {
     public static final int UNLIMITED = Integer.MAX_VALUE;
@@ -21,6 +22,9 @@ public class PieceType {
     private final Set<CardinalMovement> mCapturingMovements;
     private final Set<TwoHopMovement> mTwoHopMovements;
 
+    // lazily created because Gson does not run constructors or field initializers
+    private transient volatile ConcurrentMap<BoardSize, AttackTable> mAttackTables;
+
     public PieceType(@NotNull String name) {
         this(UUID.randomUUID().toString(), name, null, null, null);
     }
@@ -67,9 +71,35 @@ public class PieceType {
         return ImmutableSet.copyOf(mTwoHopMovements);
     }
 
+    @NotNull
+    public AttackTable getAttackTable(@NotNull BoardSize boardSize) {
+        ConcurrentMap<BoardSize, AttackTable> attackTables = mAttackTables;
+        if (attackTables == null) {
+            synchronized (this) {
+                attackTables = mAttackTables;
+                if (attackTables == null) {
+                    attackTables = new ConcurrentHashMap<>();
+                    mAttackTables = attackTables;
+                }
+            }
+        }
+
+        AttackTable attackTable = attackTables.get(boardSize);
+        if (attackTable == null) {
+            attackTable = new AttackTable(boardSize, mMovements, mCapturingMovements, mTwoHopMovements);
+            AttackTable existing = attackTables.putIfAbsent(boardSize, attackTable);
+            if (existing != null) {
+                attackTable = existing;
+            }
+        }
+        return attackTable;
+    }
+
     public Set<BoardCoordinate> getMovesFrom(@NotNull BoardCoordinate startLocation,
                                              @NotNull BoardSize boardSize, int moveCount) {
-        Set<BoardCoordinate> moves = getMovesFromImpl(startLocation, boardSize, mMovements);
+        AttackTable attackTable = getAttackTable(boardSize);
+        int square = boardSize.toSquareIndex(startLocation);
+        Set<BoardCoordinate> moves = getMovesFromImpl(attackTable, square, attackTable.getRays(square));
 
         if (moveCount == 0) {
             if (getInternalId().equals(PieceTypeManager.NORTH_FACING_PAWN_ID)) {
@@ -84,45 +114,33 @@ public class PieceType {
 
     public Set<BoardCoordinate> getCapturingMovesFrom(@NotNull BoardCoordinate startLocation,
                                                       @NotNull BoardSize boardSize) {
-        return getMovesFromImpl(startLocation, boardSize, mCapturingMovements);
+        AttackTable attackTable = getAttackTable(boardSize);
+        int square = boardSize.toSquareIndex(startLocation);
+        return getMovesFromImpl(attackTable, square, attackTable.getCapturingRays(square));
     }
 
-    private Set<BoardCoordinate> getMovesFromImpl(@NotNull BoardCoordinate startLocation,
-                                                  @NotNull BoardSize boardSize,
-                                                  @NotNull Set<CardinalMovement> movements) {
-        Set<BoardCoordinate> moves = new HashSet<>();
+    private Set<BoardCoordinate> getMovesFromImpl(@NotNull AttackTable attackTable, int square, @NotNull int[][] rays) {
+        BoardSize boardSize = attackTable.getBoardSize();
+        int[] leaperTargets = attackTable.getLeaperTargets(square);
+        int[][] diagonalLeaps = attackTable.getDiagonalLeaps(square);
 
-        for (CardinalMovement movement : movements) {
-            PathMaker pathMaker = new PathMaker(startLocation, movement.direction.getFurthestPoint(startLocation, boardSize));
-            moves.addAll(pathMaker.getPathToDestination(movement.distance));
+        int moveCount = leaperTargets.length + diagonalLeaps.length;
+        for (int[] ray : rays) {
+            moveCount += ray.length;
         }
 
-        for (TwoHopMovement twoHopMovement : mTwoHopMovements) {
-            Set<BoardCoordinate> allMoves = new HashSet<>();
-
-            for (int quadrant = 1; quadrant <= 4; quadrant++) {
-                allMoves.addAll(getQuadrantMoves(startLocation, twoHopMovement, quadrant));
-            }
-
-            for (BoardCoordinate move : allMoves) {
-                if (move.isValid(boardSize)) {
-                    moves.add(move);
-                }
+        Set<BoardCoordinate> moves = new HashSet<>(moveCount * 2);
+        for (int[] ray : rays) {
+            for (int target : ray) {
+                moves.add(boardSize.toCoordinate(target));
             }
         }
-
-        return moves;
-    }
-
-    private Set<BoardCoordinate> getQuadrantMoves(@NotNull BoardCoordinate coordinate,
-                                                  @NotNull TwoHopMovement movement,
-                                                  int quadrant) {
-        int xMultiplier = quadrant == 1 || quadrant == 4 ? 1 : -1;
-        int yMultiplier = quadrant == 1 || quadrant == 2 ? 1 : -1;
-
-        Set<BoardCoordinate> moves = new HashSet<>(2);
-        moves.add(BoardCoordinate.at(coordinate.x + movement.x * xMultiplier, coordinate.y + movement.y * yMultiplier));
-        moves.add(BoardCoordinate.at(coordinate.x + movement.y * xMultiplier, coordinate.y + movement.x * yMultiplier));
+        for (int target : leaperTargets) {
+            moves.add(boardSize.toCoordinate(target));
+        }
+        for (int[] leap : diagonalLeaps) {
+            moves.add(boardSize.toCoordinate(leap[leap.length - 1]));
+        }
         return moves;
     }
 
@@ -9,9 +9,11 @@ import com.google.common.base.Preconditions;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 public final class Team {
@@ -23,7 +25,9 @@ public final class Team {
     private final Set<PostMoveAction> mPostMoveActions;
     private final EndCondition mEndCondition;
     private final PiecePromoter mPiecePromoter;
-    private final Map<Move, Piece> mCapturedPieces;
+    // captures in the order they happened, so the same move can capture again later in the game
+    private final List<Move> mCaptureMoves;
+    private final List<Piece> mCapturedPieces;
 
     public Team(int teamId,
                 int teamColor,
@@ -41,7 +45,35 @@ public final class Team {
         mPostMoveActions = postMoveActions;
         mEndCondition = endCondition;
         mPiecePromoter = piecePromoter;
-        mCapturedPieces = new HashMap<>();
+        mCaptureMoves = new ArrayList<>();
+        mCapturedPieces = new ArrayList<>();
+    }
+
+    /**
+     * @return a team with its own rule instances, promotion state and captured pieces
+     */
+    @NotNull
+    public Team copy() {
+        Set<ConditionalMoveGenerator> conditionalMoveGenerators = new HashSet<>();
+        for (ConditionalMoveGenerator conditionalMoveGenerator : mConditionalMoveGenerators) {
+            conditionalMoveGenerators.add(conditionalMoveGenerator.copy());
+        }
+        Set<MoveFilter> moveFilters = new HashSet<>();
+        for (MoveFilter moveFilter : mMoveFilters) {
+            moveFilters.add(moveFilter.copy());
+        }
+        Set<PostMoveAction> postMoveActions = new HashSet<>();
+        for (PostMoveAction postMoveAction : mPostMoveActions) {
+            postMoveActions.add(postMoveAction.copy());
+        }
+
+        Team team = new Team(mTeamId, mTeamColor, mTeamName, conditionalMoveGenerators, moveFilters, postMoveActions,
+                mEndCondition.copy(), mPiecePromoter.copy());
+        team.mCaptureMoves.addAll(mCaptureMoves);
+        for (Piece piece : mCapturedPieces) {
+            team.mCapturedPieces.add(piece.copy());
+        }
+        return team;
     }
 
     public int getTeamId() {
@@ -77,16 +109,46 @@ public final class Team {
     }
 
     public Collection<Piece> getCapturedOpposingPieces() {
-        return mCapturedPieces.values();
+        return Collections.unmodifiableList(mCapturedPieces);
+    }
+
+    /**
+     * @return the moves that captured {@link #getCapturedOpposingPieces()}, in the same order
+     */
+    @NotNull
+    public List<Move> getCaptureMoves() {
+        return Collections.unmodifiableList(mCaptureMoves);
+    }
+
+    /**
+     * Replaces the captures with ones read from {@link #getCaptureMoves()} and {@link #getCapturedOpposingPieces()}.
+     */
+    public void restoreCaptures(@NotNull List<Move> captureMoves, @NotNull List<Piece> capturedPieces) {
+        Preconditions.checkArgument(captureMoves.size() == capturedPieces.size());
+
+        mCaptureMoves.clear();
+        mCaptureMoves.addAll(captureMoves);
+        mCapturedPieces.clear();
+        mCapturedPieces.addAll(capturedPieces);
     }
 
     public void capturePiece(@NotNull Move move, @NotNull Piece piece) {
-        Preconditions.checkArgument(!mCapturedPieces.containsKey(move));
-        mCapturedPieces.put(move, piece);
+        Preconditions.checkArgument(piece != null);
+        mCaptureMoves.add(move);
+        mCapturedPieces.add(piece);
     }
 
+    /**
+     * @return the piece captured by {@code move} if it was the most recent capture, otherwise null
+     */
     @Nullable
     public Piece undoCapturePiece(@NotNull Move move) {
-        return mCapturedPieces.remove(move);
+        int lastIndex = mCaptureMoves.size() - 1;
+        if (lastIndex < 0 || !mCaptureMoves.get(lastIndex).equals(move)) {
+            return null;
+        }
+
+        mCaptureMoves.remove(lastIndex);
+        return mCapturedPieces.remove(lastIndex);
     }
 }
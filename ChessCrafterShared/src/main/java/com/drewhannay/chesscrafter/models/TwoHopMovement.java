@@ -3,6 +3,11 @@ package com.drewhannay.chesscrafter.models;
 import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
 
+/**
+ * A leap of {@code x} squares along one axis and {@code y} along the other, in any of the eight combinations, like
+ * the knight's (2, 1). Leaps jump over whatever is in between, except diagonal ones such as (2, 2), which a piece on
+ * the diagonal in between blocks.
+ */
 public final class TwoHopMovement implements Movement {
     public final int x;
     public final int y;
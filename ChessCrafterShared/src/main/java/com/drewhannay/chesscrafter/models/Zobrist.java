@@ -0,0 +1,68 @@
+package com.drewhannay.chesscrafter.models;
+
+import com.drewhannay.chesscrafter.logic.PieceTypeManager;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Zobrist-style keys for position hashing. Piece types are user defined, so keys are derived by mixing the inputs
+ * rather than read from a random table; the same inputs give the same key in every run.
+ */
+public final class Zobrist {
+    private static final long PIECE_SEED = 0x6A09E667F3BCC908L;
+    private static final long EN_PASSANT_SEED = 0xBB67AE8584CAA73BL;
+    private static final long TURN_SEED = 0x3C6EF372FE94F82BL;
+    private static final long BOARD_SEED = 0xA54FF53A5F1D36F1L;
+
+    private Zobrist() {
+    }
+
+    public static long getPieceKey(@NotNull Piece piece, int square) {
+        return getPieceKey(piece, square, hasMovedMatter(piece) && piece.hasMoved());
+    }
+
+    static long getPieceKey(@NotNull Piece piece, int square, boolean hasMoved) {
+        long key = PIECE_SEED;
+        key = mix(key ^ piece.getInternalId().hashCode());
+        key = mix(key ^ piece.getTeamId());
+        key = mix(key ^ square);
+        return hasMoved ? mix(key ^ 1) : key;
+    }
+
+    /**
+     * Only castling and pawn double steps depend on whether a piece has moved, so other pieces hash the same before
+     * and after their first move.
+     */
+    static boolean hasMovedMatter(@NotNull Piece piece) {
+        String internalId = piece.getInternalId();
+        return internalId.equals(PieceTypeManager.KING_ID)
+                || internalId.equals(PieceTypeManager.ROOK_ID)
+                || internalId.equals(PieceTypeManager.NORTH_FACING_PAWN_ID)
+                || internalId.equals(PieceTypeManager.SOUTH_FACING_PAWN_ID);
+    }
+
+    public static long getEnPassantKey(int square) {
+        return mix(EN_PASSANT_SEED ^ square);
+    }
+
+    public static long getBoardKey(long boardHash, int boardIndex) {
+        return boardIndex == 0 ? boardHash : boardHash ^ mix(BOARD_SEED ^ boardIndex);
+    }
+
+    public static long getTurnKey(int activeTeamIndex, int movesMadeCount, @NotNull int[] turnCounts) {
+        long key = mix(TURN_SEED ^ activeTeamIndex);
+        key = mix(key ^ movesMadeCount);
+        for (int turnCount : turnCounts) {
+            key = mix(key ^ turnCount);
+        }
+        return key;
+    }
+
+    /**
+     * SplitMix64 finalizer.
+     */
+    public static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
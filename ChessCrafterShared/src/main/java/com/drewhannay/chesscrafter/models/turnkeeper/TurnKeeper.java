@@ -1,5 +1,6 @@
 package com.drewhannay.chesscrafter.models.turnkeeper;
 
+import com.drewhannay.chesscrafter.models.Zobrist;
 import com.google.common.base.Preconditions;
 import org.jetbrains.annotations.NotNull;
 
@@ -63,10 +64,55 @@ public class TurnKeeper {
         return new TurnKeeper(teamIds, turnCounts, turnIncrements);
     }
 
+    @NotNull
+    public TurnKeeper copy() {
+        TurnKeeper turnKeeper = new TurnKeeper(mTeamIds.clone(), mTurnCounts.clone(), mTurnIncrements.clone());
+        turnKeeper.mActiveTeamIndex = mActiveTeamIndex;
+        turnKeeper.mMovesMadeCount = mMovesMadeCount;
+        return turnKeeper;
+    }
+
     public int getActiveTeamId() {
         return mTeamIds[mActiveTeamIndex];
     }
 
+    /**
+     * @return a hash of the active team and how far into its (possibly multi-move) turn it is
+     */
+    public long getStateHash() {
+        return Zobrist.getTurnKey(mActiveTeamIndex, mMovesMadeCount, mTurnCounts);
+    }
+
+    public int getActiveTeamIndex() {
+        return mActiveTeamIndex;
+    }
+
+    /**
+     * @return how many moves the active team has made so far in its turn
+     */
+    public int getMovesMadeCount() {
+        return mMovesMadeCount;
+    }
+
+    @NotNull
+    public int[] getTurnCounts() {
+        return mTurnCounts.clone();
+    }
+
+    /**
+     * Puts the turn keeper back to a state read from {@link #getActiveTeamIndex()}, {@link #getMovesMadeCount()}
+     * and {@link #getTurnCounts()}.
+     */
+    public void restore(int activeTeamIndex, int movesMadeCount, @NotNull int[] turnCounts) {
+        Preconditions.checkElementIndex(activeTeamIndex, mTeamIds.length);
+        Preconditions.checkArgument(turnCounts.length == mTurnCounts.length);
+        Preconditions.checkArgument(movesMadeCount >= 0 && movesMadeCount < turnCounts[activeTeamIndex]);
+
+        mActiveTeamIndex = activeTeamIndex;
+        mMovesMadeCount = movesMadeCount;
+        System.arraycopy(turnCounts, 0, mTurnCounts, 0, turnCounts.length);
+    }
+
     public void finishTurn() {
         mMovesMadeCount++;
         if (mMovesMadeCount >= mTurnCounts[getActiveTeamIndex()]) {
@@ -85,10 +131,6 @@ public class TurnKeeper {
         }
     }
 
-    private int getActiveTeamIndex() {
-        return mActiveTeamIndex;
-    }
-
     private void incrementActiveTeamIndex() {
         mActiveTeamIndex = (getActiveTeamIndex() + 1) % mTeamIds.length;
     }
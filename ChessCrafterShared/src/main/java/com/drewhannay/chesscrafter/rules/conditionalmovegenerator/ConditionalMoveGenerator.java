@@ -12,6 +12,14 @@ public abstract class ConditionalMoveGenerator {
     public abstract Set<BoardCoordinate> generateMoves(@NotNull Board board, @NotNull BoardCoordinate start,
                                                        @NotNull History history);
 
+    /**
+     * @return an instance that is safe to use in a copy of the game; stateless rules can return themselves
+     */
+    @NotNull
+    public ConditionalMoveGenerator copy() {
+        return this;
+    }
+
     public static ConditionalMoveGenerator from(@NotNull String name) {
         switch (name) {
             case CastlingMoveGenerator.NAME:
@@ -9,6 +9,14 @@ public abstract class EndCondition {
 
     public abstract void undo();
 
+    /**
+     * @return an instance that is safe to use in a copy of the game; stateless rules can return themselves
+     */
+    @NotNull
+    public EndCondition copy() {
+        return this;
+    }
+
     public static EndCondition from(@NotNull String name, int teamId) {
         switch (name) {
             case CaptureObjectiveEndCondition.NAME:
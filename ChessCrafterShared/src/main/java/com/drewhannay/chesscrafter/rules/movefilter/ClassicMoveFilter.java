@@ -3,10 +3,10 @@ package com.drewhannay.chesscrafter.rules.movefilter;
 import com.drewhannay.chesscrafter.models.Board;
 import com.drewhannay.chesscrafter.models.BoardCoordinate;
 import com.drewhannay.chesscrafter.models.BoardSize;
+import com.drewhannay.chesscrafter.models.MoveBuffer;
 import com.drewhannay.chesscrafter.models.Piece;
 import com.google.common.base.Preconditions;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -15,8 +15,6 @@ public final class ClassicMoveFilter extends MoveFilter {
 
     public static final String NAME = "ClassicMoveFilter";
 
-    private BoardCoordinate mObjectivePieceLocation;
-
     @Override
     public Set<BoardCoordinate> filterMoves(@NotNull Board board, @NotNull BoardCoordinate start, @NotNull Set<BoardCoordinate> moves) {
         Preconditions.checkArgument(board.doesPieceExistAt(start));
@@ -36,45 +34,35 @@ public final class ClassicMoveFilter extends MoveFilter {
         return filteredMoves;
     }
 
-    private boolean isObjectivePieceSafe(int teamId, @NotNull Board board) {
-        updateObjectivePieceLocation(teamId, board);
+    @Override
+    public void filterMoves(@NotNull Board board, int start, @NotNull MoveBuffer moves) {
+        Piece piece = board.getPiece(start);
+        Preconditions.checkArgument(piece != null);
 
         BoardSize boardSize = board.getBoardSize();
-        for (int x = 1; x <= boardSize.width; x++) {
-            for (int y = 1; y <= boardSize.height; y++) {
-                BoardCoordinate coordinate = BoardCoordinate.at(x, y);
-                if (board.doesPieceExistAt(coordinate)) {
-                    Set<BoardCoordinate> moves = board.getMovesFrom(coordinate);
-                    if (moves.contains(mObjectivePieceLocation)) {
-                        return false;
-                    }
-                }
-            }
-        }
-
-        return true;
-    }
+        BoardCoordinate origin = boardSize.toCoordinate(start);
+        int teamId = piece.getTeamId();
 
-    private void updateObjectivePieceLocation(int teamId, @NotNull Board board) {
-        if (mObjectivePieceLocation != null && isPieceObjectivePiece(teamId, board.getPiece(mObjectivePieceLocation))) {
-            return;
-        }
+        int keptCount = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            BoardCoordinate destination = boardSize.toCoordinate(MoveBuffer.getDestination(move));
 
-        BoardSize boardSize = board.getBoardSize();
-        for (int x = 1; x <= boardSize.width; x++) {
-            for (int y = 1; y <= boardSize.height; y++) {
-                BoardCoordinate coordinate = BoardCoordinate.at(x, y);
-                if (isPieceObjectivePiece(teamId, board.getPiece(coordinate))) {
-                    mObjectivePieceLocation = coordinate;
-                    return;
-                }
+            Piece capturedPiece = board.movePiece(origin, destination);
+            if (isObjectivePieceSafe(teamId, board)) {
+                moves.set(keptCount++, move);
             }
+            board.undoMovePiece(origin, destination, capturedPiece);
         }
-
-        throw new IllegalStateException("No objective piece found");
+        moves.truncate(keptCount);
     }
 
-    private boolean isPieceObjectivePiece(int teamId, @Nullable Piece piece) {
-        return piece != null && piece.getTeamId() == teamId && piece.isObjectivePiece();
+    private boolean isObjectivePieceSafe(int teamId, @NotNull Board board) {
+        int objectivePieceSquare = board.getObjectivePieceSquare(teamId);
+        if (objectivePieceSquare < 0) {
+            throw new IllegalStateException("No objective piece found");
+        }
+
+        return !board.isAttackedByOpponentOf(objectivePieceSquare, teamId);
     }
 }
@@ -2,18 +2,56 @@ package com.drewhannay.chesscrafter.rules.movefilter;
 
 import com.drewhannay.chesscrafter.models.Board;
 import com.drewhannay.chesscrafter.models.BoardCoordinate;
+import com.drewhannay.chesscrafter.models.BoardSize;
+import com.drewhannay.chesscrafter.models.MoveBuffer;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.HashSet;
 import java.util.Set;
 
 public abstract class MoveFilter {
     public abstract Set<BoardCoordinate> filterMoves(@NotNull Board board, @NotNull BoardCoordinate start,
                                                      @NotNull Set<BoardCoordinate> moves);
 
+    /**
+     * Removes illegal moves from {@code moves} in place. Every move in the buffer must originate from {@code start}.
+     * The default implementation goes through {@link #filterMoves(Board, BoardCoordinate, Set)}; filters on the hot
+     * path should override it.
+     */
+    public void filterMoves(@NotNull Board board, int start, @NotNull MoveBuffer moves) {
+        BoardSize boardSize = board.getBoardSize();
+
+        Set<BoardCoordinate> destinations = new HashSet<>(moves.size() * 2);
+        for (int i = 0; i < moves.size(); i++) {
+            destinations.add(boardSize.toCoordinate(MoveBuffer.getDestination(moves.get(i))));
+        }
+
+        Set<BoardCoordinate> filteredDestinations = filterMoves(board, boardSize.toCoordinate(start), destinations);
+
+        int keptCount = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            if (filteredDestinations.contains(boardSize.toCoordinate(MoveBuffer.getDestination(move)))) {
+                moves.set(keptCount++, move);
+            }
+        }
+        moves.truncate(keptCount);
+    }
+
+    /**
+     * @return an instance that is safe to use in a copy of the game; stateless rules can return themselves
+     */
+    @NotNull
+    public MoveFilter copy() {
+        return this;
+    }
+
     public static MoveFilter from(@NotNull String name) {
         switch (name) {
             case ClassicMoveFilter.NAME:
                 return new ClassicMoveFilter();
+            case PinAwareMoveFilter.NAME:
+                return new PinAwareMoveFilter();
         }
 
         throw new IllegalArgumentException("Unknown MoveFilter name:" + name);
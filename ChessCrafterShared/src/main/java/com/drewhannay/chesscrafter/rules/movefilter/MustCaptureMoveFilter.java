@@ -2,6 +2,7 @@ package com.drewhannay.chesscrafter.rules.movefilter;
 
 import com.drewhannay.chesscrafter.models.Board;
 import com.drewhannay.chesscrafter.models.BoardCoordinate;
+import com.drewhannay.chesscrafter.models.MoveBuffer;
 import com.google.common.base.Preconditions;
 import org.jetbrains.annotations.NotNull;
 
@@ -21,4 +22,18 @@ public final class MustCaptureMoveFilter extends MoveFilter {
         }
         return filteredMoves;
     }
+
+    @Override
+    public void filterMoves(@NotNull Board board, int start, @NotNull MoveBuffer moves) {
+        Preconditions.checkArgument(board.getPiece(start) != null);
+
+        int keptCount = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            if (board.getPiece(MoveBuffer.getDestination(move)) != null) {
+                moves.set(keptCount++, move);
+            }
+        }
+        moves.truncate(keptCount);
+    }
 }
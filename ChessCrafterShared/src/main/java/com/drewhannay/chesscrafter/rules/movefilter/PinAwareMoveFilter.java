@@ -0,0 +1,262 @@
+package com.drewhannay.chesscrafter.rules.movefilter;
+
+import com.drewhannay.chesscrafter.models.AttackTable;
+import com.drewhannay.chesscrafter.models.Board;
+import com.drewhannay.chesscrafter.models.BoardCoordinate;
+import com.drewhannay.chesscrafter.models.BoardSize;
+import com.drewhannay.chesscrafter.models.CardinalMovement;
+import com.drewhannay.chesscrafter.models.Direction;
+import com.drewhannay.chesscrafter.models.MoveBuffer;
+import com.drewhannay.chesscrafter.models.Piece;
+import com.drewhannay.chesscrafter.models.TwoHopMovement;
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Same legality rule as {@link ClassicMoveFilter}, but decided from the checkers of the objective piece and the pin
+ * on the moving piece instead of playing each move on the board.
+ */
+public final class PinAwareMoveFilter extends MoveFilter {
+
+    public static final String NAME = "PinAwareMoveFilter";
+
+    private final MoveBuffer mScratchMoves = new MoveBuffer();
+    private int[] mCheckers = new int[0];
+
+    @NotNull
+    @Override
+    public MoveFilter copy() {
+        // the scratch buffers can't be shared
+        return new PinAwareMoveFilter();
+    }
+
+    @Override
+    public Set<BoardCoordinate> filterMoves(@NotNull Board board, @NotNull BoardCoordinate start, @NotNull Set<BoardCoordinate> moves) {
+        Preconditions.checkArgument(board.doesPieceExistAt(start));
+
+        BoardSize boardSize = board.getBoardSize();
+        int startSquare = boardSize.toSquareIndex(start);
+
+        mScratchMoves.clear();
+        for (BoardCoordinate move : moves) {
+            mScratchMoves.add(startSquare, boardSize.toSquareIndex(move), 0);
+        }
+
+        filterMoves(board, startSquare, mScratchMoves);
+
+        Set<BoardCoordinate> filteredMoves = new HashSet<>(mScratchMoves.size() * 2);
+        for (int i = 0; i < mScratchMoves.size(); i++) {
+            filteredMoves.add(boardSize.toCoordinate(MoveBuffer.getDestination(mScratchMoves.get(i))));
+        }
+        return filteredMoves;
+    }
+
+    @Override
+    public void filterMoves(@NotNull Board board, int start, @NotNull MoveBuffer moves) {
+        Piece piece = board.getPiece(start);
+        Preconditions.checkArgument(piece != null);
+
+        int teamId = piece.getTeamId();
+        int objectivePieceSquare = board.getObjectivePieceSquare(teamId);
+        if (objectivePieceSquare < 0) {
+            throw new IllegalStateException("No objective piece found");
+        }
+
+        if (mCheckers.length < board.getBoardSize().getSquareCount()) {
+            mCheckers = new int[board.getBoardSize().getSquareCount()];
+        }
+        int checkerCount = board.getOpponentAttackers(objectivePieceSquare, teamId, mCheckers);
+
+        if (start == objectivePieceSquare) {
+            filterObjectivePieceMoves(board, teamId, objectivePieceSquare, checkerCount, moves);
+        } else if (checkerCount > 1) {
+            // only the objective piece can answer a double check
+            moves.clear();
+        } else {
+            filterOtherMoves(board, start, objectivePieceSquare, checkerCount == 1 ? mCheckers[0] : -1, moves);
+        }
+    }
+
+    private void filterObjectivePieceMoves(@NotNull Board board, int teamId, int objectivePieceSquare,
+                                           int checkerCount, @NotNull MoveBuffer moves) {
+        int keptCount = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            int destination = MoveBuffer.getDestination(move);
+
+            if (board.isAttackedByOpponentOf(destination, teamId)) {
+                continue;
+            }
+            if (isBehindObjectivePiece(board, objectivePieceSquare, checkerCount, destination)) {
+                continue;
+            }
+            moves.set(keptCount++, move);
+        }
+        moves.truncate(keptCount);
+    }
+
+    /**
+     * The attack map treats the objective piece as a blocker, so squares further along a checking ray look safe even
+     * though the objective piece would still be on that ray after stepping there.
+     */
+    private boolean isBehindObjectivePiece(@NotNull Board board, int objectivePieceSquare, int checkerCount,
+                                           int destination) {
+        BoardSize boardSize = board.getBoardSize();
+        for (int i = 0; i < checkerCount; i++) {
+            int checker = mCheckers[i];
+            Direction direction = getDirection(boardSize, checker, destination);
+            if (direction == null || direction != getDirection(boardSize, checker, objectivePieceSquare)) {
+                continue;
+            }
+
+            int steps = getSteps(boardSize, checker, destination);
+            if (steps > getSteps(boardSize, checker, objectivePieceSquare)
+                    && isRayAttack(board.getPiece(checker), direction, steps)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void filterOtherMoves(@NotNull Board board, int start, int objectivePieceSquare, int checker,
+                                  @NotNull MoveBuffer moves) {
+        BoardSize boardSize = board.getBoardSize();
+        Direction pinDirection = getPinDirection(board, start, objectivePieceSquare);
+
+        Direction blockDirection = null;
+        int blockSteps = 0;
+        if (checker >= 0 && isBlockable(board, checker, objectivePieceSquare)) {
+            blockDirection = getDirection(boardSize, objectivePieceSquare, checker);
+            blockSteps = getSteps(boardSize, objectivePieceSquare, checker);
+        }
+
+        int keptCount = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            int destination = MoveBuffer.getDestination(move);
+
+            if (pinDirection != null && getDirection(boardSize, objectivePieceSquare, destination) != pinDirection) {
+                continue;
+            }
+            if (checker >= 0 && destination != checker) {
+                // the only other way out of a single check is to step onto the checking ray
+                if (blockDirection == null
+                        || getDirection(boardSize, objectivePieceSquare, destination) != blockDirection
+                        || getSteps(boardSize, objectivePieceSquare, destination) >= blockSteps) {
+                    continue;
+                }
+            }
+            moves.set(keptCount++, move);
+        }
+        moves.truncate(keptCount);
+    }
+
+    /**
+     * @return the direction from the objective piece through {@code start} to an opponent piece that would attack the
+     * objective piece if {@code start} moved off that line, or null if {@code start} is not pinned
+     */
+    @Nullable
+    private Direction getPinDirection(@NotNull Board board, int start, int objectivePieceSquare) {
+        BoardSize boardSize = board.getBoardSize();
+        Direction direction = getDirection(boardSize, objectivePieceSquare, start);
+        if (direction == null) {
+            return null;
+        }
+
+        int teamId = board.getPiece(start).getTeamId();
+        int x = objectivePieceSquare % boardSize.width;
+        int y = objectivePieceSquare / boardSize.width;
+        boolean passedStart = false;
+        for (int steps = 1; ; steps++) {
+            x += direction.dx;
+            y += direction.dy;
+            if (x < 0 || y < 0 || x >= boardSize.width || y >= boardSize.height) {
+                return null;
+            }
+
+            int square = x + y * boardSize.width;
+            if (square == start) {
+                passedStart = true;
+                continue;
+            }
+
+            Piece piece = board.getPiece(square);
+            if (piece == null) {
+                continue;
+            }
+            if (!passedStart || piece.getTeamId() == teamId) {
+                return null;
+            }
+            return isRayAttack(piece, getOpposite(direction), steps) ? direction : null;
+        }
+    }
+
+    private boolean isBlockable(@NotNull Board board, int checker, int objectivePieceSquare) {
+        BoardSize boardSize = board.getBoardSize();
+        Piece piece = board.getPiece(checker);
+
+        AttackTable attackTable = piece.getPieceType().getAttackTable(boardSize);
+        for (int target : attackTable.getLeaperTargets(checker)) {
+            if (target == objectivePieceSquare) {
+                return false;
+            }
+        }
+
+        Direction direction = getDirection(boardSize, checker, objectivePieceSquare);
+        int steps = getSteps(boardSize, checker, objectivePieceSquare);
+        return direction != null && steps > 1 && isRayAttack(piece, direction, steps);
+    }
+
+    private static boolean isRayAttack(@NotNull Piece piece, @NotNull Direction direction, int steps) {
+        for (CardinalMovement movement : piece.getPieceType().getCapturingMovements()) {
+            if (movement.direction == direction && movement.distance >= steps) {
+                return true;
+            }
+        }
+        // a diagonal leap is blocked like a slider, but only lands exactly that far away
+        if (Direction.DIAGONAL_DIRECTIONS.contains(direction)) {
+            for (TwoHopMovement movement : piece.getPieceType().getTwoHopMovements()) {
+                if (AttackTable.isBlockable(movement) && movement.x == steps) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    private static Direction getDirection(@NotNull BoardSize boardSize, int from, int to) {
+        int dx = to % boardSize.width - from % boardSize.width;
+        int dy = to / boardSize.width - from / boardSize.width;
+        if ((dx == 0 && dy == 0) || (dx != 0 && dy != 0 && Math.abs(dx) != Math.abs(dy))) {
+            return null;
+        }
+
+        for (Direction direction : Direction.values()) {
+            if (direction.dx == Integer.signum(dx) && direction.dy == Integer.signum(dy)) {
+                return direction;
+            }
+        }
+        return null;
+    }
+
+    private static int getSteps(@NotNull BoardSize boardSize, int from, int to) {
+        int dx = Math.abs(to % boardSize.width - from % boardSize.width);
+        int dy = Math.abs(to / boardSize.width - from / boardSize.width);
+        return Math.max(dx, dy);
+    }
+
+    @NotNull
+    private static Direction getOpposite(@NotNull Direction direction) {
+        for (Direction opposite : Direction.values()) {
+            if (opposite.dx == -direction.dx && opposite.dy == -direction.dy) {
+                return opposite;
+            }
+        }
+        throw new IllegalStateException("No opposite for " + direction);
+    }
+}
@@ -2,6 +2,8 @@ package com.drewhannay.chesscrafter.rules.movefilter;
 
 import com.drewhannay.chesscrafter.models.Board;
 import com.drewhannay.chesscrafter.models.BoardCoordinate;
+import com.drewhannay.chesscrafter.models.MoveBuffer;
+import com.drewhannay.chesscrafter.models.Piece;
 import com.google.common.base.Preconditions;
 import org.jetbrains.annotations.NotNull;
 
@@ -20,4 +22,14 @@ public final class StationaryObjectiveMoveFilter extends MoveFilter {
 
         return moves;
     }
+
+    @Override
+    public void filterMoves(@NotNull Board board, int start, @NotNull MoveBuffer moves) {
+        Piece piece = board.getPiece(start);
+        Preconditions.checkArgument(piece != null);
+
+        if (piece.isObjectivePiece()) {
+            moves.clear();
+        }
+    }
 }
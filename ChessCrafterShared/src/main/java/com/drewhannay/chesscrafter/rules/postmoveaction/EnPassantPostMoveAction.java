@@ -51,18 +51,15 @@ public final class EnPassantPostMoveAction extends PostMoveAction {
             return;
         }
 
-        // must not have moved to same space as opponent's last move
-        if (lastMove.destination.equals(opponentsLastMove.destination)) {
+        // opponent's last move must have been a two space advance
+        if (!opponentsLastMove.origin.isOnSameVerticalPathAs(opponentsLastMove.destination)
+                || Math.abs(opponentsLastMove.destination.y - opponentsLastMove.origin.y) != 2) {
             return;
         }
 
-        // must have moved to the same column as opponent's last move
-        if (!lastMove.destination.isOnSameVerticalPathAs(opponentsLastMove.destination)) {
-            return;
-        }
-
-        // must have moved one space away from opponent's last move
-        if (Math.abs(lastMove.destination.y - opponentsLastMove.destination.y) != 1) {
+        // must have moved onto the space that advance passed over, beside the pawn that made it
+        if (!opponentsLastMove.destination.equals(BoardCoordinate.at(lastMove.destination.x, lastMove.origin.y))
+                || lastMove.destination.y * 2 != opponentsLastMove.origin.y + opponentsLastMove.destination.y) {
             return;
         }
 
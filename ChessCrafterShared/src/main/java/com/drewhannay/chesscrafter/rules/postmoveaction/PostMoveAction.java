@@ -12,6 +12,14 @@ public abstract class PostMoveAction {
 
     public abstract void undo(@NotNull Board board, @NotNull Team team, @NotNull Move lastMove, @Nullable Move opponentsLastMove);
 
+    /**
+     * @return an instance that is safe to use in a copy of the game; stateless rules can return themselves
+     */
+    @NotNull
+    public PostMoveAction copy() {
+        return this;
+    }
+
     public static PostMoveAction from(@NotNull String name) {
         switch (name) {
             case CastlingPostMoveAction.NAME:
@@ -12,7 +12,9 @@ import com.google.common.collect.Sets;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
@@ -30,6 +32,18 @@ public class PiecePromoter {
         mPromotionStack = new Stack<>();
     }
 
+    /**
+     * @return a promoter with the same rules and its own copies of the pieces waiting to be un-promoted
+     */
+    @NotNull
+    public PiecePromoter copy() {
+        PiecePromoter piecePromoter = new PiecePromoter(mPromotionCoordinateMap, mPromotionMap);
+        for (Piece piece : mPromotionStack) {
+            piecePromoter.mPromotionStack.push(piece.copy());
+        }
+        return piecePromoter;
+    }
+
     public static PiecePromoter createClassicPiecePromoter(int promotionRow, @NotNull PieceType pawnType) {
         Set<BoardCoordinate> promotionCoordinates = new HashSet<>();
         for (int i = 1; i <= BoardSize.CLASSIC_SIZE.width; i++) {
@@ -75,6 +89,19 @@ public class PiecePromoter {
         return mPromotionStack.pop();
     }
 
+    /**
+     * @return the pieces {@link #undoPromotion()} will hand back, the next one last
+     */
+    @NotNull
+    public List<Piece> getPromotedPieces() {
+        return Collections.unmodifiableList(mPromotionStack);
+    }
+
+    public void restorePromotedPieces(@NotNull List<Piece> promotedPieces) {
+        mPromotionStack.clear();
+        mPromotionStack.addAll(promotedPieces);
+    }
+
     @Nullable
     private PieceType getPieceTypeById(@NotNull String internalId) {
         for (PieceType pieceType : mPromotionMap.keySet()) {
@@ -0,0 +1,140 @@
+package com.drewhannay.chesscrafter.engine;
+
+import com.drewhannay.chesscrafter.logic.GameBuilder;
+import com.drewhannay.chesscrafter.models.BoardCoordinate;
+import com.drewhannay.chesscrafter.models.Game;
+import org.jetbrains.annotations.NotNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class AnalysisService_Analyze_Given_ClassicGame_Should {
+
+    Game mGame;
+    BlockingQueue<AnalysisUpdate> mUpdates;
+    AnalysisService mTarget;
+
+    @Before
+    public void setup() {
+        mGame = GameBuilder.buildGame(GameBuilder.getClassicConfiguration());
+        mUpdates = new LinkedBlockingQueue<>();
+        mTarget = new AnalysisService(new MaterialEvaluator(), new TranspositionTable(1),
+                new AnalysisService.Listener() {
+                    @Override
+                    public void onAnalysisUpdate(@NotNull AnalysisUpdate update) {
+                        mUpdates.add(update);
+                    }
+                });
+    }
+
+    @After
+    public void tearDown() {
+        mTarget.shutdown();
+    }
+
+    @Test
+    public void reportDeeperResultsForTheCurrentPosition() throws InterruptedException {
+        mTarget.analyze(mGame);
+
+        AnalysisUpdate first = nextUpdate();
+        AnalysisUpdate second = nextUpdate();
+
+        assertEquals(mGame.getPositionHash(), first.positionHash);
+        assertEquals(mGame.getTurnKeeper().getActiveTeamId(), first.teamId);
+        assertEquals(1, first.depth);
+        assertEquals(2, second.depth);
+        assertTrue(second.principalVariation.size() <= 2);
+        assertTrue(mGame.getLegalMoves().contains(second.getBestMove()));
+    }
+
+    @Test
+    public void leaveTheGameUntouched() throws InterruptedException {
+        long hash = mGame.getPositionHash();
+
+        mTarget.analyze(mGame);
+        nextUpdate();
+        nextUpdate();
+        mTarget.cancel();
+
+        assertTrue(mGame.getHistory().moves.isEmpty());
+        assertEquals(hash, mGame.getPositionHash());
+    }
+
+    @Test
+    public void switchToTheNewPosition() throws InterruptedException {
+        mTarget.analyze(mGame);
+        nextUpdate();
+
+        play(5, 2, 5, 4);
+        mTarget.analyze(mGame);
+
+        AnalysisUpdate update = nextUpdate();
+        while (update.positionHash != mGame.getPositionHash()) {
+            update = nextUpdate();
+        }
+        assertEquals(1, update.depth);
+        // the worker may already have finished another depth, but only ever for the new position
+        AnalysisUpdate latest = mTarget.getLatestUpdate();
+        assertEquals(mGame.getPositionHash(), latest.positionHash);
+        assertTrue(latest.depth >= update.depth);
+    }
+
+    @Test
+    public void forgetTheLatestUpdateOnCancel() throws InterruptedException {
+        mTarget.analyze(mGame);
+        nextUpdate();
+
+        mTarget.cancel();
+
+        assertNull(mTarget.getLatestUpdate());
+    }
+
+    @Test
+    public void findTheMateInAReplayedGame() throws InterruptedException {
+        play(6, 2, 6, 3);
+        play(5, 7, 5, 5);
+        play(7, 2, 7, 4);
+        play(4, 8, 8, 4);
+        assertTrue(mGame.getHistory().isComplete());
+
+        mGame.previousMove();
+        mTarget.analyze(mGame);
+
+        AnalysisUpdate update = nextUpdate();
+        assertTrue(Searcher.isMateScore(update.score));
+        assertEquals(BoardCoordinate.at(8, 4), update.getBestMove().destination);
+    }
+
+    @Test
+    public void stayQuietWhenTheGameIsOver() throws InterruptedException {
+        play(6, 2, 6, 3);
+        play(5, 7, 5, 5);
+        play(7, 2, 7, 4);
+        play(4, 8, 8, 4);
+
+        mTarget.analyze(mGame);
+
+        assertNull(mUpdates.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @NotNull
+    private AnalysisUpdate nextUpdate() throws InterruptedException {
+        AnalysisUpdate update = mUpdates.poll(30, TimeUnit.SECONDS);
+        assertNotNull(update);
+        return update;
+    }
+
+    private void play(int originX, int originY, int destinationX, int destinationY) {
+        mGame.executeMove(mGame.newMoveBuilder(BoardCoordinate.at(originX, originY),
+                BoardCoordinate.at(destinationX, destinationY)).build());
+    }
+}
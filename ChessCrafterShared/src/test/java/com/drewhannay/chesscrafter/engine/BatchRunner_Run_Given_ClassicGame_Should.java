@@ -0,0 +1,82 @@
+package com.drewhannay.chesscrafter.engine;
+
+import com.drewhannay.chesscrafter.logic.GameBuilder;
+import com.drewhannay.chesscrafter.models.Piece;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BatchRunner_Run_Given_ClassicGame_Should {
+
+    @Test
+    public void playEveryGameToTheEnd() throws InterruptedException {
+        BatchRunner target = new BatchRunner(GameBuilder.getClassicConfiguration(), new RandomPlayer(1),
+                new RandomPlayer(2), 40);
+
+        List<GameRecord> records = target.run(6, 2, null);
+
+        assertEquals(6, records.size());
+        for (int i = 0; i < records.size(); i++) {
+            GameRecord record = records.get(i);
+            assertEquals(i, record.gameIndex);
+            assertTrue(record.history.isComplete());
+            assertTrue(record.getPlyCount() <= 40);
+            assertEquals(record.adjudicated, record.getPlyCount() == 40 && record.isDraw());
+        }
+    }
+
+    @Test
+    public void playTheSameRandomGamesOnAnyNumberOfThreads() throws InterruptedException {
+        BatchRunner target = new BatchRunner(GameBuilder.getClassicConfiguration(), new RandomPlayer(1),
+                new RandomPlayer(2), 40);
+
+        List<GameRecord> serial = target.run(8, 1, null);
+        List<GameRecord> parallel = target.run(8, 4, null);
+
+        for (int i = 0; i < serial.size(); i++) {
+            assertEquals(serial.get(i).history.moves, parallel.get(i).history.moves);
+        }
+        assertFalse(serial.get(0).history.moves.equals(serial.get(2).history.moves));
+    }
+
+    @Test
+    public void swapTeamsBetweenGames() throws InterruptedException {
+        BatchRunner target = new BatchRunner(GameBuilder.getClassicConfiguration(), new RandomPlayer(1),
+                new RandomPlayer(2), 10);
+
+        List<GameRecord> records = target.run(2, 1, null);
+
+        assertEquals(Piece.TEAM_ONE, records.get(0).firstPlayerTeamId);
+        assertEquals(Piece.TEAM_TWO, records.get(1).firstPlayerTeamId);
+    }
+
+    @Test
+    public void streamStatisticsAfterEveryGame() throws InterruptedException {
+        BatchRunner target = new BatchRunner(GameBuilder.getClassicConfiguration(),
+                new SearchPlayer(new PieceSquareEvaluator(), SearchLimits.depth(1), 1), new RandomPlayer(3), 20);
+        final List<BatchStatistics> updates = new ArrayList<>();
+
+        target.run(4, 2, new BatchRunner.Listener() {
+            @Override
+            public void onGameFinished(@NotNull GameRecord record, @NotNull BatchStatistics statistics) {
+                updates.add(statistics);
+            }
+        });
+
+        assertEquals(4, updates.size());
+        for (int i = 0; i < updates.size(); i++) {
+            assertEquals(i + 1, updates.get(i).gameCount);
+        }
+        BatchStatistics statistics = target.getStatistics();
+        assertEquals(4, statistics.firstPlayerWins + statistics.secondPlayerWins + statistics.getDraws());
+        assertTrue(statistics.getAverageGameLength() > 0);
+        assertTrue(statistics.totalNodes > 0);
+        assertTrue(statistics.getNodesPerSecond() > 0);
+    }
+}
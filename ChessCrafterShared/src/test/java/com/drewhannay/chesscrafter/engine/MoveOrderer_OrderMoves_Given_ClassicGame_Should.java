@@ -0,0 +1,150 @@
+package com.drewhannay.chesscrafter.engine;
+
+import com.drewhannay.chesscrafter.logic.GameBuilder;
+import com.drewhannay.chesscrafter.logic.GameConfiguration;
+import com.drewhannay.chesscrafter.models.BoardCoordinate;
+import com.drewhannay.chesscrafter.models.Game;
+import com.drewhannay.chesscrafter.models.Move;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.drewhannay.chesscrafter.engine.Searcher_Search_Given_ClassicGame_Should.assertMove;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class MoveOrderer_OrderMoves_Given_ClassicGame_Should {
+
+    Game mGame;
+    MoveOrderer mTarget;
+
+    @Before
+    public void setup() {
+        mGame = GameBuilder.buildGame(GameBuilder.getClassicConfiguration());
+        mTarget = new MoveOrderer(new MaterialEvaluator(), 16);
+    }
+
+    @Test
+    public void putHashMoveFirst() {
+        List<Move> moves = mGame.getLegalMoves();
+        Move hashMove = find(moves, 8, 2, 8, 3);
+
+        mTarget.orderMoves(mGame, moves, TranspositionTable.packMove(mGame, hashMove), 0);
+
+        assertMove(8, 2, 8, 3, moves.get(0));
+    }
+
+    @Test
+    public void putHashPromotionFirstOverTheOtherPromotionTypes() {
+        play(8, 2, 8, 4);
+        play(7, 7, 7, 5);
+        play(8, 4, 7, 5);
+        play(8, 7, 8, 6);
+        play(7, 5, 8, 6);
+        play(7, 8, 6, 6);
+        play(8, 6, 8, 7);
+        play(6, 6, 7, 8);
+
+        List<Move> promotions = new ArrayList<>();
+        for (Move move : mGame.getLegalMoves()) {
+            if (move.promotionType != null) {
+                promotions.add(move);
+            }
+        }
+        assertEquals(4, promotions.size());
+
+        for (Move hashMove : promotions) {
+            List<Move> moves = mGame.getLegalMoves();
+            mTarget.orderMoves(mGame, moves, TranspositionTable.packMove(mGame, hashMove), 0);
+
+            assertEquals(hashMove.promotionType, moves.get(0).promotionType);
+        }
+    }
+
+    @Test
+    public void orderCapturesByVictimThenAttacker() {
+        play(5, 2, 5, 4);
+        play(4, 7, 4, 5);
+        play(4, 1, 8, 5);
+        play(4, 8, 4, 7);
+        play(2, 1, 3, 3);
+        play(4, 7, 6, 5);
+
+        List<Move> moves = mGame.getLegalMoves();
+        mTarget.orderMoves(mGame, moves, 0, 0);
+
+        assertMove(5, 4, 6, 5, moves.get(0));
+        assertMove(8, 5, 6, 5, moves.get(1));
+        assertMove(5, 4, 4, 5, moves.get(2));
+        assertMove(3, 3, 4, 5, moves.get(3));
+    }
+
+    @Test
+    public void putKillerBeforeOtherQuietMoves() {
+        Move killer = find(mGame.getLegalMoves(), 7, 1, 6, 3);
+        mTarget.recordCutoff(mGame, killer, 1, 3);
+
+        List<Move> moves = mGame.getLegalMoves();
+        mTarget.orderMoves(mGame, moves, 0, 3);
+
+        assertMove(7, 1, 6, 3, moves.get(0));
+    }
+
+    @Test
+    public void forgetKillersOnNewSearch() {
+        Move killer = find(mGame.getLegalMoves(), 8, 2, 8, 3);
+        mTarget.recordCutoff(mGame, killer, 1, 3);
+        mTarget.newSearch();
+
+        List<Move> moves = mGame.getLegalMoves();
+        mTarget.orderMoves(mGame, moves, 0, 3);
+
+        assertNotEquals(BoardCoordinate.at(8, 3), moves.get(0).destination);
+    }
+
+    @Test
+    public void orderQuietMovesByHistory() {
+        List<Move> moves = mGame.getLegalMoves();
+        mTarget.recordCutoff(mGame, find(moves, 7, 1, 6, 3), 2, 5);
+        mTarget.recordCutoff(mGame, find(moves, 2, 1, 3, 3), 4, 6);
+
+        mTarget.orderMoves(mGame, moves, 0, 0);
+
+        assertMove(2, 1, 3, 3, moves.get(0));
+        assertMove(7, 1, 6, 3, moves.get(1));
+    }
+
+    @Test
+    public void ignoreHistoryFromASmallerBoard() {
+        play(5, 2, 5, 4);
+        mTarget.recordCutoff(mGame, find(mGame.getLegalMoves(), 7, 8, 6, 6), 3, 1);
+
+        GameConfiguration config = GameBuilder.getClassicConfiguration();
+        config.boards[0].height = 10;
+        Game tallGame = GameBuilder.buildGame(config);
+        tallGame.executeMove(tallGame.newMoveBuilder(BoardCoordinate.at(5, 2), BoardCoordinate.at(5, 4)).build());
+        List<Move> moves = tallGame.getLegalMoves();
+        Move farMove = find(moves, 7, 8, 6, 10);
+
+        mTarget.orderMoves(tallGame, moves, 0, 1);
+
+        assertEquals(0, mTarget.getScore(tallGame, farMove, 0, 1));
+    }
+
+    private void play(int originX, int originY, int destinationX, int destinationY) {
+        mGame.executeMove(mGame.newMoveBuilder(BoardCoordinate.at(originX, originY),
+                BoardCoordinate.at(destinationX, destinationY)).build());
+    }
+
+    private static Move find(List<Move> moves, int originX, int originY, int destinationX, int destinationY) {
+        for (Move move : moves) {
+            if (move.origin.equals(BoardCoordinate.at(originX, originY))
+                    && move.destination.equals(BoardCoordinate.at(destinationX, destinationY))) {
+                return move;
+            }
+        }
+        throw new AssertionError("Move not found");
+    }
+}
@@ -0,0 +1,70 @@
+package com.drewhannay.chesscrafter.engine;
+
+import com.drewhannay.chesscrafter.logic.GameBuilder;
+import com.drewhannay.chesscrafter.models.BoardCoordinate;
+import com.drewhannay.chesscrafter.models.Game;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelSearcher_Search_Given_ClassicGame_Should {
+
+    Game mGame;
+    ParallelSearcher mTarget;
+
+    @Before
+    public void setup() {
+        mGame = GameBuilder.buildGame(GameBuilder.getClassicConfiguration());
+        mTarget = new ParallelSearcher(new MaterialEvaluator(), new TranspositionTable(4), 4);
+    }
+
+    @After
+    public void tearDown() {
+        mTarget.shutdown();
+    }
+
+    @Test
+    public void findMateInOne() {
+        play(5, 2, 5, 4);
+        play(5, 7, 5, 5);
+        play(6, 1, 3, 4);
+        play(2, 8, 3, 6);
+        play(4, 1, 8, 5);
+        play(7, 8, 6, 6);
+
+        SearchResult result = mTarget.search(mGame, SearchLimits.depth(3));
+
+        Searcher_Search_Given_ClassicGame_Should.assertMove(8, 5, 6, 7, result.bestMove);
+        assertTrue(Searcher.isMateScore(result.score));
+    }
+
+    @Test
+    public void leaveGameAsItFound() {
+        play(5, 2, 5, 4);
+        long hash = mGame.getPositionHash();
+
+        mTarget.search(mGame, SearchLimits.depth(3));
+
+        assertEquals(hash, mGame.getPositionHash());
+        assertEquals(1, mGame.getHistory().moves.size());
+    }
+
+    @Test
+    public void stopHelpersWithMainThread() {
+        SearchResult first = mTarget.search(mGame, SearchLimits.time(200));
+        SearchResult second = mTarget.search(mGame, SearchLimits.time(200));
+
+        assertTrue(first.depth >= 1);
+        assertTrue(second.depth >= 1);
+        assertTrue(first.elapsedMillis < 2000);
+        assertTrue(second.elapsedMillis < 2000);
+    }
+
+    private void play(int originX, int originY, int destinationX, int destinationY) {
+        mGame.executeMove(mGame.newMoveBuilder(BoardCoordinate.at(originX, originY),
+                BoardCoordinate.at(destinationX, destinationY)).build());
+    }
+}
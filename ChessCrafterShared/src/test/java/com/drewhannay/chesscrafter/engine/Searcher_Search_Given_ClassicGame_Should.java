@@ -0,0 +1,128 @@
+package com.drewhannay.chesscrafter.engine;
+
+import com.drewhannay.chesscrafter.logic.GameBuilder;
+import com.drewhannay.chesscrafter.models.BoardCoordinate;
+import com.drewhannay.chesscrafter.models.Game;
+import com.drewhannay.chesscrafter.models.Move;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class Searcher_Search_Given_ClassicGame_Should {
+
+    Game mGame;
+    Searcher mTarget;
+
+    @Before
+    public void setup() {
+        mGame = GameBuilder.buildGame(GameBuilder.getClassicConfiguration());
+        mTarget = new Searcher(new MaterialEvaluator());
+    }
+
+    @Test
+    public void findMateInOne() {
+        play(5, 2, 5, 4);
+        play(5, 7, 5, 5);
+        play(6, 1, 3, 4);
+        play(2, 8, 3, 6);
+        play(4, 1, 8, 5);
+        play(7, 8, 6, 6);
+
+        SearchResult result = mTarget.search(mGame, SearchLimits.depth(3));
+
+        assertMove(8, 5, 6, 7, result.bestMove);
+        assertTrue(Searcher.isMateScore(result.score));
+        assertTrue(result.score > 0);
+    }
+
+    @Test
+    public void keepARunawayEvaluationBelowTheMateScores() {
+        mTarget = new Searcher(new Evaluator() {
+            @Override
+            public int evaluate(@NotNull Game game, int teamId) {
+                return teamId == game.getTurnKeeper().getActiveTeamId() ? 5000000 : -5000000;
+            }
+        });
+
+        SearchResult result = mTarget.search(mGame, SearchLimits.depth(3));
+
+        assertFalse(Searcher.isMateScore(result.score));
+    }
+
+    @Test
+    public void winHangingQueen() {
+        play(5, 2, 5, 4);
+        play(4, 7, 4, 5);
+        play(4, 1, 7, 4);
+
+        SearchResult result = mTarget.search(mGame, SearchLimits.depth(2));
+
+        assertMove(3, 8, 7, 4, result.bestMove);
+        assertTrue(result.score > 500);
+    }
+
+    @Test
+    public void seeRecaptureBeyondDepthLimit() {
+        play(5, 2, 5, 4);
+        play(5, 7, 5, 5);
+        play(4, 1, 8, 5);
+        play(2, 8, 3, 6);
+
+        SearchResult result = mTarget.search(mGame, SearchLimits.depth(1));
+
+        // every capture here loses the queen to a recapture that only quiescence sees
+        assertNull(mGame.getBoards()[0].getPiece(result.bestMove.destination));
+    }
+
+    @Test
+    public void leaveGameAsItFound() {
+        play(5, 2, 5, 4);
+        long hash = mGame.getPositionHash();
+
+        mTarget.search(mGame, SearchLimits.depth(3));
+
+        assertEquals(hash, mGame.getPositionHash());
+        assertEquals(1, mGame.getHistory().moves.size());
+    }
+
+    @Test
+    public void stopNearNodeBudget() {
+        SearchResult result = mTarget.search(mGame, SearchLimits.nodes(5000));
+
+        assertTrue(result.depth >= 1);
+        assertTrue(result.nodes < 5000 + 1024);
+    }
+
+    @Test
+    public void stopNearTimeBudget() {
+        SearchResult result = mTarget.search(mGame, SearchLimits.time(200));
+
+        assertTrue(result.depth >= 1);
+        assertTrue(result.elapsedMillis < 2000);
+    }
+
+    @Test
+    public void reuseSharedTableOnRepeatedSearch() {
+        TranspositionTable table = new TranspositionTable(4);
+        SearchResult first = new Searcher(new MaterialEvaluator(), table).search(mGame, SearchLimits.depth(3));
+        SearchResult second = new Searcher(new MaterialEvaluator(), table).search(mGame, SearchLimits.depth(3));
+
+        assertEquals(first.score, second.score);
+        assertTrue(second.nodes < first.nodes / 2);
+    }
+
+    private void play(int originX, int originY, int destinationX, int destinationY) {
+        mGame.executeMove(mGame.newMoveBuilder(BoardCoordinate.at(originX, originY),
+                BoardCoordinate.at(destinationX, destinationY)).build());
+    }
+
+    static void assertMove(int originX, int originY, int destinationX, int destinationY, Move move) {
+        assertEquals(BoardCoordinate.at(originX, originY), move.origin);
+        assertEquals(BoardCoordinate.at(destinationX, destinationY), move.destination);
+    }
+}
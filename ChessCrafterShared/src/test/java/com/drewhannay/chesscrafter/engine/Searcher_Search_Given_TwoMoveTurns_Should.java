@@ -0,0 +1,55 @@
+package com.drewhannay.chesscrafter.engine;
+
+import com.drewhannay.chesscrafter.logic.GameBuilder;
+import com.drewhannay.chesscrafter.logic.GameConfiguration;
+import com.drewhannay.chesscrafter.logic.Status;
+import com.drewhannay.chesscrafter.models.BoardCoordinate;
+import com.drewhannay.chesscrafter.models.Game;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class Searcher_Search_Given_TwoMoveTurns_Should {
+
+    Game mGame;
+    Searcher mTarget;
+
+    @Before
+    public void setup() {
+        GameConfiguration config = GameBuilder.getClassicConfiguration();
+        config.turnKeeper.turnCounts = new int[]{2, 1};
+        mGame = GameBuilder.buildGame(config);
+        mTarget = new Searcher(new MaterialEvaluator());
+
+        play(5, 2, 5, 4);
+        play(1, 2, 1, 3);
+        play(4, 7, 4, 5);
+        play(5, 4, 4, 5);
+        play(1, 3, 1, 4);
+        play(4, 8, 4, 5);
+    }
+
+    @Test
+    public void captureObjectiveOverBothMovesOfTurn() {
+        SearchResult result = mTarget.search(mGame, SearchLimits.depth(2));
+
+        assertTrue(Searcher.isMateScore(result.score));
+        assertTrue(result.score > 0);
+
+        mGame.executeMove(result.bestMove);
+        assertEquals(1, mGame.getTurnKeeper().getActiveTeamId());
+
+        SearchResult secondResult = mTarget.search(mGame, SearchLimits.depth(1));
+        assertEquals(BoardCoordinate.at(5, 8), secondResult.bestMove.destination);
+
+        mGame.executeMove(secondResult.bestMove);
+        assertEquals(Status.CHECKMATE, mGame.getStatus());
+    }
+
+    private void play(int originX, int originY, int destinationX, int destinationY) {
+        mGame.executeMove(mGame.newMoveBuilder(BoardCoordinate.at(originX, originY),
+                BoardCoordinate.at(destinationX, destinationY)).build());
+    }
+}
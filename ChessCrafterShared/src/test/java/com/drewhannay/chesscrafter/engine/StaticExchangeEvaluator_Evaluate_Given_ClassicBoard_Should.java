@@ -0,0 +1,98 @@
+package com.drewhannay.chesscrafter.engine;
+
+import com.drewhannay.chesscrafter.models.Board;
+import com.drewhannay.chesscrafter.models.BoardCoordinate;
+import com.drewhannay.chesscrafter.models.BoardSize;
+import com.drewhannay.chesscrafter.models.Piece;
+import com.drewhannay.chesscrafter.models.PieceType;
+import com.drewhannay.chesscrafter.models.TwoHopMovement;
+import com.google.common.collect.Sets;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class StaticExchangeEvaluator_Evaluate_Given_ClassicBoard_Should {
+
+    private static final PieceType ALFIL = new PieceType("Alfil", "Alfil", null,
+            Sets.newHashSet(TwoHopMovement.with(2, 2)));
+
+    Board mBoard;
+    StaticExchangeEvaluator mTarget;
+
+    @Before
+    public void setup() {
+        mBoard = new Board(BoardSize.CLASSIC_SIZE);
+        mTarget = new StaticExchangeEvaluator(new MaterialEvaluator());
+    }
+
+    @Test
+    public void winUndefendedPiece() {
+        mBoard.addPiece(Piece.newKnight(Piece.TEAM_ONE), BoardCoordinate.at(4, 3));
+        mBoard.addPiece(Piece.newRook(Piece.TEAM_TWO), BoardCoordinate.at(5, 5));
+
+        assertEquals(500, evaluate(4, 3, 5, 5));
+    }
+
+    @Test
+    public void loseKnightForDefendedPawn() {
+        mBoard.addPiece(Piece.newKnight(Piece.TEAM_ONE), BoardCoordinate.at(4, 3));
+        mBoard.addPiece(Piece.newSouthFacingPawn(Piece.TEAM_TWO), BoardCoordinate.at(5, 5));
+        mBoard.addPiece(Piece.newSouthFacingPawn(Piece.TEAM_TWO), BoardCoordinate.at(6, 6));
+
+        assertEquals(-200, evaluate(4, 3, 5, 5));
+    }
+
+    @Test
+    public void ignorePawnThatCanOnlyMoveOntoTheSquare() {
+        mBoard.addPiece(Piece.newKnight(Piece.TEAM_ONE), BoardCoordinate.at(4, 3));
+        mBoard.addPiece(Piece.newBishop(Piece.TEAM_TWO), BoardCoordinate.at(5, 5));
+        mBoard.addPiece(Piece.newSouthFacingPawn(Piece.TEAM_TWO), BoardCoordinate.at(5, 6));
+
+        assertEquals(320, evaluate(4, 3, 5, 5));
+    }
+
+    @Test
+    public void letDefenderRecaptureWhenItPays() {
+        mBoard.addPiece(Piece.newKnight(Piece.TEAM_ONE), BoardCoordinate.at(4, 3));
+        mBoard.addPiece(Piece.newBishop(Piece.TEAM_TWO), BoardCoordinate.at(5, 5));
+        mBoard.addPiece(Piece.newSouthFacingPawn(Piece.TEAM_TWO), BoardCoordinate.at(4, 6));
+
+        assertEquals(20, evaluate(4, 3, 5, 5));
+    }
+
+    @Test
+    public void countSliderBehindTheFirstAttacker() {
+        mBoard.addPiece(Piece.newRook(Piece.TEAM_ONE), BoardCoordinate.at(1, 1));
+        mBoard.addPiece(Piece.newRook(Piece.TEAM_ONE), BoardCoordinate.at(1, 2));
+        mBoard.addPiece(Piece.newSouthFacingPawn(Piece.TEAM_TWO), BoardCoordinate.at(1, 5));
+        mBoard.addPiece(Piece.newRook(Piece.TEAM_TWO), BoardCoordinate.at(1, 8));
+
+        assertEquals(100, evaluate(1, 2, 1, 5));
+    }
+
+    @Test
+    public void countDiagonalLeaperBehindTheFirstAttacker() {
+        mBoard.addPiece(new Piece(Piece.TEAM_ONE, ALFIL), BoardCoordinate.at(3, 3));
+        mBoard.addPiece(Piece.newBishop(Piece.TEAM_ONE), BoardCoordinate.at(4, 4));
+        mBoard.addPiece(Piece.newSouthFacingPawn(Piece.TEAM_TWO), BoardCoordinate.at(5, 5));
+        mBoard.addPiece(Piece.newSouthFacingPawn(Piece.TEAM_TWO), BoardCoordinate.at(4, 6));
+
+        assertEquals(-120, evaluate(4, 4, 5, 5));
+    }
+
+    @Test
+    public void stopBeforeLosingMoreThanTheExchangeWins() {
+        mBoard.addPiece(Piece.newQueen(Piece.TEAM_ONE), BoardCoordinate.at(1, 1));
+        mBoard.addPiece(Piece.newSouthFacingPawn(Piece.TEAM_TWO), BoardCoordinate.at(1, 5));
+        mBoard.addPiece(Piece.newRook(Piece.TEAM_TWO), BoardCoordinate.at(1, 8));
+
+        assertEquals(-800, evaluate(1, 1, 1, 5));
+    }
+
+    private int evaluate(int originX, int originY, int destinationX, int destinationY) {
+        BoardSize boardSize = mBoard.getBoardSize();
+        return mTarget.evaluate(mBoard, boardSize.toSquareIndex(originX, originY),
+                boardSize.toSquareIndex(destinationX, destinationY));
+    }
+}
@@ -0,0 +1,205 @@
+package com.drewhannay.chesscrafter.engine;
+
+import com.drewhannay.chesscrafter.logic.PieceTypeManager;
+import com.drewhannay.chesscrafter.models.Board;
+import com.drewhannay.chesscrafter.models.BoardCoordinate;
+import com.drewhannay.chesscrafter.models.BoardSize;
+import com.drewhannay.chesscrafter.models.Game;
+import com.drewhannay.chesscrafter.models.Move;
+import com.drewhannay.chesscrafter.models.Piece;
+import com.drewhannay.chesscrafter.models.PieceType;
+import com.drewhannay.chesscrafter.models.Team;
+import com.drewhannay.chesscrafter.models.turnkeeper.TurnKeeper;
+import com.drewhannay.chesscrafter.rules.conditionalmovegenerator.ConditionalMoveGenerator;
+import com.drewhannay.chesscrafter.rules.endconditions.CaptureObjectiveEndCondition;
+import com.drewhannay.chesscrafter.rules.endconditions.EndCondition;
+import com.drewhannay.chesscrafter.rules.movefilter.MoveFilter;
+import com.drewhannay.chesscrafter.rules.postmoveaction.PostMoveAction;
+import com.drewhannay.chesscrafter.rules.promotionmethods.PiecePromoter;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TranspositionTableTest {
+    public static class Store {
+        TranspositionTable mTarget;
+
+        @Before
+        public void setup() {
+            mTarget = new TranspositionTable(1);
+        }
+
+        @Test
+        public void roundTripsAllFields() {
+            int move = TranspositionTable.packMove(4095, 4094, 15);
+            mTarget.store(42L, 12, TranspositionTable.BOUND_LOWER, -Searcher.MATE_SCORE, move);
+
+            long data = mTarget.probe(42L);
+
+            assertEquals(move, TranspositionTable.getMove(data));
+            assertEquals(TranspositionTable.BOUND_LOWER, TranspositionTable.getBound(data));
+            assertEquals(12, TranspositionTable.getDepth(data));
+            assertEquals(-Searcher.MATE_SCORE, TranspositionTable.getScore(data));
+        }
+
+        @Test
+        public void skipsScoresThatDontFit() {
+            mTarget.store(42L, 1, TranspositionTable.BOUND_EXACT, TranspositionTable.MAX_SCORE + 1, 0);
+
+            assertEquals(0, mTarget.probe(42L));
+        }
+
+        @Test
+        public void missesOtherKeys() {
+            mTarget.store(42L, 1, TranspositionTable.BOUND_EXACT, 10, 0);
+
+            assertEquals(0, mTarget.probe(43L));
+            assertEquals(0, mTarget.probe(42L + mTarget.getCapacity()));
+        }
+
+        @Test
+        public void keepsMoveWhenSamePositionStoredWithoutOne() {
+            int move = TranspositionTable.packMove(1, 2, 0);
+            mTarget.store(42L, 1, TranspositionTable.BOUND_EXACT, 10, move);
+            mTarget.store(42L, 2, TranspositionTable.BOUND_UPPER, 5, 0);
+
+            long data = mTarget.probe(42L);
+
+            assertEquals(move, TranspositionTable.getMove(data));
+            assertEquals(2, TranspositionTable.getDepth(data));
+        }
+
+        @Test
+        public void replacesOlderSearchBeforeShallowerEntry() {
+            // every key lands in bucket 0 since the table is a power of two in size
+            long step = mTarget.getCapacity();
+            mTarget.store(step, 1, TranspositionTable.BOUND_EXACT, 0, 0);
+            mTarget.newSearch();
+            for (int i = 2; i <= 4; i++) {
+                mTarget.store(step * i, 1, TranspositionTable.BOUND_EXACT, 0, 0);
+            }
+
+            mTarget.store(step * 5, 1, TranspositionTable.BOUND_EXACT, 0, 0);
+
+            assertEquals(0, mTarget.probe(step));
+            assertTrue(mTarget.probe(step * 2) != 0);
+            assertTrue(mTarget.probe(step * 5) != 0);
+        }
+
+        @Test
+        public void replacesShallowestEntryOfSameSearch() {
+            long step = mTarget.getCapacity();
+            for (int i = 1; i <= 4; i++) {
+                mTarget.store(step * i, 10 - i, TranspositionTable.BOUND_EXACT, 0, 0);
+            }
+
+            mTarget.store(step * 5, 8, TranspositionTable.BOUND_EXACT, 0, 0);
+
+            assertEquals(0, mTarget.probe(step * 4));
+            assertTrue(mTarget.probe(step) != 0);
+        }
+    }
+
+    public static class PackMove {
+        @Test
+        public void givesPromotionTypesWithTheSameHashCodeTheirOwnCodes() {
+            // "Aa" and "BB" have the same String hash code
+            PieceType first = new PieceType("Aa", "First", null, null);
+            PieceType second = new PieceType("BB", "Second", null, null);
+            Game game = buildGameWithPromotionOptions(first, second);
+
+            int firstMove = TranspositionTable.packMove(game, promoteTo(game, first));
+            int secondMove = TranspositionTable.packMove(game, promoteTo(game, second));
+
+            assertNotEquals(firstMove, secondMove);
+        }
+
+        private static Move promoteTo(Game game, PieceType promotionType) {
+            return game.newMoveBuilder(BoardCoordinate.at(1, 7), BoardCoordinate.at(1, 8))
+                    .setPromotionType(promotionType).build();
+        }
+
+        private static Game buildGameWithPromotionOptions(PieceType... promotionTypes) {
+            Board board = new Board(BoardSize.CLASSIC_SIZE);
+            board.addPiece(Piece.newNorthFacingPawn(Piece.TEAM_ONE), BoardCoordinate.at(1, 7));
+            board.addPiece(Piece.newKing(Piece.TEAM_ONE, true), BoardCoordinate.at(5, 1));
+            board.addPiece(Piece.newKing(Piece.TEAM_TWO, true), BoardCoordinate.at(5, 8));
+
+            Map<PieceType, Set<PieceType>> promotionMap = ImmutableMap.<PieceType, Set<PieceType>>of(
+                    PieceTypeManager.getNorthFacingPawnPieceType(), Sets.newHashSet(promotionTypes));
+            Map<Integer, Set<BoardCoordinate>> promotionCoordinateMap = ImmutableMap.<Integer, Set<BoardCoordinate>>of(
+                    0, Sets.newHashSet(BoardCoordinate.at(1, 8)));
+
+            Team[] teams = new Team[2];
+            for (int i = 0; i < teams.length; i++) {
+                int teamId = i == 0 ? Piece.TEAM_ONE : Piece.TEAM_TWO;
+                teams[i] = new Team(teamId, 0, "Team " + teamId, new HashSet<ConditionalMoveGenerator>(),
+                        new HashSet<MoveFilter>(), new HashSet<PostMoveAction>(),
+                        EndCondition.from(CaptureObjectiveEndCondition.NAME, teamId),
+                        new PiecePromoter(promotionCoordinateMap, promotionMap));
+            }
+            TurnKeeper turnKeeper = new TurnKeeper(new int[]{Piece.TEAM_ONE, Piece.TEAM_TWO}, new int[]{1, 1},
+                    new int[]{0, 0});
+            return new Game("Promotions", "Promotions", new Board[]{board}, teams, turnKeeper, null);
+        }
+    }
+
+    public static class Concurrency {
+        @Test
+        public void neverReturnsAnotherPositionsData() throws InterruptedException {
+            // a tiny table so the threads keep overwriting each other's buckets
+            final TranspositionTable target = new TranspositionTable(1);
+            final AtomicInteger mismatchCount = new AtomicInteger();
+
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final long seed = t;
+                threads.add(new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        Random random = new Random(seed);
+                        for (int i = 0; i < 200000; i++) {
+                            long key = getKey(random.nextInt(1 << 16));
+                            target.store(key, getDepth(key), TranspositionTable.BOUND_EXACT, 0, 0);
+
+                            long probedKey = getKey(random.nextInt(1 << 16));
+                            long data = target.probe(probedKey);
+                            if (data != 0 && TranspositionTable.getDepth(data) != getDepth(probedKey)) {
+                                mismatchCount.incrementAndGet();
+                            }
+                        }
+                    }
+                }));
+            }
+            for (Thread thread : threads) {
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertEquals(0, mismatchCount.get());
+        }
+
+        private static long getKey(int index) {
+            return index * 0x9E3779B97F4A7C15L;
+        }
+
+        private static int getDepth(long key) {
+            return (int) ((key >>> 40) % TranspositionTable.MAX_DEPTH);
+        }
+    }
+}
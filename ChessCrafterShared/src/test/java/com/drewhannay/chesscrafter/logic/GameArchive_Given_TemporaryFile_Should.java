@@ -0,0 +1,127 @@
+package com.drewhannay.chesscrafter.logic;
+
+import com.drewhannay.chesscrafter.models.Game;
+import com.drewhannay.chesscrafter.models.History;
+import com.drewhannay.chesscrafter.models.Move;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class GameArchive_Given_TemporaryFile_Should {
+
+    @Rule
+    public TemporaryFolder mFolder = new TemporaryFolder();
+
+    @Test
+    public void readBackEveryGame() throws IOException {
+        File file = new File(mFolder.getRoot(), "games.archive");
+        History[] histories = {playGame(1), playGame(2), playGame(3)};
+
+        try (GameArchive.Writer writer = GameArchive.Writer.append(file)) {
+            for (History history : histories) {
+                writer.write(history);
+            }
+        }
+        GameArchive archive = GameArchive.open(file);
+
+        assertEquals(3, archive.getGameCount());
+        for (int i = 0; i < histories.length; i++) {
+            History history = archive.getHistory(i);
+            assertEquals(histories[i].internalHistoryId, history.internalHistoryId);
+            assertEquals(histories[i].moves, history.moves);
+            assertEquals(histories[i].isComplete(), history.isComplete());
+        }
+    }
+
+    @Test
+    public void appendToAnExistingArchive() throws IOException {
+        File file = new File(mFolder.getRoot(), "games.archive");
+        History first = playGame(4);
+        History second = playGame(5);
+
+        try (GameArchive.Writer writer = GameArchive.Writer.append(file)) {
+            writer.write(first);
+        }
+        try (GameArchive.Writer writer = GameArchive.Writer.append(file)) {
+            assertEquals(1, writer.getGameCount());
+            writer.write(second);
+        }
+        GameArchive archive = GameArchive.open(file);
+
+        assertEquals(2, archive.getGameCount());
+        assertEquals(first.moves, archive.getHistory(0).moves);
+        assertEquals(second.moves, archive.getHistory(1).moves);
+    }
+
+    @Test
+    public void keepTheLastClosedGamesWhenAWriterIsNeverClosed() throws IOException {
+        File file = new File(mFolder.getRoot(), "games.archive");
+        History first = playGame(6);
+        History second = playGame(7);
+
+        try (GameArchive.Writer writer = GameArchive.Writer.append(file)) {
+            writer.write(first);
+        }
+        long closedLength = file.length();
+
+        // never closed, as if the process died; enough games to get past the write buffer
+        GameArchive.Writer dropped = GameArchive.Writer.append(file);
+        for (int i = 0; i < 500; i++) {
+            dropped.write(second);
+        }
+        assertTrue(file.length() > closedLength);
+
+        GameArchive archive = GameArchive.open(file);
+        assertEquals(1, archive.getGameCount());
+        assertEquals(first.moves, archive.getHistory(0).moves);
+
+        try (GameArchive.Writer writer = GameArchive.Writer.append(file)) {
+            assertEquals(1, writer.getGameCount());
+            writer.write(second);
+        }
+        archive = GameArchive.open(file);
+
+        assertEquals(2, archive.getGameCount());
+        assertEquals(first.moves, archive.getHistory(0).moves);
+        assertEquals(second.moves, archive.getHistory(1).moves);
+    }
+
+    @Test
+    public void openAnEmptyArchive() throws IOException {
+        File file = new File(mFolder.getRoot(), "games.archive");
+
+        GameArchive.Writer.append(file).close();
+
+        assertEquals(0, GameArchive.open(file).getGameCount());
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectOtherFiles() throws IOException {
+        File file = mFolder.newFile("game.chesscrafter");
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write("{\"internalGameId\":\"Classic\",\"moves\":[]}".getBytes("UTF-8"));
+        }
+
+        GameArchive.Writer.append(file);
+    }
+
+    private static History playGame(int seed) {
+        Game game = GameBuilder.buildGame(GameBuilder.getClassicConfiguration());
+        Random random = new Random(seed);
+        for (int ply = 0; ply < 30 && !game.getHistory().isComplete(); ply++) {
+            List<Move> moves = game.getLegalMoves();
+            game.executeMove(moves.get(random.nextInt(moves.size())));
+        }
+        assertTrue(game.getHistory().moves.size() > 0);
+        return game.getHistory();
+    }
+}
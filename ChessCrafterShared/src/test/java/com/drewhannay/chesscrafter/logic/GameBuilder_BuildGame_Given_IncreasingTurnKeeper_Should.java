@@ -0,0 +1,44 @@
+package com.drewhannay.chesscrafter.logic;
+
+import com.drewhannay.chesscrafter.models.BoardCoordinate;
+import com.drewhannay.chesscrafter.models.Game;
+import com.drewhannay.chesscrafter.models.Piece;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class GameBuilder_BuildGame_Given_IncreasingTurnKeeper_Should {
+
+    GameConfiguration mConfig;
+
+    @Before
+    public void setup() {
+        mConfig = GameBuilder.getClassicConfiguration();
+        mConfig.turnKeeper.turnIncrements = new int[]{1, 1};
+    }
+
+    @Test
+    public void leaveTheConfiguredTurnCountsAlone() {
+        play(GameBuilder.buildGame(mConfig));
+
+        assertArrayEquals(new int[]{1, 1}, mConfig.turnKeeper.turnCounts);
+    }
+
+    @Test
+    public void startEachGameWithTheConfiguredTurnCounts() {
+        play(GameBuilder.buildGame(mConfig));
+
+        Game target = GameBuilder.buildGame(mConfig);
+        target.getTurnKeeper().finishTurn();
+
+        assertEquals(Piece.TEAM_TWO, target.getTurnKeeper().getActiveTeamId());
+    }
+
+    private static void play(Game game) {
+        // one move for white, then black's turn grows to two moves
+        game.executeMove(game.newMoveBuilder(BoardCoordinate.at(5, 2), BoardCoordinate.at(5, 4)).build());
+        game.executeMove(game.newMoveBuilder(BoardCoordinate.at(5, 7), BoardCoordinate.at(5, 5)).build());
+    }
+}
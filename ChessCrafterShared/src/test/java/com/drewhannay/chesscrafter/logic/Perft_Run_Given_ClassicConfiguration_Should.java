@@ -0,0 +1,79 @@
+package com.drewhannay.chesscrafter.logic;
+
+import com.drewhannay.chesscrafter.models.Move;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+public class Perft_Run_Given_ClassicConfiguration_Should {
+
+    Perft mTarget;
+
+    @Before
+    public void setup() {
+        mTarget = new Perft(GameBuilder.getClassicConfiguration());
+    }
+
+    @Test
+    public void returnOneAtDepthZero() {
+        assertEquals(1, mTarget.run(0));
+    }
+
+    @Test
+    public void returnKnownCountAtDepthOne() {
+        assertEquals(20, mTarget.run(1));
+    }
+
+    @Test
+    public void returnKnownCountAtDepthTwo() {
+        assertEquals(400, mTarget.run(2));
+    }
+
+    @Test
+    public void returnKnownCountAtDepthThree() {
+        assertEquals(8902, mTarget.run(3));
+    }
+
+    @Test
+    public void returnKnownCountAtDepthFour() {
+        assertEquals(197281, mTarget.run(4));
+    }
+
+    @Test
+    public void divideIntoRootMovesThatSumToTotal() {
+        Map<Move, Long> results = mTarget.divide(3, 1);
+
+        assertEquals(20, results.size());
+        assertEquals(8902, sum(results));
+        assertEquals(Long.valueOf(600), results.get(find(results, "e2e4")));
+        assertEquals(Long.valueOf(440), results.get(find(results, "g1f3")));
+    }
+
+    @Test
+    public void divideInParallelLikeSequentially() {
+        Map<Move, Long> sequential = mTarget.divide(3, 1);
+        Map<Move, Long> parallel = mTarget.divide(3, 4);
+
+        assertEquals(sequential, parallel);
+    }
+
+    private static long sum(Map<Move, Long> results) {
+        long total = 0;
+        for (long nodes : results.values()) {
+            total += nodes;
+        }
+        return total;
+    }
+
+    private static Move find(Map<Move, Long> results, String notation) {
+        for (Move move : results.keySet()) {
+            if (Perft.toNotation(move).equals(notation)) {
+                return move;
+            }
+        }
+        throw new AssertionError("No root move " + notation);
+    }
+}
@@ -0,0 +1,74 @@
+package com.drewhannay.chesscrafter.logic;
+
+import com.drewhannay.chesscrafter.models.BoardSize;
+import com.drewhannay.chesscrafter.models.CardinalMovement;
+import com.drewhannay.chesscrafter.models.Direction;
+import com.drewhannay.chesscrafter.models.PieceType;
+import com.drewhannay.chesscrafter.models.TwoHopMovement;
+import com.google.common.collect.Sets;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PieceTypeManager_GetMaterialValue_Should {
+
+    PieceTypeManager mTarget = PieceTypeManager.INSTANCE;
+
+    @Test
+    public void rankClassicPiecesByMobility() {
+        int pawn = getValue(PieceTypeManager.getNorthFacingPawnPieceType());
+        int knight = getValue(PieceTypeManager.getKnightPieceType());
+        int bishop = getValue(PieceTypeManager.getBishopPieceType());
+        int rook = getValue(PieceTypeManager.getRookPieceType());
+        int queen = getValue(PieceTypeManager.getQueenPieceType());
+
+        assertTrue(pawn < knight);
+        assertTrue(knight < bishop);
+        assertTrue(bishop < rook);
+        assertEquals(queen, bishop + rook);
+    }
+
+    @Test
+    public void valueCraftedPieceAboveItsParts() {
+        Set<CardinalMovement> movements = new HashSet<>();
+        for (Direction direction : Direction.values()) {
+            movements.add(CardinalMovement.with(direction, PieceType.UNLIMITED));
+        }
+        PieceType amazon = new PieceType("Amazon", "Amazon", movements,
+                Sets.newHashSet(TwoHopMovement.with(2, 1)));
+
+        assertEquals(getValue(PieceTypeManager.getQueenPieceType()) + getValue(PieceTypeManager.getKnightPieceType()),
+                getValue(amazon));
+    }
+
+    @Test
+    public void countCapturingMovements() {
+        Set<CardinalMovement> capturingMovements = new HashSet<>();
+        capturingMovements.add(CardinalMovement.with(Direction.NORTH, PieceType.UNLIMITED));
+        PieceType harpoon = new PieceType("Harpoon", "Harpoon", null, capturingMovements, null);
+
+        assertTrue(getValue(harpoon) > 0);
+    }
+
+    @Test
+    public void valueLongRangePiecesHigherOnLargerBoards() {
+        PieceType rook = PieceTypeManager.getRookPieceType();
+
+        assertTrue(mTarget.getMaterialValue(rook, BoardSize.withDimensions(12, 12)) > getValue(rook));
+    }
+
+    @Test
+    public void returnSameValueOnRepeatedCalls() {
+        PieceType knight = PieceTypeManager.getKnightPieceType();
+
+        assertEquals(getValue(knight), getValue(knight));
+    }
+
+    private int getValue(PieceType pieceType) {
+        return mTarget.getMaterialValue(pieceType, BoardSize.CLASSIC_SIZE);
+    }
+}
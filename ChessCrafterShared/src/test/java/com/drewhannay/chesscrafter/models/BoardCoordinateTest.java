@@ -4,9 +4,33 @@ import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 public class BoardCoordinateTest {
 
+    public static class At {
+        @Test
+        public void returnsSameInstanceForSameCoordinate() {
+            assertSame(BoardCoordinate.at(3, 4), BoardCoordinate.at(3, 4));
+        }
+
+        @Test
+        public void keepsInstancesWhenCacheGrows() {
+            BoardCoordinate before = BoardCoordinate.at(2, 2);
+            BoardCoordinate.at(100, 1);
+
+            assertSame(before, BoardCoordinate.at(2, 2));
+            assertSame(BoardCoordinate.at(100, 1), BoardCoordinate.at(100, 1));
+        }
+
+        @Test
+        public void allocatesOffBoardCoordinates() {
+            assertNotSame(BoardCoordinate.at(0, -1), BoardCoordinate.at(0, -1));
+            assertEquals(BoardCoordinate.at(0, -1), BoardCoordinate.at(0, -1));
+        }
+    }
+
     public static class EqualsAndHashCode {
         @Test
         public void satisfiesEqualsContract() {
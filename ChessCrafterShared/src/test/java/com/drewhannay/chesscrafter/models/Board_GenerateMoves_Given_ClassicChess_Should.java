@@ -0,0 +1,86 @@
+package com.drewhannay.chesscrafter.models;
+
+import com.drewhannay.chesscrafter.logic.GameBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class Board_GenerateMoves_Given_ClassicChess_Should {
+
+    Board mTarget;
+    BoardSize mBoardSize;
+    MoveBuffer mMoves;
+
+    @Before
+    public void setup() {
+        mBoardSize = BoardSize.CLASSIC_SIZE;
+        mTarget = new Board(mBoardSize);
+        mMoves = new MoveBuffer();
+
+        GameBuilder.setupClassicPieces(mTarget, 1, Piece.TEAM_ONE);
+        GameBuilder.setupClassicNorthFacingPawns(mTarget, 2, Piece.TEAM_ONE);
+
+        GameBuilder.setupClassicSouthFacingPawns(mTarget, 7, Piece.TEAM_TWO);
+        GameBuilder.setupClassicPieces(mTarget, 8, Piece.TEAM_TWO);
+    }
+
+    @Test
+    public void matchGetMovesFromForEveryPiece() {
+        for (int square = 0; square < mBoardSize.getSquareCount(); square++) {
+            BoardCoordinate coordinate = mBoardSize.toCoordinate(square);
+            if (!mTarget.doesPieceExistAt(coordinate)) {
+                continue;
+            }
+
+            mMoves.clear();
+            mTarget.generateMoves(square, mMoves);
+
+            Set<BoardCoordinate> destinations = new HashSet<>();
+            for (int i = 0; i < mMoves.size(); i++) {
+                assertEquals(square, MoveBuffer.getOrigin(mMoves.get(i)));
+                destinations.add(mBoardSize.toCoordinate(MoveBuffer.getDestination(mMoves.get(i))));
+            }
+            assertEquals(mTarget.getMovesFrom(coordinate), destinations);
+        }
+    }
+
+    @Test
+    public void flagDoubleStepForPawnAt1_2() {
+        mTarget.generateMoves(mBoardSize.toSquareIndex(1, 2), mMoves);
+
+        assertEquals(2, mMoves.size());
+        for (int i = 0; i < mMoves.size(); i++) {
+            int move = mMoves.get(i);
+            boolean isDoubleStep = MoveBuffer.getDestination(move) == mBoardSize.toSquareIndex(1, 4);
+            assertEquals(isDoubleStep, (MoveBuffer.getFlags(move) & MoveBuffer.FLAG_DOUBLE_STEP) != 0);
+        }
+    }
+
+    @Test
+    public void flagCaptureForPawnAt2_2WhenEnemyIsAt3_3() {
+        mTarget.addPiece(Piece.newKnight(Piece.TEAM_TWO), BoardCoordinate.at(3, 3));
+        mTarget.generateMoves(mBoardSize.toSquareIndex(2, 2), mMoves);
+
+        boolean foundCapture = false;
+        for (int i = 0; i < mMoves.size(); i++) {
+            int move = mMoves.get(i);
+            if (MoveBuffer.getDestination(move) == mBoardSize.toSquareIndex(3, 3)) {
+                foundCapture = MoveBuffer.isCapture(move);
+            }
+        }
+        assertTrue(foundCapture);
+    }
+
+    @Test
+    public void appendToExistingMoves() {
+        mTarget.generateMoves(mBoardSize.toSquareIndex(2, 1), mMoves);
+        mTarget.generateMoves(mBoardSize.toSquareIndex(7, 1), mMoves);
+
+        assertEquals(4, mMoves.size());
+    }
+}
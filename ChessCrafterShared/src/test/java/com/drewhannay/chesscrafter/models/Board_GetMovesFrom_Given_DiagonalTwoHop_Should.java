@@ -0,0 +1,52 @@
+package com.drewhannay.chesscrafter.models;
+
+import com.google.common.collect.Sets;
+import org.junit.Test;
+
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class Board_GetMovesFrom_Given_DiagonalTwoHop_Should {
+
+    private static final PieceType ALFIL = new PieceType("Alfil", "Alfil", null,
+            Sets.newHashSet(TwoHopMovement.with(2, 2)));
+
+    @Test
+    public void beBlockedByPiecesInBetweenOnClassicBoard() {
+        assertBlockedByPiecesInBetween(new Board(BoardSize.CLASSIC_SIZE));
+    }
+
+    @Test
+    public void beBlockedByPiecesInBetweenOnLargeBoard() {
+        assertBlockedByPiecesInBetween(new Board(BoardSize.withDimensions(12, 12)));
+    }
+
+    private static void assertBlockedByPiecesInBetween(Board target) {
+        target.addPiece(new Piece(Piece.TEAM_ONE, ALFIL), BoardCoordinate.at(3, 3));
+        target.addPiece(Piece.newNorthFacingPawn(Piece.TEAM_ONE), BoardCoordinate.at(2, 2));
+        target.addPiece(Piece.newSouthFacingPawn(Piece.TEAM_TWO), BoardCoordinate.at(4, 2));
+        target.addPiece(Piece.newRook(Piece.TEAM_TWO), BoardCoordinate.at(5, 5));
+
+        assertEquals(Sets.newHashSet(BoardCoordinate.at(1, 5), BoardCoordinate.at(5, 5)),
+                target.getMovesFrom(BoardCoordinate.at(3, 3)));
+        assertTrue(isAttacked(target, BoardCoordinate.at(5, 5)));
+        assertFalse(isAttacked(target, BoardCoordinate.at(1, 1)));
+        assertFalse(isAttacked(target, BoardCoordinate.at(5, 1)));
+
+        target.removePiece(BoardCoordinate.at(2, 2));
+        target.addPiece(Piece.newSouthFacingPawn(Piece.TEAM_TWO), BoardCoordinate.at(4, 4));
+
+        Set<BoardCoordinate> moves = target.getMovesFrom(BoardCoordinate.at(3, 3));
+
+        assertEquals(Sets.newHashSet(BoardCoordinate.at(1, 1), BoardCoordinate.at(1, 5)), moves);
+        assertTrue(isAttacked(target, BoardCoordinate.at(1, 1)));
+        assertFalse(isAttacked(target, BoardCoordinate.at(5, 5)));
+    }
+
+    private static boolean isAttacked(Board target, BoardCoordinate coordinate) {
+        return target.isAttacked(target.getBoardSize().toSquareIndex(coordinate), Piece.TEAM_ONE);
+    }
+}
@@ -0,0 +1,94 @@
+package com.drewhannay.chesscrafter.models;
+
+import org.junit.Test;
+
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class Board_GetMovesFrom_Given_LargeBoard_Should {
+
+    @Test
+    public void return20MovesForRookAt6_6On12x10Board() {
+        Board target = new Board(BoardSize.withDimensions(12, 10));
+        target.addPiece(Piece.newRook(Piece.TEAM_ONE), BoardCoordinate.at(6, 6));
+
+        Set<BoardCoordinate> moves = target.getMovesFrom(BoardCoordinate.at(6, 6));
+        assertEquals(20, moves.size());
+    }
+
+    @Test
+    public void notWrapAroundForRookAt10_1On10x8Board() {
+        Board target = new Board(BoardSize.withDimensions(10, 8));
+        target.addPiece(Piece.newRook(Piece.TEAM_ONE), BoardCoordinate.at(10, 1));
+
+        Set<BoardCoordinate> moves = target.getMovesFrom(BoardCoordinate.at(10, 1));
+        assertFalse(moves.contains(BoardCoordinate.at(1, 2)));
+        assertEquals(16, moves.size());
+    }
+
+    @Test
+    public void stopBeforeFriendlyPieceAcrossWordBoundaryOn10x8Board() {
+        Board target = new Board(BoardSize.withDimensions(10, 8));
+        target.addPiece(Piece.newRook(Piece.TEAM_ONE), BoardCoordinate.at(1, 1));
+        target.addPiece(Piece.newKnight(Piece.TEAM_ONE), BoardCoordinate.at(1, 8));
+
+        Set<BoardCoordinate> moves = target.getMovesFrom(BoardCoordinate.at(1, 1));
+        assertTrue(moves.contains(BoardCoordinate.at(1, 7)));
+        assertFalse(moves.contains(BoardCoordinate.at(1, 8)));
+        assertEquals(15, moves.size());
+    }
+
+    @Test
+    public void includeOpposingPieceAcrossWordBoundaryOn16x16Board() {
+        Board target = new Board(BoardSize.withDimensions(16, 16));
+        target.addPiece(Piece.newBishop(Piece.TEAM_ONE), BoardCoordinate.at(1, 1));
+        target.addPiece(Piece.newKnight(Piece.TEAM_TWO), BoardCoordinate.at(12, 12));
+
+        Set<BoardCoordinate> moves = target.getMovesFrom(BoardCoordinate.at(1, 1));
+        assertTrue(moves.contains(BoardCoordinate.at(12, 12)));
+        assertFalse(moves.contains(BoardCoordinate.at(13, 13)));
+        assertEquals(11, moves.size());
+    }
+
+    @Test
+    public void return15MovesForBishopAt16_16On16x16Board() {
+        Board target = new Board(BoardSize.withDimensions(16, 16));
+        target.addPiece(Piece.newBishop(Piece.TEAM_ONE), BoardCoordinate.at(16, 16));
+
+        Set<BoardCoordinate> moves = target.getMovesFrom(BoardCoordinate.at(16, 16));
+        assertTrue(moves.contains(BoardCoordinate.at(1, 1)));
+        assertEquals(15, moves.size());
+    }
+
+    @Test
+    public void return8MovesForKnightAt6_6On12x12Board() {
+        Board target = new Board(BoardSize.withDimensions(12, 12));
+        target.addPiece(Piece.newKnight(Piece.TEAM_ONE), BoardCoordinate.at(6, 6));
+
+        Set<BoardCoordinate> moves = target.getMovesFrom(BoardCoordinate.at(6, 6));
+        assertEquals(8, moves.size());
+    }
+
+    @Test
+    public void returnDoubleStepForPawnAt1_2On10x10Board() {
+        Board target = new Board(BoardSize.withDimensions(10, 10));
+        target.addPiece(Piece.newNorthFacingPawn(Piece.TEAM_ONE), BoardCoordinate.at(1, 2));
+
+        Set<BoardCoordinate> moves = target.getMovesFrom(BoardCoordinate.at(1, 2));
+        assertEquals(2, moves.size());
+        assertTrue(moves.contains(BoardCoordinate.at(1, 4)));
+    }
+
+    @Test
+    public void countPiecesOn12x12Board() {
+        Board target = new Board(BoardSize.withDimensions(12, 12));
+        target.addPiece(Piece.newRook(Piece.TEAM_ONE), BoardCoordinate.at(1, 1));
+        target.addPiece(Piece.newRook(Piece.TEAM_ONE), BoardCoordinate.at(12, 12));
+        target.addPiece(Piece.newRook(Piece.TEAM_TWO), BoardCoordinate.at(6, 6));
+
+        assertEquals(2, target.getPieceCount(Piece.TEAM_ONE, Piece.newRook(Piece.TEAM_ONE).getPieceType()));
+    }
+}
@@ -0,0 +1,84 @@
+package com.drewhannay.chesscrafter.models;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class Board_GetMovesFrom_Given_SmallBoard_Should {
+
+    Board mTarget;
+
+    @Before
+    public void setup() {
+        mTarget = new Board(BoardSize.withDimensions(5, 5));
+    }
+
+    @Test
+    public void return8MovesForRookAt3_3() {
+        mTarget.addPiece(Piece.newRook(Piece.TEAM_ONE), BoardCoordinate.at(3, 3));
+
+        Set<BoardCoordinate> moves = mTarget.getMovesFrom(BoardCoordinate.at(3, 3));
+        assertEquals(8, moves.size());
+    }
+
+    @Test
+    public void notWrapAroundForRookAt5_1() {
+        mTarget.addPiece(Piece.newRook(Piece.TEAM_ONE), BoardCoordinate.at(5, 1));
+
+        Set<BoardCoordinate> moves = mTarget.getMovesFrom(BoardCoordinate.at(5, 1));
+        assertFalse(moves.contains(BoardCoordinate.at(1, 2)));
+        assertEquals(8, moves.size());
+    }
+
+    @Test
+    public void stopBeforeFriendlyPieceForQueenAt1_1() {
+        mTarget.addPiece(Piece.newQueen(Piece.TEAM_ONE), BoardCoordinate.at(1, 1));
+        mTarget.addPiece(Piece.newKnight(Piece.TEAM_ONE), BoardCoordinate.at(3, 3));
+
+        Set<BoardCoordinate> moves = mTarget.getMovesFrom(BoardCoordinate.at(1, 1));
+        assertTrue(moves.contains(BoardCoordinate.at(2, 2)));
+        assertFalse(moves.contains(BoardCoordinate.at(3, 3)));
+        assertFalse(moves.contains(BoardCoordinate.at(4, 4)));
+    }
+
+    @Test
+    public void includeOpposingPieceForQueenAt1_1() {
+        mTarget.addPiece(Piece.newQueen(Piece.TEAM_ONE), BoardCoordinate.at(1, 1));
+        mTarget.addPiece(Piece.newKnight(Piece.TEAM_TWO), BoardCoordinate.at(3, 3));
+
+        Set<BoardCoordinate> moves = mTarget.getMovesFrom(BoardCoordinate.at(1, 1));
+        assertTrue(moves.contains(BoardCoordinate.at(3, 3)));
+        assertFalse(moves.contains(BoardCoordinate.at(4, 4)));
+    }
+
+    @Test
+    public void return2MovesForKnightAt1_1() {
+        mTarget.addPiece(Piece.newKnight(Piece.TEAM_ONE), BoardCoordinate.at(1, 1));
+
+        Set<BoardCoordinate> moves = mTarget.getMovesFrom(BoardCoordinate.at(1, 1));
+        assertEquals(2, moves.size());
+    }
+
+    @Test
+    public void notReturn1_4ForPawnAt1_2WhenPieceIsAt1_3() {
+        mTarget.addPiece(Piece.newNorthFacingPawn(Piece.TEAM_ONE), BoardCoordinate.at(1, 2));
+        mTarget.addPiece(Piece.newKnight(Piece.TEAM_TWO), BoardCoordinate.at(1, 3));
+
+        Set<BoardCoordinate> moves = mTarget.getMovesFrom(BoardCoordinate.at(1, 2));
+        assertTrue(moves.isEmpty());
+    }
+
+    @Test
+    public void notReturnDoubleStepOffTheBoardForPawnAt1_4() {
+        mTarget.addPiece(Piece.newNorthFacingPawn(Piece.TEAM_ONE), BoardCoordinate.at(1, 4));
+
+        Set<BoardCoordinate> moves = mTarget.getMovesFrom(BoardCoordinate.at(1, 4));
+        assertEquals(1, moves.size());
+        assertTrue(moves.contains(BoardCoordinate.at(1, 5)));
+    }
+}
@@ -0,0 +1,83 @@
+package com.drewhannay.chesscrafter.models;
+
+import com.drewhannay.chesscrafter.logic.GameBuilder;
+import com.drewhannay.chesscrafter.logic.PieceTypeManager;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class Board_GetPieceSquareBalance_Given_ClassicGame_Should {
+
+    Game mGame;
+    Board mTarget;
+
+    @Before
+    public void setup() {
+        mGame = GameBuilder.buildGame(GameBuilder.getClassicConfiguration());
+        mTarget = mGame.getBoards()[0];
+    }
+
+    @Test
+    public void returnZeroForSymmetricStart() {
+        assertEquals(0, mTarget.getPieceSquareBalance(Piece.TEAM_ONE));
+        assertEquals(0, mTarget.getPieceSquareBalance(Piece.TEAM_TWO));
+    }
+
+    @Test
+    public void rewardCentralizingKnight() {
+        play(7, 1, 6, 3);
+
+        assertTrue(mTarget.getPieceSquareBalance(Piece.TEAM_ONE) > 0);
+        assertEquals(-mTarget.getPieceSquareBalance(Piece.TEAM_ONE), mTarget.getPieceSquareBalance(Piece.TEAM_TWO));
+    }
+
+    @Test
+    public void countCapturedMaterial() {
+        play(5, 2, 5, 4);
+        play(4, 7, 4, 5);
+        play(5, 4, 4, 5);
+
+        int pawnValue = PieceTypeManager.INSTANCE.getMaterialValue(PieceTypeManager.getSouthFacingPawnPieceType(),
+                BoardSize.CLASSIC_SIZE);
+        assertTrue(mTarget.getPieceSquareBalance(Piece.TEAM_ONE) > pawnValue / 2);
+    }
+
+    @Test
+    public void matchFullRecountThroughMovesAndUndos() {
+        Random random = new Random(7);
+        for (int ply = 0; ply < 60 && !mGame.getHistory().isComplete(); ply++) {
+            List<Move> moves = mGame.getLegalMoves();
+            mGame.executeMove(moves.get(random.nextInt(moves.size())));
+            assertEquals(recount(Piece.TEAM_ONE), mTarget.getPieceSquareBalance(Piece.TEAM_ONE));
+        }
+        while (!mGame.getHistory().moves.isEmpty()) {
+            mGame.undoMove();
+            assertEquals(recount(Piece.TEAM_ONE), mTarget.getPieceSquareBalance(Piece.TEAM_ONE));
+        }
+        assertEquals(0, mTarget.getPieceSquareBalance(Piece.TEAM_ONE));
+    }
+
+    private int recount(int teamId) {
+        BoardSize boardSize = mTarget.getBoardSize();
+        int score = 0;
+        for (int square = 0; square < boardSize.getSquareCount(); square++) {
+            Piece piece = mTarget.getPiece(square);
+            if (piece == null || piece.isObjectivePiece()) {
+                continue;
+            }
+            int value = PieceTypeManager.INSTANCE.getPieceSquareTable(piece.getPieceType(), boardSize)[square];
+            score += piece.getTeamId() == teamId ? value : -value;
+        }
+        return score;
+    }
+
+    private void play(int originX, int originY, int destinationX, int destinationY) {
+        mGame.executeMove(mGame.newMoveBuilder(BoardCoordinate.at(originX, originY),
+                BoardCoordinate.at(destinationX, destinationY)).build());
+    }
+}
@@ -0,0 +1,103 @@
+package com.drewhannay.chesscrafter.models;
+
+import com.drewhannay.chesscrafter.logic.GameBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class Board_IsAttacked_Given_ClassicChess_Should {
+
+    Board mTarget;
+    BoardSize mBoardSize;
+
+    @Before
+    public void setup() {
+        mBoardSize = BoardSize.CLASSIC_SIZE;
+        mTarget = new Board(mBoardSize);
+
+        GameBuilder.setupClassicPieces(mTarget, 1, Piece.TEAM_ONE);
+        GameBuilder.setupClassicNorthFacingPawns(mTarget, 2, Piece.TEAM_ONE);
+
+        GameBuilder.setupClassicSouthFacingPawns(mTarget, 7, Piece.TEAM_TWO);
+        GameBuilder.setupClassicPieces(mTarget, 8, Piece.TEAM_TWO);
+    }
+
+    @Test
+    public void return3_3AttackedByTeamOne() {
+        assertTrue(mTarget.isAttacked(mBoardSize.toSquareIndex(3, 3), Piece.TEAM_ONE));
+    }
+
+    @Test
+    public void notReturn3_4AttackedByTeamOne() {
+        assertFalse(mTarget.isAttacked(mBoardSize.toSquareIndex(3, 4), Piece.TEAM_ONE));
+    }
+
+    @Test
+    public void notCountPawnPushesAsAttacks() {
+        assertFalse(mTarget.isAttacked(mBoardSize.toSquareIndex(1, 4), Piece.TEAM_ONE));
+    }
+
+    @Test
+    public void return1_6AttackedByBishopAfterPawnAt5_2Moves() {
+        assertFalse(mTarget.isAttacked(mBoardSize.toSquareIndex(1, 6), Piece.TEAM_ONE));
+
+        mTarget.movePiece(BoardCoordinate.at(5, 2), BoardCoordinate.at(5, 4));
+
+        assertTrue(mTarget.isAttacked(mBoardSize.toSquareIndex(1, 6), Piece.TEAM_ONE));
+    }
+
+    @Test
+    public void notReturn1_6AttackedAfterUndo() {
+        mTarget.movePiece(BoardCoordinate.at(5, 2), BoardCoordinate.at(5, 4));
+        mTarget.undoMovePiece(BoardCoordinate.at(5, 2), BoardCoordinate.at(5, 4), null);
+
+        assertFalse(mTarget.isAttacked(mBoardSize.toSquareIndex(1, 6), Piece.TEAM_ONE));
+    }
+
+    @Test
+    public void return5_8AttackedAfterBishopMovesTo2_5() {
+        mTarget.movePiece(BoardCoordinate.at(5, 2), BoardCoordinate.at(5, 4));
+        mTarget.movePiece(BoardCoordinate.at(4, 7), BoardCoordinate.at(4, 5));
+        mTarget.movePiece(BoardCoordinate.at(6, 1), BoardCoordinate.at(2, 5));
+
+        assertTrue(mTarget.isAttackedByOpponentOf(mBoardSize.toSquareIndex(5, 8), Piece.TEAM_TWO));
+        assertEquals(1, mTarget.getOpponentAttackerCount(mBoardSize.toSquareIndex(4, 5), Piece.TEAM_TWO));
+    }
+
+    @Test
+    public void trackObjectivePieceWhenItMoves() {
+        assertEquals(mBoardSize.toSquareIndex(5, 1), mTarget.getObjectivePieceSquare(Piece.TEAM_ONE));
+
+        mTarget.movePiece(BoardCoordinate.at(5, 2), BoardCoordinate.at(5, 4));
+        mTarget.movePiece(BoardCoordinate.at(5, 1), BoardCoordinate.at(5, 2));
+
+        assertEquals(mBoardSize.toSquareIndex(5, 2), mTarget.getObjectivePieceSquare(Piece.TEAM_ONE));
+    }
+
+    @Test
+    public void matchFreshBoardAfterMovesAndUndos() {
+        mTarget.movePiece(BoardCoordinate.at(5, 2), BoardCoordinate.at(5, 4));
+        mTarget.movePiece(BoardCoordinate.at(4, 7), BoardCoordinate.at(4, 5));
+        mTarget.movePiece(BoardCoordinate.at(5, 4), BoardCoordinate.at(4, 5));
+        mTarget.movePiece(BoardCoordinate.at(4, 8), BoardCoordinate.at(4, 5));
+        mTarget.movePiece(BoardCoordinate.at(2, 1), BoardCoordinate.at(3, 3));
+        mTarget.undoMovePiece(BoardCoordinate.at(2, 1), BoardCoordinate.at(3, 3), null);
+
+        Board fresh = new Board(mBoardSize);
+        for (int square = 0; square < mBoardSize.getSquareCount(); square++) {
+            Piece piece = mTarget.getPiece(square);
+            if (piece != null) {
+                fresh.addPiece(piece, mBoardSize.toCoordinate(square));
+            }
+        }
+
+        for (int square = 0; square < mBoardSize.getSquareCount(); square++) {
+            assertEquals(fresh.isAttacked(square, Piece.TEAM_ONE), mTarget.isAttacked(square, Piece.TEAM_ONE));
+            assertEquals(fresh.getOpponentAttackerCount(square, Piece.TEAM_ONE),
+                    mTarget.getOpponentAttackerCount(square, Piece.TEAM_ONE));
+        }
+    }
+}
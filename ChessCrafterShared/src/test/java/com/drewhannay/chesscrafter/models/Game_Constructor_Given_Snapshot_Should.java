@@ -0,0 +1,144 @@
+package com.drewhannay.chesscrafter.models;
+
+import com.drewhannay.chesscrafter.logic.GameBuilder;
+import com.drewhannay.chesscrafter.logic.GameConfiguration;
+import com.drewhannay.chesscrafter.logic.PieceTypeManager;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class Game_Constructor_Given_Snapshot_Should {
+
+    GameConfiguration mConfig;
+    Game mGame;
+    long mStartHash;
+
+    @Before
+    public void setup() {
+        mConfig = GameBuilder.getClassicConfiguration();
+        mGame = GameBuilder.buildGame(mConfig);
+        mStartHash = mGame.getPositionHash();
+    }
+
+    @Test
+    public void replayAHistoryInProgressWithoutSnapshot() {
+        playPromotion();
+
+        Game target = GameBuilder.buildGame(mConfig, new History(mConfig.internalGameId,
+                new ArrayList<>(mGame.getHistory().moves)));
+
+        assertEquals(mGame.getPositionHash(), target.getPositionHash());
+        assertEquals(mGame.getHistory().moves, target.getHistory().moves);
+    }
+
+    @Test
+    public void takeASnapshotEveryInterval() {
+        playPromotion();
+
+        mGame.addSnapshotsToHistory();
+        mGame.addSnapshotsToHistory();
+
+        assertEquals(1, mGame.getHistory().getSnapshots().size());
+        assertEquals(Game.SNAPSHOT_INTERVAL, mGame.getHistory().getSnapshots().get(0).getPly());
+    }
+
+    @Test
+    public void continueFromTheSavedSnapshot() {
+        playPromotion();
+        mGame.addSnapshotsToHistory();
+
+        Game target = GameBuilder.buildGame(mConfig, reload(mGame.getHistory()));
+
+        assertEquals(1, target.getHistory().getSnapshots().size());
+        assertEquals(mGame.getPositionHash(), target.getPositionHash());
+        assertEquals(mGame.getStatus(), target.getStatus());
+        assertEquals(mGame.getHistory().moves, target.getHistory().moves);
+        assertEquals(3, target.getTeam(Piece.TEAM_ONE).getCapturedOpposingPieces().size());
+        assertEquals(1, target.getTeam(Piece.TEAM_TWO).getCapturedOpposingPieces().size());
+    }
+
+    @Test
+    public void undoAPromotionFromBeforeTheSnapshot() {
+        playPromotion();
+        mGame.addSnapshotsToHistory();
+
+        Game target = GameBuilder.buildGame(mConfig, reload(mGame.getHistory()));
+        while (target.getHistory().moves.size() > 8) {
+            target.undoMove();
+        }
+
+        assertTrue(target.getHistory().getSnapshots().isEmpty());
+        assertEquals(PieceTypeManager.NORTH_FACING_PAWN_ID, target.getPiece(0, BoardCoordinate.at(8, 7)).getInternalId());
+        assertEquals(PieceTypeManager.KNIGHT_ID, target.getPiece(0, BoardCoordinate.at(7, 8)).getInternalId());
+    }
+
+    @Test
+    public void undoPastTheSnapshot() {
+        playPromotion();
+        mGame.addSnapshotsToHistory();
+
+        Game target = GameBuilder.buildGame(mConfig, reload(mGame.getHistory()));
+        while (target.canUndoMove()) {
+            target.undoMove();
+        }
+
+        assertEquals(mStartHash, target.getPositionHash());
+        assertTrue(target.getTeam(Piece.TEAM_ONE).getCapturedOpposingPieces().isEmpty());
+        assertTrue(target.getTeam(Piece.TEAM_TWO).getCapturedOpposingPieces().isEmpty());
+    }
+
+    @Test
+    public void ignoreSnapshotsPastTheLastMove() {
+        playPromotion();
+        mGame.addSnapshotsToHistory();
+        History history = reload(mGame.getHistory());
+        history.moves.subList(history.moves.size() - 2, history.moves.size()).clear();
+
+        Game target = GameBuilder.buildGame(mConfig, history);
+        mGame.undoMove();
+        mGame.undoMove();
+
+        assertTrue(target.getHistory().getSnapshots().isEmpty());
+        assertEquals(mGame.getPositionHash(), target.getPositionHash());
+    }
+
+    /**
+     * White promotes on g8 with the ninth move and black takes the queen back with the sixteenth, of seventeen
+     */
+    private void playPromotion() {
+        play(8, 2, 8, 4);
+        play(7, 7, 7, 5);
+        play(8, 4, 7, 5);
+        play(8, 7, 8, 6);
+        play(7, 5, 8, 6);
+        play(7, 8, 6, 6);
+        play(8, 6, 8, 7);
+        play(6, 6, 7, 8);
+        mGame.executeMove(mGame.newMoveBuilder(BoardCoordinate.at(8, 7), BoardCoordinate.at(7, 8))
+                .setPromotionType(PieceTypeManager.getQueenPieceType()).build());
+        play(1, 7, 1, 6);
+        play(1, 2, 1, 3);
+        play(1, 6, 1, 5);
+        play(1, 3, 1, 4);
+        play(2, 7, 2, 6);
+        play(2, 2, 2, 3);
+        play(8, 8, 7, 8);
+        play(2, 1, 3, 3);
+    }
+
+    private void play(int originX, int originY, int destinationX, int destinationY) {
+        mGame.executeMove(mGame.newMoveBuilder(BoardCoordinate.at(originX, originY),
+                BoardCoordinate.at(destinationX, destinationY)).build());
+    }
+
+    private static History reload(History history) {
+        Gson gson = JsonAdapters.registerTypeAdapters(new GsonBuilder()).create();
+        return gson.fromJson(gson.toJson(history), History.class);
+    }
+}
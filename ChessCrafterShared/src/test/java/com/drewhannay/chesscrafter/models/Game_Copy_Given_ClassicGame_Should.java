@@ -0,0 +1,74 @@
+package com.drewhannay.chesscrafter.models;
+
+import com.drewhannay.chesscrafter.logic.GameBuilder;
+import com.drewhannay.chesscrafter.logic.PieceTypeManager;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+public class Game_Copy_Given_ClassicGame_Should {
+
+    Game mTarget;
+
+    @Before
+    public void setup() {
+        mTarget = GameBuilder.buildGame(GameBuilder.getClassicConfiguration());
+        // 1. e4 d5 2. exd5 leaves a capture on white's stack
+        play(mTarget, 5, 2, 5, 4);
+        play(mTarget, 4, 7, 4, 5);
+        play(mTarget, 5, 4, 4, 5);
+    }
+
+    @Test
+    public void matchOriginalPosition() {
+        Game copy = mTarget.copy();
+
+        assertEquals(mTarget.getPositionHash(), copy.getPositionHash());
+        assertEquals(mTarget.getLegalMoves(), copy.getLegalMoves());
+        assertEquals(mTarget.getHistory().moves, copy.getHistory().moves);
+        assertEquals(mTarget.getTurnKeeper().getActiveTeamId(), copy.getTurnKeeper().getActiveTeamId());
+    }
+
+    @Test
+    public void notShareMutableState() {
+        Game copy = mTarget.copy();
+
+        assertNotSame(mTarget.getBoards()[0], copy.getBoards()[0]);
+        assertNotSame(mTarget.getPiece(0, BoardCoordinate.at(4, 5)), copy.getPiece(0, BoardCoordinate.at(4, 5)));
+        assertNotSame(mTarget.getHistory().moves, copy.getHistory().moves);
+    }
+
+    @Test
+    public void leaveOriginalAloneWhenCopyMoves() {
+        long hash = mTarget.getPositionHash();
+        Game copy = mTarget.copy();
+
+        play(copy, 4, 8, 4, 5);
+
+        assertEquals(hash, mTarget.getPositionHash());
+        assertEquals(3, mTarget.getHistory().moves.size());
+        assertEquals(PieceTypeManager.NORTH_FACING_PAWN_ID, mTarget.getPiece(0, BoardCoordinate.at(4, 5)).getInternalId());
+        assertNotEquals(hash, copy.getPositionHash());
+    }
+
+    @Test
+    public void undoMovesMadeBeforeTheCopy() {
+        Game copy = mTarget.copy();
+
+        copy.undoMove();
+
+        assertEquals(PieceTypeManager.SOUTH_FACING_PAWN_ID, copy.getPiece(0, BoardCoordinate.at(4, 5)).getInternalId());
+        assertEquals(PieceTypeManager.NORTH_FACING_PAWN_ID, copy.getPiece(0, BoardCoordinate.at(5, 4)).getInternalId());
+        assertEquals(PieceTypeManager.NORTH_FACING_PAWN_ID, mTarget.getPiece(0, BoardCoordinate.at(4, 5)).getInternalId());
+        assertNull(mTarget.getPiece(0, BoardCoordinate.at(5, 4)));
+    }
+
+    private static void play(Game game, int originX, int originY, int destinationX, int destinationY) {
+        game.executeMove(game.newMoveBuilder(BoardCoordinate.at(originX, originY),
+                BoardCoordinate.at(destinationX, destinationY)).build());
+    }
+}
@@ -0,0 +1,76 @@
+package com.drewhannay.chesscrafter.models;
+
+import com.drewhannay.chesscrafter.logic.GameBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class Game_GetLegalCaptures_Given_ClassicGame_Should {
+
+    Game mTarget;
+
+    @Before
+    public void setup() {
+        mTarget = GameBuilder.buildGame(GameBuilder.getClassicConfiguration());
+    }
+
+    @Test
+    public void returnNoCapturesAtStart() {
+        assertTrue(mTarget.getLegalCaptures().isEmpty());
+    }
+
+    @Test
+    public void returnPawnCaptureButNotPawnAdvance() {
+        play(5, 2, 5, 4);
+        play(4, 7, 4, 5);
+
+        List<Move> captures = mTarget.getLegalCaptures();
+
+        assertEquals(1, captures.size());
+        assertEquals(BoardCoordinate.at(5, 4), captures.get(0).origin);
+        assertEquals(BoardCoordinate.at(4, 5), captures.get(0).destination);
+    }
+
+    @Test
+    public void matchCapturingLegalMovesThroughRandomGame() {
+        Random random = new Random(11);
+        for (int ply = 0; ply < 80 && !mTarget.getHistory().isComplete(); ply++) {
+            List<Move> moves = mTarget.getLegalMoves();
+            assertEquals(toNotation(getCaptures(moves)), toNotation(mTarget.getLegalCaptures()));
+
+            mTarget.executeMove(moves.get(random.nextInt(moves.size())));
+        }
+    }
+
+    private List<Move> getCaptures(List<Move> moves) {
+        Board board = mTarget.getBoards()[0];
+        List<Move> captures = new ArrayList<>();
+        for (Move move : moves) {
+            if (board.getPiece(move.destination) != null) {
+                captures.add(move);
+            }
+        }
+        return captures;
+    }
+
+    private static List<String> toNotation(List<Move> moves) {
+        List<String> notation = new ArrayList<>(moves.size());
+        for (Move move : moves) {
+            notation.add(move.origin + "-" + move.destination + "=" + move.promotionType);
+        }
+        Collections.sort(notation);
+        return notation;
+    }
+
+    private void play(int originX, int originY, int destinationX, int destinationY) {
+        mTarget.executeMove(mTarget.newMoveBuilder(BoardCoordinate.at(originX, originY),
+                BoardCoordinate.at(destinationX, destinationY)).build());
+    }
+}
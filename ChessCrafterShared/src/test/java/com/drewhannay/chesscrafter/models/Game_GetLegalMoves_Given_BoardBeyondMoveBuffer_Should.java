@@ -0,0 +1,49 @@
+package com.drewhannay.chesscrafter.models;
+
+import com.drewhannay.chesscrafter.logic.GameBuilder;
+import com.drewhannay.chesscrafter.logic.GameConfiguration;
+import com.drewhannay.chesscrafter.logic.Status;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class Game_GetLegalMoves_Given_BoardBeyondMoveBuffer_Should {
+
+    Game mTarget;
+
+    @Before
+    public void setup() {
+        GameConfiguration config = GameBuilder.getClassicConfiguration();
+        config.boards[0].width = 70;
+        config.boards[0].height = 70;
+        mTarget = GameBuilder.buildGame(config);
+        assertTrue(mTarget.getBoards()[0].getBoardSize().getSquareCount() > MoveBuffer.MAX_SQUARE_COUNT);
+    }
+
+    @Test
+    public void returnKnightMoves() {
+        Set<BoardCoordinate> moves = mTarget.getMovesFrom(0, BoardCoordinate.at(2, 1));
+
+        assertEquals(2, moves.size());
+        assertTrue(moves.contains(BoardCoordinate.at(1, 3)));
+        assertTrue(moves.contains(BoardCoordinate.at(3, 3)));
+    }
+
+    @Test
+    public void countTheSameMovesItLists() {
+        assertEquals(mTarget.getLegalMoveCount(0), mTarget.getLegalMoves().size());
+        assertTrue(mTarget.getLegalCaptures().isEmpty());
+    }
+
+    @Test
+    public void checkTheEndConditionAfterAMove() {
+        mTarget.executeMove(mTarget.newMoveBuilder(BoardCoordinate.at(5, 2), BoardCoordinate.at(5, 4)).build());
+
+        assertEquals(Status.CONTINUE, mTarget.getStatus());
+        assertTrue(mTarget.hasLegalMove(0));
+    }
+}
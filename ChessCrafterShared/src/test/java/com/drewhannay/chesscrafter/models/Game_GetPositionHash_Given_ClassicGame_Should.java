@@ -0,0 +1,96 @@
+package com.drewhannay.chesscrafter.models;
+
+import com.drewhannay.chesscrafter.logic.GameBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class Game_GetPositionHash_Given_ClassicGame_Should {
+
+    Game mTarget;
+    long mInitialHash;
+
+    @Before
+    public void setup() {
+        mTarget = GameBuilder.buildGame(GameBuilder.getClassicConfiguration());
+        mInitialHash = mTarget.getPositionHash();
+    }
+
+    @Test
+    public void returnInitialHashAfterKnightsMoveOutAndBack() {
+        play(7, 1, 6, 3);
+        play(7, 8, 6, 6);
+        play(6, 3, 7, 1);
+        play(6, 6, 7, 8);
+
+        assertEquals(mInitialHash, mTarget.getPositionHash());
+    }
+
+    @Test
+    public void returnSameHashForTransposedMoveOrders() {
+        play(7, 1, 6, 3);
+        play(2, 8, 3, 6);
+        play(2, 1, 3, 3);
+        long hash = mTarget.getPositionHash();
+
+        Game other = GameBuilder.buildGame(GameBuilder.getClassicConfiguration());
+        play(other, 2, 1, 3, 3);
+        play(other, 2, 8, 3, 6);
+        play(other, 7, 1, 6, 3);
+
+        assertEquals(hash, other.getPositionHash());
+    }
+
+    @Test
+    public void returnDifferentHashForDifferentActiveTeam() {
+        play(7, 1, 6, 3);
+
+        assertNotEquals(mInitialHash, mTarget.getPositionHash());
+
+        play(7, 8, 6, 6);
+        play(6, 3, 7, 1);
+
+        assertNotEquals(mInitialHash, mTarget.getPositionHash());
+    }
+
+    @Test
+    public void returnDifferentHashAfterRookLosesCastlingRights() {
+        play(7, 1, 6, 3);
+        play(2, 8, 3, 6);
+        play(8, 1, 7, 1);
+        play(3, 6, 2, 8);
+        play(7, 1, 8, 1);
+        play(2, 8, 3, 6);
+        long hash = mTarget.getPositionHash();
+
+        Game other = GameBuilder.buildGame(GameBuilder.getClassicConfiguration());
+        play(other, 7, 1, 6, 3);
+        play(other, 2, 8, 3, 6);
+
+        assertNotEquals(hash, other.getPositionHash());
+    }
+
+    @Test
+    public void returnPreviousHashAfterUndo() {
+        play(5, 2, 5, 4);
+        long hash = mTarget.getPositionHash();
+
+        play(4, 7, 4, 5);
+        play(5, 4, 4, 5);
+        mTarget.undoMove();
+        mTarget.undoMove();
+
+        assertEquals(hash, mTarget.getPositionHash());
+    }
+
+    private void play(int originX, int originY, int destinationX, int destinationY) {
+        play(mTarget, originX, originY, destinationX, destinationY);
+    }
+
+    private static void play(Game game, int originX, int originY, int destinationX, int destinationY) {
+        game.executeMove(game.newMoveBuilder(BoardCoordinate.at(originX, originY),
+                BoardCoordinate.at(destinationX, destinationY)).build());
+    }
+}
@@ -0,0 +1,98 @@
+package com.drewhannay.chesscrafter.models;
+
+import com.drewhannay.chesscrafter.logic.GameBuilder;
+import com.drewhannay.chesscrafter.logic.GameConfiguration;
+import com.drewhannay.chesscrafter.logic.Status;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class Game_GetStatus_Given_ReplayedHistory_Should {
+
+    GameConfiguration mConfig;
+    Game mGame;
+
+    @Before
+    public void setup() {
+        mConfig = GameBuilder.getClassicConfiguration();
+        mGame = GameBuilder.buildGame(mConfig);
+    }
+
+    @Test
+    public void beCheckmateAfterSteppingBackToTheEnd() {
+        playFoolsMate();
+        mGame.previousMove();
+        mGame.previousMove();
+        mGame.nextMove();
+        mGame.nextMove();
+
+        assertEquals(Status.CHECKMATE, mGame.getStatus());
+        assertFalse(mGame.hasNextMove());
+    }
+
+    @Test
+    public void beContinueOneStepBeforeTheEnd() {
+        playFoolsMate();
+        mGame.previousMove();
+
+        assertEquals(Status.CONTINUE, mGame.getStatus());
+    }
+
+    @Test
+    public void beCheckmateAtTheEndOfALoadedFinishedGame() {
+        playFoolsMate();
+
+        Game target = GameBuilder.buildGame(mConfig, mGame.getHistory().copy());
+        assertEquals(Status.CONTINUE, target.getStatus());
+        while (target.hasNextMove()) {
+            target.nextMove();
+        }
+
+        assertEquals(Status.CHECKMATE, target.getStatus());
+        assertEquals(mGame.getHistory().getResult().winningTeamId, target.getHistory().getResult().winningTeamId);
+    }
+
+    @Test
+    public void beCheckAtTheEndOfALoadedGameInProgress() {
+        play(5, 2, 5, 4);
+        play(6, 7, 6, 6);
+        play(4, 1, 8, 5);
+
+        Game target = GameBuilder.buildGame(mConfig,
+                new History(mConfig.internalGameId, new ArrayList<>(mGame.getHistory().moves)));
+
+        assertEquals(Status.CHECK, target.getStatus());
+        assertFalse(target.getHistory().isComplete());
+    }
+
+    @Test
+    public void beRecomputedAfterUndo() {
+        play(5, 2, 5, 4);
+        play(6, 7, 6, 6);
+        play(4, 1, 8, 5);
+        assertEquals(Status.CHECK, mGame.getStatus());
+
+        mGame.undoMove();
+
+        assertEquals(Status.CONTINUE, mGame.getStatus());
+        assertTrue(mGame.canUndoMove());
+    }
+
+    private void playFoolsMate() {
+        play(6, 2, 6, 3);
+        play(5, 7, 5, 5);
+        play(7, 2, 7, 4);
+        play(4, 8, 8, 4);
+        assertTrue(mGame.getHistory().isComplete());
+    }
+
+    private void play(int originX, int originY, int destinationX, int destinationY) {
+        mGame.executeMove(mGame.newMoveBuilder(BoardCoordinate.at(originX, originY),
+                BoardCoordinate.at(destinationX, destinationY)).build());
+    }
+}
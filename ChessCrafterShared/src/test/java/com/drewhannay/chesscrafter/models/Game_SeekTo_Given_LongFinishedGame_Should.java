@@ -0,0 +1,153 @@
+package com.drewhannay.chesscrafter.models;
+
+import com.drewhannay.chesscrafter.logic.GameBuilder;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class Game_SeekTo_Given_LongFinishedGame_Should {
+
+    private static final int PLIES = 90;
+
+    Game mTarget;
+    List<Long> mHashes;
+    List<Integer> mCaptureCounts;
+
+    @Before
+    public void setup() {
+        mTarget = GameBuilder.buildGame(GameBuilder.getClassicConfiguration());
+        mHashes = new ArrayList<>();
+        mCaptureCounts = new ArrayList<>();
+        record();
+
+        Random random = new Random(7);
+        while (mHashes.size() <= PLIES && !mTarget.getHistory().isComplete()) {
+            List<Move> moves = mTarget.getLegalMoves();
+            mTarget.executeMove(moves.get(random.nextInt(moves.size())));
+            record();
+        }
+        if (!mTarget.getHistory().isComplete()) {
+            mTarget.declareDraw();
+        }
+    }
+
+    @Test
+    public void reachEveryPositionInAnyOrder() {
+        Random random = new Random(11);
+        for (int i = 0; i < 200; i++) {
+            int ply = random.nextInt(mHashes.size());
+            mTarget.seekTo(ply);
+
+            assertEquals(ply, mTarget.getCurrentPly());
+            assertEquals(mHashes.get(ply).longValue(), mTarget.getPositionHash());
+            assertEquals(mCaptureCounts.get(ply).intValue(), countCaptures(mTarget));
+        }
+    }
+
+    @Test
+    public void keepTheBoardsAndTeamsCallersHold() {
+        Board board = mTarget.getBoards()[0];
+        Team[] teams = mTarget.getTeams().clone();
+
+        mTarget.seekTo(mHashes.size() - 1);
+        mTarget.seekTo(Game.SNAPSHOT_INTERVAL * 2);
+        mTarget.seekTo(1);
+
+        assertSame(board, mTarget.getBoards()[0]);
+        assertArrayEquals(teams, mTarget.getTeams());
+        Move firstMove = mTarget.getHistory().moves.get(0);
+        assertNull(board.getPiece(firstMove.origin));
+        assertNotNull(board.getPiece(firstMove.destination));
+    }
+
+    @Test
+    public void seekThroughALoadedGameWithoutTouchingItsHistory() {
+        Game target = GameBuilder.buildGame(GameBuilder.getClassicConfiguration(), reload(mTarget.getHistory()));
+
+        assertSeeksEverywhere(target);
+        assertTrue(target.getHistory().getSnapshots().isEmpty());
+    }
+
+    @Test
+    public void seekThroughALoadedGameFromItsSavedSnapshots() {
+        mTarget.addSnapshotsToHistory();
+        Game target = GameBuilder.buildGame(GameBuilder.getClassicConfiguration(), reload(mTarget.getHistory()));
+
+        assertSeeksEverywhere(target);
+        assertEquals((mHashes.size() - 1) / Game.SNAPSHOT_INTERVAL, target.getHistory().getSnapshots().size());
+    }
+
+    @Test
+    public void stepFromWhereItSeeked() {
+        mTarget.seekTo(mHashes.size() - 1);
+        mTarget.seekTo(40);
+        mTarget.nextMove();
+        assertEquals(mHashes.get(41).longValue(), mTarget.getPositionHash());
+
+        mTarget.seekTo(3);
+        mTarget.previousMove();
+        assertEquals(mHashes.get(2).longValue(), mTarget.getPositionHash());
+    }
+
+    @Test
+    public void stopAtTheStartAndTheEnd() {
+        mTarget.seekTo(0);
+        assertFalse(mTarget.hasPreviousMove());
+        assertEquals(mHashes.get(0).longValue(), mTarget.getPositionHash());
+
+        mTarget.seekTo(mHashes.size() - 1);
+        assertFalse(mTarget.hasNextMove());
+        assertTrue(mTarget.hasPreviousMove());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void rejectAPlyPastTheEnd() {
+        mTarget.seekTo(mHashes.size());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectAGameInProgress() {
+        Game game = GameBuilder.buildGame(GameBuilder.getClassicConfiguration());
+        game.seekTo(0);
+    }
+
+    private void assertSeeksEverywhere(Game target) {
+        for (int ply = mHashes.size() - 1; ply >= 0; ply -= 7) {
+            target.seekTo(ply);
+
+            assertEquals(mHashes.get(ply).longValue(), target.getPositionHash());
+            assertEquals(mCaptureCounts.get(ply).intValue(), countCaptures(target));
+        }
+    }
+
+    private void record() {
+        mHashes.add(mTarget.getPositionHash());
+        mCaptureCounts.add(countCaptures(mTarget));
+    }
+
+    private static History reload(History history) {
+        Gson gson = JsonAdapters.registerTypeAdapters(new GsonBuilder()).create();
+        return gson.fromJson(gson.toJson(history), History.class);
+    }
+
+    private static int countCaptures(Game game) {
+        int captures = 0;
+        for (Team team : game.getTeams()) {
+            captures += team.getCapturedOpposingPieces().size();
+        }
+        return captures;
+    }
+}
@@ -0,0 +1,137 @@
+package com.drewhannay.chesscrafter.models;
+
+import com.drewhannay.chesscrafter.logic.GameBuilder;
+import com.drewhannay.chesscrafter.logic.PieceTypeManager;
+import com.drewhannay.chesscrafter.logic.Status;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class Game_UndoMove_Given_ClassicGame_Should {
+
+    Game mTarget;
+
+    @Before
+    public void setup() {
+        mTarget = GameBuilder.buildGame(GameBuilder.getClassicConfiguration());
+    }
+
+    @Test
+    public void restoreCapturedPawnBesideOpponentsLastMove() {
+        play(2, 1, 1, 3);
+        play(1, 7, 1, 5);
+        play(2, 2, 2, 4);
+        play(1, 8, 1, 6);
+        play(2, 4, 1, 5);
+
+        mTarget.undoMove();
+
+        assertEquals(PieceTypeManager.ROOK_ID, mTarget.getPiece(0, BoardCoordinate.at(1, 6)).getInternalId());
+        assertEquals(PieceTypeManager.SOUTH_FACING_PAWN_ID, mTarget.getPiece(0, BoardCoordinate.at(1, 5)).getInternalId());
+        assertEquals(PieceTypeManager.NORTH_FACING_PAWN_ID, mTarget.getPiece(0, BoardCoordinate.at(2, 4)).getInternalId());
+    }
+
+    @Test
+    public void restoreEnPassantCapturedPawn() {
+        play(5, 2, 5, 4);
+        play(1, 7, 1, 6);
+        play(5, 4, 5, 5);
+        play(4, 7, 4, 5);
+        play(5, 5, 4, 6);
+
+        assertNull(mTarget.getPiece(0, BoardCoordinate.at(4, 5)));
+
+        mTarget.undoMove();
+
+        assertEquals(PieceTypeManager.SOUTH_FACING_PAWN_ID, mTarget.getPiece(0, BoardCoordinate.at(4, 5)).getInternalId());
+        assertEquals(PieceTypeManager.NORTH_FACING_PAWN_ID, mTarget.getPiece(0, BoardCoordinate.at(5, 5)).getInternalId());
+        assertNull(mTarget.getPiece(0, BoardCoordinate.at(4, 6)));
+    }
+
+    @Test
+    public void reopenGameEndedByLastMove() {
+        play(6, 2, 6, 3);
+        play(5, 7, 5, 5);
+        play(7, 2, 7, 4);
+        play(4, 8, 8, 4);
+
+        assertTrue(mTarget.getHistory().isComplete());
+
+        mTarget.undoMove();
+
+        assertFalse(mTarget.getHistory().isComplete());
+        assertEquals(Status.CONTINUE, mTarget.getStatus());
+        assertTrue(mTarget.canUndoMove());
+    }
+
+    @Test
+    public void refuseToTakeBackTheLastMoveWhileSteppedBack() {
+        play(6, 2, 6, 3);
+        play(5, 7, 5, 5);
+        play(7, 2, 7, 4);
+        play(4, 8, 8, 4);
+        mTarget.previousMove();
+        mTarget.previousMove();
+        long hash = mTarget.getPositionHash();
+
+        try {
+            mTarget.undoMove();
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+
+        assertTrue(mTarget.getHistory().isComplete());
+        assertEquals(4, mTarget.getHistory().moves.size());
+        assertEquals(hash, mTarget.getPositionHash());
+        mTarget.nextMove();
+        mTarget.nextMove();
+        mTarget.undoMove();
+        assertFalse(mTarget.getHistory().isComplete());
+    }
+
+    @Test
+    public void leaveAnOrdinaryCaptureAfterASingleStepAlone() {
+        play(5, 2, 5, 4);
+        play(1, 7, 1, 6);
+        play(5, 4, 5, 5);
+        play(4, 7, 4, 6);
+        play(5, 5, 4, 6);
+
+        mTarget.undoMove();
+
+        assertEquals(PieceTypeManager.SOUTH_FACING_PAWN_ID, mTarget.getPiece(0, BoardCoordinate.at(4, 6)).getInternalId());
+        assertEquals(PieceTypeManager.NORTH_FACING_PAWN_ID, mTarget.getPiece(0, BoardCoordinate.at(5, 5)).getInternalId());
+        assertNull(mTarget.getPiece(0, BoardCoordinate.at(4, 5)));
+    }
+
+    @Test
+    public void keepADeclaredDrawFinal() {
+        play(5, 2, 5, 4);
+        mTarget.declareDraw();
+
+        assertFalse(mTarget.canUndoMove());
+    }
+
+    @Test
+    public void recomputeStatusAfterUndoingCheck() {
+        play(5, 2, 5, 4);
+        play(6, 7, 6, 6);
+        play(4, 1, 8, 5);
+
+        assertEquals(Status.CHECK, mTarget.getStatus());
+
+        mTarget.undoMove();
+
+        assertEquals(Status.CONTINUE, mTarget.getStatus());
+    }
+
+    private void play(int originX, int originY, int destinationX, int destinationY) {
+        mTarget.executeMove(mTarget.newMoveBuilder(BoardCoordinate.at(originX, originY),
+                BoardCoordinate.at(destinationX, destinationY)).build());
+    }
+}
@@ -0,0 +1,104 @@
+package com.drewhannay.chesscrafter.models;
+
+import com.drewhannay.chesscrafter.logic.GameBuilder;
+import com.drewhannay.chesscrafter.logic.Status;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class HistoryCodec_Decode_Given_EncodedHistory_Should {
+
+    HistoryCodec mTarget;
+
+    @Before
+    public void setup() {
+        mTarget = new HistoryCodec();
+    }
+
+    @Test
+    public void restoreAFinishedGame() {
+        Game game = GameBuilder.buildGame(GameBuilder.getClassicConfiguration());
+        play(game, 6, 2, 6, 3);
+        play(game, 5, 7, 5, 5);
+        play(game, 7, 2, 7, 4);
+        play(game, 4, 8, 8, 4);
+        History history = game.getHistory();
+
+        byte[] bytes = mTarget.encode(history);
+        History decoded = new HistoryCodec(mTarget.getStrings()).decode(ByteBuffer.wrap(bytes));
+
+        assertEquals(history.internalHistoryId, decoded.internalHistoryId);
+        assertEquals(history.internalGameId, decoded.internalGameId);
+        assertEquals(history.moves, decoded.moves);
+        assertTrue(decoded.isComplete());
+        assertEquals(Status.CHECKMATE, decoded.getResult().status);
+        assertEquals(history.getResult().winningTeamId, decoded.getResult().winningTeamId);
+        // 17 byte id, game id, width, move count, two bytes per move and a two byte result
+        assertEquals(17 + 1 + 1 + 1 + 4 * 2 + 2, bytes.length);
+    }
+
+    @Test
+    public void restorePromotionsAndOtherIds() {
+        List<Move> moves = new ArrayList<>(Arrays.asList(
+                Move.from(BoardCoordinate.at(1, 7), BoardCoordinate.at(1, 8), "Queen"),
+                Move.from(BoardCoordinate.at(12, 2), BoardCoordinate.at(12, 1), "Knight"),
+                Move.from(BoardCoordinate.at(3, 7), BoardCoordinate.at(3, 8), "Queen")));
+        History history = new History("saved game", "Crafted", moves);
+
+        History decoded = mTarget.decode(ByteBuffer.wrap(mTarget.encode(history)));
+
+        assertEquals("saved game", decoded.internalHistoryId);
+        assertEquals(moves, decoded.moves);
+        assertFalse(decoded.isComplete());
+        assertEquals(Arrays.asList("Crafted", "Queen", "Knight"), mTarget.getStrings());
+    }
+
+    @Test
+    public void readRecordsBackToBack() {
+        History first = new History("Classic", new ArrayList<Move>());
+        History second = new History("Classic", new ArrayList<>(Arrays.asList(
+                Move.from(BoardCoordinate.at(5, 2), BoardCoordinate.at(5, 4), null))));
+        byte[] firstBytes = mTarget.encode(first);
+        byte[] secondBytes = mTarget.encode(second);
+        ByteBuffer buffer = ByteBuffer.allocate(firstBytes.length + secondBytes.length);
+        buffer.put(firstBytes).put(secondBytes).flip();
+
+        assertEquals(first.internalHistoryId, mTarget.decode(buffer).internalHistoryId);
+        History decoded = mTarget.decode(buffer);
+
+        assertEquals(second.moves, decoded.moves);
+        assertNull(decoded.getResult());
+        assertFalse(buffer.hasRemaining());
+        assertEquals(1, mTarget.getStrings().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectATruncatedRecord() {
+        History history = new History("Classic", new ArrayList<>(Arrays.asList(
+                Move.from(BoardCoordinate.at(5, 2), BoardCoordinate.at(5, 4), null))));
+        byte[] bytes = mTarget.encode(history);
+
+        mTarget.decode(ByteBuffer.wrap(bytes, 0, bytes.length - 2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectAnUnknownStringTable() {
+        byte[] bytes = mTarget.encode(new History("Classic", new ArrayList<Move>()));
+
+        new HistoryCodec().decode(ByteBuffer.wrap(bytes));
+    }
+
+    private static void play(Game game, int originX, int originY, int destinationX, int destinationY) {
+        game.executeMove(game.newMoveBuilder(BoardCoordinate.at(originX, originY),
+                BoardCoordinate.at(destinationX, destinationY)).build());
+    }
+}
@@ -0,0 +1,155 @@
+package com.drewhannay.chesscrafter.models;
+
+import com.drewhannay.chesscrafter.logic.GameBuilder;
+import com.drewhannay.chesscrafter.logic.GameConfiguration;
+import com.drewhannay.chesscrafter.logic.PieceTypeManager;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+public class JsonAdaptersTest {
+
+    Gson mReflectiveGson;
+    Gson mTarget;
+    History mHistory;
+
+    @Before
+    public void setUp() {
+        mReflectiveGson = new Gson();
+        mTarget = JsonAdapters.registerTypeAdapters(new GsonBuilder()).create();
+
+        Game game = GameBuilder.buildGame(GameBuilder.getClassicConfiguration());
+        play(game, 6, 2, 6, 3);
+        play(game, 5, 7, 5, 5);
+        play(game, 7, 2, 7, 4);
+        play(game, 4, 8, 8, 4);
+        mHistory = game.getHistory();
+    }
+
+    public static class ToJson extends JsonAdaptersTest {
+        @Test
+        public void matchesReflectionForFinishedHistory() {
+            assertEquals(mReflectiveGson.toJson(mHistory), mTarget.toJson(mHistory));
+        }
+
+        @Test
+        public void matchesReflectionForPromotionsAndUnfinishedHistory() {
+            History history = new History("Classic", new ArrayList<>(Arrays.asList(
+                    Move.from(BoardCoordinate.at(1, 7), BoardCoordinate.at(1, 8), "Queen"),
+                    Move.from(BoardCoordinate.at(2, 2), BoardCoordinate.at(2, 1), null))));
+
+            assertEquals(mReflectiveGson.toJson(history), mTarget.toJson(history));
+        }
+
+        @Test
+        public void matchesReflectionForClassicConfiguration() {
+            GameConfiguration config = GameBuilder.getClassicConfiguration();
+
+            assertEquals(mReflectiveGson.toJson(config), mTarget.toJson(config));
+        }
+
+        @Test
+        public void matchesReflectionForPieceTypes() {
+            PieceType pawn = PieceTypeManager.getNorthFacingPawnPieceType();
+            PieceType knight = PieceTypeManager.getKnightPieceType();
+
+            assertEquals(mReflectiveGson.toJson(pawn), mTarget.toJson(pawn));
+            assertEquals(mReflectiveGson.toJson(knight), mTarget.toJson(knight));
+        }
+
+        @Test
+        public void streamsToWriter() {
+            StringWriter writer = new StringWriter();
+
+            mTarget.toJson(mHistory, writer);
+
+            assertEquals(mReflectiveGson.toJson(mHistory), writer.toString());
+        }
+    }
+
+    public static class FromJson extends JsonAdaptersTest {
+        @Test
+        public void readsHistoryWrittenByReflection() {
+            History history = mTarget.fromJson(new StringReader(mReflectiveGson.toJson(mHistory)), History.class);
+
+            assertEquals(mHistory.internalHistoryId, history.internalHistoryId);
+            assertEquals(mHistory.internalGameId, history.internalGameId);
+            assertEquals(mHistory.moves, history.moves);
+            assertEquals(mHistory.getResult().status, history.getResult().status);
+            assertEquals(mHistory.getResult().winningTeamId, history.getResult().winningTeamId);
+        }
+
+        @Test
+        public void readsConfigurationItWrote() {
+            GameConfiguration config = GameBuilder.getClassicConfiguration();
+
+            GameConfiguration read = mTarget.fromJson(mTarget.toJson(config), GameConfiguration.class);
+
+            assertEquals(mReflectiveGson.toJson(config), mReflectiveGson.toJson(read));
+        }
+
+        @Test
+        public void readsPieceTypeWrittenByReflection() {
+            PieceType queen = PieceTypeManager.getQueenPieceType();
+
+            PieceType read = mTarget.fromJson(mReflectiveGson.toJson(queen), PieceType.class);
+
+            assertEquals(queen, read);
+            assertEquals(queen.getCapturingMovements(), read.getCapturingMovements());
+        }
+
+        @Test
+        public void letsPieceTypesWithoutCapturingMovementsCaptureTheWayTheyMove() {
+            String json = "{\"mInternalId\":\"Wazir\",\"mName\":\"Wazir\","
+                    + "\"mMovements\":[{\"direction\":\"NORTH\",\"distance\":1}],\"mTwoHopMovements\":[]}";
+
+            PieceType read = mTarget.fromJson(json, PieceType.class);
+
+            assertEquals(read.getMovements(), read.getCapturingMovements());
+        }
+
+        @Test
+        public void readsSnapshotsItWrote() {
+            Game game = GameBuilder.buildGame(GameBuilder.getClassicConfiguration());
+            Random random = new Random(3);
+            while (game.getHistory().moves.size() < 40) {
+                List<Move> moves = game.getLegalMoves();
+                game.executeMove(moves.get(random.nextInt(moves.size())));
+            }
+            game.addSnapshotsToHistory();
+            String json = mTarget.toJson(game.getHistory());
+
+            History read = mTarget.fromJson(json, History.class);
+
+            assertEquals(2, read.getSnapshots().size());
+            assertEquals(json, mTarget.toJson(read));
+        }
+
+        @Test
+        public void ignoresUnknownFieldsAndMissingHistoryId() {
+            String json = "{\"internalGameId\":\"Classic\",\"comment\":{\"a\":[1,2]},"
+                    + "\"moves\":[{\"origin\":{\"x\":5,\"y\":2},\"destination\":{\"x\":5,\"y\":4}}]}";
+
+            History history = mTarget.fromJson(json, History.class);
+
+            assertNotNull(history.internalHistoryId);
+            assertEquals(BoardCoordinate.at(5, 4), history.moves.get(0).destination);
+        }
+    }
+
+    private static void play(Game game, int originX, int originY, int destinationX, int destinationY) {
+        game.executeMove(game.newMoveBuilder(BoardCoordinate.at(originX, originY),
+                BoardCoordinate.at(destinationX, destinationY)).build());
+    }
+}
@@ -0,0 +1,64 @@
+package com.drewhannay.chesscrafter.models;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MoveBufferTest {
+    public static class Encode {
+        @Test
+        public void roundTripsLargestSquares() {
+            int move = MoveBuffer.encode(MoveBuffer.MAX_SQUARE_COUNT - 1, MoveBuffer.MAX_SQUARE_COUNT - 2,
+                    MoveBuffer.FLAG_CAPTURE | MoveBuffer.FLAG_CONDITIONAL);
+
+            assertEquals(MoveBuffer.MAX_SQUARE_COUNT - 1, MoveBuffer.getOrigin(move));
+            assertEquals(MoveBuffer.MAX_SQUARE_COUNT - 2, MoveBuffer.getDestination(move));
+            assertEquals(MoveBuffer.FLAG_CAPTURE | MoveBuffer.FLAG_CONDITIONAL, MoveBuffer.getFlags(move));
+            assertTrue(MoveBuffer.isCapture(move));
+        }
+    }
+
+    public static class Add {
+        @Test
+        public void growsPastInitialCapacity() {
+            MoveBuffer target = new MoveBuffer(1);
+            for (int i = 0; i < 10; i++) {
+                target.add(0, i, 0);
+            }
+
+            assertEquals(10, target.size());
+            assertEquals(9, MoveBuffer.getDestination(target.get(9)));
+        }
+    }
+
+    public static class Truncate {
+        @Test
+        public void dropsMovesPastSize() {
+            MoveBuffer target = new MoveBuffer();
+            target.add(0, 1, 0);
+            target.add(0, 2, 0);
+            target.truncate(1);
+
+            assertEquals(1, target.size());
+            assertFalse(target.containsDestination(2));
+        }
+
+        @Test(expected = IndexOutOfBoundsException.class)
+        public void throwsWhenSizeIsTooLarge() {
+            MoveBuffer target = new MoveBuffer();
+            target.truncate(1);
+        }
+    }
+
+    public static class Get {
+        @Test(expected = IndexOutOfBoundsException.class)
+        public void throwsPastSize() {
+            MoveBuffer target = new MoveBuffer();
+            target.add(0, 1, 0);
+            target.clear();
+            target.get(0);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.drewhannay.chesscrafter.models;
+
+import com.drewhannay.chesscrafter.logic.PieceTypeManager;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class PieceType_GetAttackTable_Given_ClassicBoard_Should {
+
+    @Test
+    public void returnSameTableForEqualBoardSizes() {
+        PieceType target = PieceTypeManager.getRookPieceType();
+
+        assertSame(target.getAttackTable(BoardSize.withDimensions(8, 8)),
+                target.getAttackTable(BoardSize.withDimensions(8, 8)));
+    }
+
+    @Test
+    public void orderRookRaysOutwardFromOrigin() {
+        PieceType target = PieceTypeManager.getRookPieceType();
+        BoardSize boardSize = BoardSize.CLASSIC_SIZE;
+
+        int[][] rays = target.getAttackTable(boardSize).getRays(boardSize.toSquareIndex(1, 1));
+        int[] northRay = null;
+        for (int[] ray : rays) {
+            if (ray.length > 0 && ray[0] == boardSize.toSquareIndex(1, 2)) {
+                northRay = ray;
+            }
+        }
+
+        assertArrayEquals(new int[]{
+                boardSize.toSquareIndex(1, 2), boardSize.toSquareIndex(1, 3), boardSize.toSquareIndex(1, 4),
+                boardSize.toSquareIndex(1, 5), boardSize.toSquareIndex(1, 6), boardSize.toSquareIndex(1, 7),
+                boardSize.toSquareIndex(1, 8)
+        }, northRay);
+    }
+
+    @Test
+    public void clampKingRaysToDistance() {
+        PieceType target = PieceTypeManager.getKingPieceType();
+        BoardSize boardSize = BoardSize.CLASSIC_SIZE;
+
+        int totalLength = 0;
+        for (int[] ray : target.getAttackTable(boardSize).getRays(boardSize.toSquareIndex(4, 4))) {
+            assertEquals(1, ray.length);
+            totalLength += ray.length;
+        }
+        assertEquals(8, totalLength);
+    }
+
+    @Test
+    public void return2LeaperTargetsForKnightAt1_1() {
+        PieceType target = PieceTypeManager.getKnightPieceType();
+        BoardSize boardSize = BoardSize.CLASSIC_SIZE;
+
+        assertEquals(2, target.getAttackTable(boardSize).getLeaperTargets(boardSize.toSquareIndex(1, 1)).length);
+    }
+
+    @Test
+    public void returnOnlyCapturingRaysForPawnCaptures() {
+        PieceType target = PieceTypeManager.getNorthFacingPawnPieceType();
+        BoardSize boardSize = BoardSize.CLASSIC_SIZE;
+        AttackTable attackTable = target.getAttackTable(boardSize);
+
+        assertEquals(1, attackTable.getRays(boardSize.toSquareIndex(4, 2)).length);
+        assertEquals(2, attackTable.getCapturingRays(boardSize.toSquareIndex(4, 2)).length);
+    }
+}
@@ -0,0 +1,49 @@
+package com.drewhannay.chesscrafter.models;
+
+import com.drewhannay.chesscrafter.logic.GameBuilder;
+import com.google.common.collect.Lists;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class Team_UndoCapturePiece_Given_ClassicTeam_Should {
+
+    Team mTarget;
+    Move mMove;
+
+    @Before
+    public void setup() {
+        mTarget = GameBuilder.buildGame(GameBuilder.getClassicConfiguration()).getTeam(Piece.TEAM_ONE);
+        mMove = Move.from(BoardCoordinate.at(1, 1), BoardCoordinate.at(1, 7), null);
+    }
+
+    @Test
+    public void returnOnlyTheLatestCaptureOfARepeatedMove() {
+        Piece first = Piece.newSouthFacingPawn(Piece.TEAM_TWO);
+        Piece second = Piece.newRook(Piece.TEAM_TWO);
+        mTarget.capturePiece(mMove, first);
+        mTarget.capturePiece(mMove, second);
+
+        assertSame(second, mTarget.undoCapturePiece(mMove));
+        assertEquals(Lists.newArrayList(first), Lists.newArrayList(mTarget.getCapturedOpposingPieces()));
+        assertSame(first, mTarget.undoCapturePiece(mMove));
+    }
+
+    @Test
+    public void returnNullForAMoveThatWasNotTheLatestCapture() {
+        Piece piece = Piece.newRook(Piece.TEAM_TWO);
+        Move other = Move.from(BoardCoordinate.at(8, 1), BoardCoordinate.at(8, 7), null);
+        mTarget.capturePiece(mMove, piece);
+
+        assertNull(mTarget.undoCapturePiece(other));
+        assertEquals(1, mTarget.getCapturedOpposingPieces().size());
+    }
+
+    @Test
+    public void returnNullWithoutCaptures() {
+        assertNull(mTarget.undoCapturePiece(mMove));
+    }
+}
@@ -0,0 +1,70 @@
+package com.drewhannay.chesscrafter.rules.endconditions;
+
+import com.drewhannay.chesscrafter.logic.GameBuilder;
+import com.drewhannay.chesscrafter.logic.Status;
+import com.drewhannay.chesscrafter.models.BoardCoordinate;
+import com.drewhannay.chesscrafter.models.Game;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class CaptureObjectiveEndCondition_CheckEndCondition_Given_ClassicGame_Should {
+
+    Game mGame;
+
+    @Before
+    public void setup() {
+        mGame = GameBuilder.buildGame(GameBuilder.getClassicConfiguration());
+    }
+
+    @Test
+    public void returnContinueAfterOpeningMove() {
+        play(5, 2, 5, 4);
+
+        assertEquals(Status.CONTINUE, mGame.getStatus());
+    }
+
+    @Test
+    public void returnCheckmateAfterShortestGame() {
+        play(6, 2, 6, 3);
+        play(5, 7, 5, 5);
+        play(7, 2, 7, 4);
+        play(4, 8, 8, 4);
+
+        assertEquals(Status.CHECKMATE, mGame.getStatus());
+    }
+
+    @Test
+    public void returnCheckThenStalemateInShortestStalemate() {
+        play(5, 2, 5, 3);
+        play(1, 7, 1, 5);
+        play(4, 1, 8, 5);
+        play(1, 8, 1, 6);
+        play(8, 5, 1, 5);
+        play(8, 7, 8, 5);
+        play(8, 2, 8, 4);
+        play(1, 6, 8, 6);
+        play(1, 5, 3, 7);
+        play(6, 7, 6, 6);
+        play(3, 7, 4, 7);
+
+        assertEquals(Status.CHECK, mGame.getStatus());
+
+        play(5, 8, 6, 7);
+        play(4, 7, 2, 7);
+        play(4, 8, 4, 3);
+        play(2, 7, 2, 8);
+        play(4, 3, 8, 7);
+        play(2, 8, 3, 8);
+        play(6, 7, 7, 6);
+        play(3, 8, 5, 6);
+
+        assertEquals(Status.STALEMATE, mGame.getStatus());
+    }
+
+    private void play(int originX, int originY, int destinationX, int destinationY) {
+        mGame.executeMove(mGame.newMoveBuilder(BoardCoordinate.at(originX, originY),
+                BoardCoordinate.at(destinationX, destinationY)).build());
+    }
+}
@@ -0,0 +1,136 @@
+package com.drewhannay.chesscrafter.rules.movefilter;
+
+import com.drewhannay.chesscrafter.logic.GameBuilder;
+import com.drewhannay.chesscrafter.models.Board;
+import com.drewhannay.chesscrafter.models.BoardCoordinate;
+import com.drewhannay.chesscrafter.models.BoardSize;
+import com.drewhannay.chesscrafter.models.Piece;
+import com.drewhannay.chesscrafter.models.PieceType;
+import com.drewhannay.chesscrafter.models.TwoHopMovement;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PinAwareMoveFilter_FilterMoves_Given_ClassicBoard_Should {
+
+    private static final PieceType ALFIL = new PieceType("Alfil", "Alfil", null,
+            Sets.newHashSet(TwoHopMovement.with(2, 2)));
+
+    PinAwareMoveFilter mTarget;
+    Board mBoard;
+
+    @Before
+    public void setup() {
+        mTarget = new PinAwareMoveFilter();
+        mBoard = new Board(BoardSize.CLASSIC_SIZE);
+    }
+
+    @Test
+    public void keepPinnedRookOnPinLine() {
+        mBoard.addPiece(Piece.newKing(Piece.TEAM_ONE, true), BoardCoordinate.at(5, 1));
+        mBoard.addPiece(Piece.newRook(Piece.TEAM_ONE), BoardCoordinate.at(5, 3));
+        mBoard.addPiece(Piece.newRook(Piece.TEAM_TWO), BoardCoordinate.at(5, 8));
+
+        Set<BoardCoordinate> moves = filter(BoardCoordinate.at(5, 3));
+        assertEquals(ImmutableSet.of(BoardCoordinate.at(5, 2), BoardCoordinate.at(5, 4), BoardCoordinate.at(5, 5),
+                BoardCoordinate.at(5, 6), BoardCoordinate.at(5, 7), BoardCoordinate.at(5, 8)), moves);
+    }
+
+    @Test
+    public void keepPieceOnTheDiagonalOfALeapPinningIt() {
+        mBoard.addPiece(Piece.newKing(Piece.TEAM_ONE, true), BoardCoordinate.at(5, 1));
+        mBoard.addPiece(Piece.newBishop(Piece.TEAM_ONE), BoardCoordinate.at(6, 2));
+        mBoard.addPiece(new Piece(Piece.TEAM_TWO, ALFIL), BoardCoordinate.at(7, 3));
+
+        Set<BoardCoordinate> moves = filter(BoardCoordinate.at(6, 2));
+        assertEquals(ImmutableSet.of(BoardCoordinate.at(7, 3)), moves);
+    }
+
+    @Test
+    public void onlyAllowBlockOrCaptureWhenInCheck() {
+        mBoard.addPiece(Piece.newKing(Piece.TEAM_ONE, true), BoardCoordinate.at(5, 1));
+        mBoard.addPiece(Piece.newBishop(Piece.TEAM_ONE), BoardCoordinate.at(3, 1));
+        mBoard.addPiece(Piece.newRook(Piece.TEAM_TWO), BoardCoordinate.at(5, 8));
+
+        Set<BoardCoordinate> moves = filter(BoardCoordinate.at(3, 1));
+        assertEquals(ImmutableSet.of(BoardCoordinate.at(5, 3)), moves);
+    }
+
+    @Test
+    public void allowNoOtherMovesInDoubleCheck() {
+        mBoard.addPiece(Piece.newKing(Piece.TEAM_ONE, true), BoardCoordinate.at(5, 1));
+        mBoard.addPiece(Piece.newQueen(Piece.TEAM_ONE), BoardCoordinate.at(1, 4));
+        mBoard.addPiece(Piece.newRook(Piece.TEAM_TWO), BoardCoordinate.at(5, 8));
+        mBoard.addPiece(Piece.newKnight(Piece.TEAM_TWO), BoardCoordinate.at(4, 3));
+
+        assertTrue(filter(BoardCoordinate.at(1, 4)).isEmpty());
+    }
+
+    @Test
+    public void notAllowObjectivePieceToRetreatAlongCheckingRay() {
+        mBoard.addPiece(Piece.newKing(Piece.TEAM_ONE, true), BoardCoordinate.at(5, 4));
+        mBoard.addPiece(Piece.newRook(Piece.TEAM_TWO), BoardCoordinate.at(5, 8));
+
+        Set<BoardCoordinate> moves = filter(BoardCoordinate.at(5, 4));
+        assertEquals(6, moves.size());
+        assertTrue(!moves.contains(BoardCoordinate.at(5, 3)));
+    }
+
+    @Test
+    public void matchClassicMoveFilterDuringRandomGames() {
+        ClassicMoveFilter classicMoveFilter = new ClassicMoveFilter();
+        BoardSize boardSize = mBoard.getBoardSize();
+        Random random = new Random(42);
+
+        for (int game = 0; game < 10; game++) {
+            Board board = new Board(boardSize);
+            GameBuilder.setupClassicPieces(board, 1, Piece.TEAM_ONE);
+            GameBuilder.setupClassicNorthFacingPawns(board, 2, Piece.TEAM_ONE);
+            GameBuilder.setupClassicSouthFacingPawns(board, 7, Piece.TEAM_TWO);
+            GameBuilder.setupClassicPieces(board, 8, Piece.TEAM_TWO);
+
+            int teamId = Piece.TEAM_ONE;
+            for (int ply = 0; ply < 80; ply++) {
+                List<BoardCoordinate[]> legalMoves = new ArrayList<>();
+                for (int square = 0; square < boardSize.getSquareCount(); square++) {
+                    Piece piece = board.getPiece(square);
+                    if (piece == null || piece.getTeamId() != teamId) {
+                        continue;
+                    }
+
+                    BoardCoordinate origin = boardSize.toCoordinate(square);
+                    Set<BoardCoordinate> expected = classicMoveFilter.filterMoves(board, origin, board.getMovesFrom(origin));
+                    assertEquals(expected, mTarget.filterMoves(board, origin, board.getMovesFrom(origin)));
+
+                    for (BoardCoordinate destination : expected) {
+                        legalMoves.add(new BoardCoordinate[]{origin, destination});
+                    }
+                }
+
+                if (legalMoves.isEmpty()) {
+                    break;
+                }
+
+                BoardCoordinate[] move = legalMoves.get(random.nextInt(legalMoves.size()));
+                Piece captured = board.movePiece(move[0], move[1]);
+                if (captured != null && captured.isObjectivePiece()) {
+                    break;
+                }
+                teamId = teamId == Piece.TEAM_ONE ? Piece.TEAM_TWO : Piece.TEAM_ONE;
+            }
+        }
+    }
+
+    private Set<BoardCoordinate> filter(BoardCoordinate start) {
+        return mTarget.filterMoves(mBoard, start, mBoard.getMovesFrom(start));
+    }
+}